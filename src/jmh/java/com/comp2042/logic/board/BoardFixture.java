@@ -0,0 +1,59 @@
+package com.comp2042.logic.board;
+
+import com.comp2042.logic.Constants;
+
+import java.util.Random;
+
+/**
+ * The board positions the benchmarks run against.
+ * <p>
+ * Every filled row keeps at least one hole, so no fixture row is ever full and the
+ * positions do not clear themselves; the cells are drawn from a fixed seed, so every run
+ * measures the same boards.
+ */
+public enum BoardFixture {
+    /** An empty board. */
+    EMPTY(0),
+    /** The bottom half of the board filled, with holes. */
+    HALF_FULL(Constants.BOARD_HEIGHT / 2),
+    /** The stack a few rows below the spawn position, with holes. */
+    NEAR_TOP(Constants.BOARD_HEIGHT - Constants.HIDDEN_ROWS - 5);
+
+    /** The number of filled rows at the bottom of the board. */
+    private final int filledRows;
+
+    /**
+     * Constructs a fixture.
+     *
+     * @param filledRows the number of filled rows at the bottom of the board.
+     */
+    BoardFixture(int filledRows) {
+        this.filledRows = filledRows;
+    }
+
+    /**
+     * Builds a fresh copy of this fixture's cells.
+     *
+     * @return a new board matrix.
+     */
+    public int[][] build() {
+        int[][] cells = new int[Constants.BOARD_HEIGHT][Constants.BOARD_WIDTH];
+        Random random = new Random(ordinal() + 1);
+        for (int r = Constants.BOARD_HEIGHT - filledRows; r < Constants.BOARD_HEIGHT; r++) {
+            for (int c = 0; c < Constants.BOARD_WIDTH; c++) {
+                cells[r][c] = random.nextInt(4) == 0 ? 0 : 1 + random.nextInt(7);
+            }
+            cells[r][random.nextInt(Constants.BOARD_WIDTH)] = 0;
+        }
+        return cells;
+    }
+
+    /**
+     * Returns the highest row this fixture fills.
+     *
+     * @return the top row of the stack, or the board height for an empty board.
+     */
+    public int getStackTop() {
+        return Constants.BOARD_HEIGHT - filledRows;
+    }
+}
@@ -0,0 +1,96 @@
+package com.comp2042.logic.board;
+
+import com.comp2042.logic.bricks.TBrick;
+import com.comp2042.logic.movement.ClearRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the static matrix helpers on each board fixture.
+ * <p>
+ * The collision probe places a T brick resting just above the stack, so {@link MatrixOperations#intersect}
+ * walks every cell of the brick without an early exit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MatrixOperationsBenchmark {
+
+    /** The board position to run against. */
+    @Param
+    public BoardFixture fixture;
+
+    /** The fixture's cells. */
+    private int[][] board;
+    /** The brick matrix used for collision and merge probes. */
+    private int[][] brick;
+    /** The column of the probe. */
+    private int probeX;
+    /** The row of the probe, with the brick's bottom just above the stack. */
+    private int probeY;
+
+    /**
+     * Builds the fixture once per trial.
+     */
+    @Setup
+    public void setUp() {
+        board = fixture.build();
+        brick = new TBrick().getShapes().getRotation(0).getCells();
+        probeX = 3;
+        probeY = fixture.getStackTop() - 3;
+    }
+
+    /**
+     * Measures a collision check that finds no collision.
+     *
+     * @return whether the probe intersects.
+     */
+    @Benchmark
+    public boolean intersect() {
+        return MatrixOperations.intersect(board, brick, probeX, probeY);
+    }
+
+    /**
+     * Measures merging a brick into a copy of the board.
+     *
+     * @return the merged board.
+     */
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(board, brick, probeX, probeY);
+    }
+
+    /**
+     * Measures a full-board scan for completed rows.
+     *
+     * @return the scan result.
+     */
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(board);
+    }
+
+    /**
+     * Measures a deep copy of the board.
+     *
+     * @return the copy.
+     */
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(board);
+    }
+}
@@ -0,0 +1,96 @@
+package com.comp2042.logic.board;
+
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.movement.ClearRow;
+import com.comp2042.model.ViewData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the per-frame and per-piece work of {@link SimpleBoard} on each board fixture.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SimpleBoardBenchmark {
+
+    /** The seed of the brick sequence, fixed so every run sees the same pieces. */
+    private static final long SEED = 2042L;
+
+    /** The board position to run against. */
+    @Param
+    public BoardFixture fixture;
+
+    /** The fixture's cells, reloaded before every drop. */
+    private int[][] cells;
+    /** A board holding the fixture with a brick at its spawn position. */
+    private SimpleBoard spawned;
+    /** The board the drop cycle plays on. */
+    private SimpleBoard cycling;
+
+    /**
+     * Builds the boards once per trial.
+     */
+    @Setup
+    public void setUp() {
+        cells = fixture.build();
+        spawned = new SimpleBoard(SEED);
+        spawned.loadBackground(cells);
+        spawned.createNewBrick();
+        cycling = new SimpleBoard(SEED);
+    }
+
+    /**
+     * Measures building the view data the GUI reads every frame.
+     *
+     * @return the view data.
+     */
+    @Benchmark
+    public ViewData getViewData() {
+        return spawned.getViewData();
+    }
+
+    /**
+     * Measures finding the ghost row of a freshly spawned brick.
+     *
+     * @return the ghost row.
+     */
+    @Benchmark
+    public int ghostY() {
+        return spawned.computeGhostY();
+    }
+
+    /**
+     * Measures one piece's life on the fixture: spawn, hard drop, lock and line clear.
+     * The fixture is reloaded first so every drop lands on the same position; the reload is
+     * a copy of the board's cells and is included in the time.
+     *
+     * @param blackhole sink for the results.
+     */
+    @Benchmark
+    public void dropLockClear(Blackhole blackhole) {
+        cycling.loadBackground(cells);
+        blackhole.consume(cycling.createNewBrick());
+        blackhole.consume(cycling.hardDropBrick());
+        BrickType locked = cycling.mergeBrickToBackground();
+        ClearRow cleared = cycling.clearRows();
+        blackhole.consume(locked);
+        blackhole.consume(cleared);
+        cycling.getChangedCells().clear();
+    }
+}
@@ -0,0 +1,55 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.logic.scoring.Score;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reading the upcoming bricks, which the board does for every view refresh.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BrickGenerationBenchmark {
+
+    /** The number of bricks to peek at. */
+    @Param({"1", "3", "7"})
+    public int count;
+
+    /** The strategy under test, seeded so every run sees the same bag. */
+    private RandomBrickGenerationStrategy strategy;
+
+    /**
+     * Builds the strategy once per trial.
+     */
+    @Setup
+    public void setUp() {
+        strategy = new RandomBrickGenerationStrategy(new Score(), new SplittableRandom(2042L));
+    }
+
+    /**
+     * Measures peeking at the next bricks without consuming them.
+     *
+     * @return the upcoming bricks.
+     */
+    @Benchmark
+    public List<Brick> peekNextBricks() {
+        return strategy.peekNextBricks(count);
+    }
+}
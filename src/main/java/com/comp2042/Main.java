@@ -1,5 +1,6 @@
 package com.comp2042;
 
+import com.comp2042.ui.MainMenu;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -53,6 +54,15 @@ public class Main extends Application {
         primaryStage.show();
     }
 
+    /**
+     * Called when the application exits, from the menu or by closing the window.
+     * Finishes the replay recording of a game left running.
+     */
+    @Override
+    public void stop() {
+        MainMenu.disposeActiveGame();
+    }
+
     /**
      * The main method is ignored in correctly deployed JavaFX applications.
      * main() serves only as fallback in case the application can not be
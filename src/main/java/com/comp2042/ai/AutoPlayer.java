@@ -0,0 +1,148 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.board.Board;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.movement.EventType;
+import com.comp2042.model.ViewData;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A bot that plays the current brick wherever a {@link Heuristic} scores the resulting board best.
+ * <p>
+ * Every placement reachable by rotating, sliding and hard dropping is listed, and the candidates
+ * are placed and scored in parallel on a {@link ForkJoinPool}. Ties go to the placement listed
+ * first, so the choice never depends on how the work was split between threads.
+ */
+public class AutoPlayer {
+
+    /** Ranges of at most this many candidates are scored by one task without splitting further. */
+    private static final int CANDIDATES_PER_TASK = 8;
+
+    /** Scores the board each candidate leaves behind. */
+    private final Heuristic heuristic;
+    /** The pool candidates are scored on, or null to score them on the calling thread. */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a bot that scores candidates on the common fork/join pool.
+     *
+     * @param heuristic scores the board each candidate leaves behind.
+     */
+    public AutoPlayer(Heuristic heuristic) {
+        this(heuristic, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a bot that scores candidates on the given pool.
+     *
+     * @param heuristic scores the board each candidate leaves behind.
+     * @param pool the pool to score candidates on, or null to score them on the calling thread,
+     *             e.g. when many games are already being played in parallel.
+     */
+    public AutoPlayer(Heuristic heuristic, ForkJoinPool pool) {
+        this.heuristic = heuristic;
+        this.pool = pool;
+    }
+
+    /**
+     * Chooses where the board's current brick should go.
+     *
+     * @param board the board holding the current brick; it is only read.
+     * @return the best placement, or null if there is no brick or it cannot move anywhere.
+     */
+    public Placement choose(Board board) {
+        Brick brick = board.getCurrentBrick();
+        if (brick == null) return null;
+
+        ViewData view = board.getViewData();
+        SearchBoard searchBoard = SearchBoard.of(board.getBoardMatrix());
+        List<Placement> candidates = searchBoard.placements(brick.getShapes(),
+                board.getCurrentRotationIndex(), view.getxPosition(), view.getyPosition());
+        if (candidates.isEmpty()) return null;
+
+        double[] scores = new double[candidates.size()];
+        ScoreRange all = new ScoreRange(searchBoard, candidates, scores, 0, candidates.size());
+        if (pool == null) {
+            all.compute();
+        } else {
+            pool.invoke(all);
+        }
+
+        int best = 0;
+        for (int i = 1; i < scores.length; i++) {
+            if (scores[i] > scores[best]) best = i;
+        }
+        return candidates.get(best);
+    }
+
+    /**
+     * Chooses where the board's current brick should go and returns the inputs that put it there.
+     *
+     * @param board the board holding the current brick; it is only read.
+     * @return the inputs, ending with a hard drop, or an empty list if there is nothing to play.
+     */
+    public List<EventType> plan(Board board) {
+        Placement placement = choose(board);
+        return placement == null ? List.of() : placement.toMoves();
+    }
+
+    /**
+     * Returns the heuristic the bot plays by.
+     *
+     * @return the heuristic.
+     */
+    public Heuristic getHeuristic() {
+        return heuristic;
+    }
+
+    /**
+     * Places and scores a contiguous range of candidates, splitting it in halves while it is large.
+     */
+    private final class ScoreRange extends RecursiveAction {
+
+        /** The board the candidates are placed on. */
+        private final SearchBoard board;
+        /** Every candidate of the decision. */
+        private final List<Placement> candidates;
+        /** Where each candidate's score is stored, by candidate index. */
+        private final double[] scores;
+        /** The first candidate of this range, inclusive. */
+        private final int from;
+        /** The last candidate of this range, exclusive. */
+        private final int to;
+
+        /**
+         * Constructs a task for a range of candidates.
+         *
+         * @param board the board the candidates are placed on.
+         * @param candidates every candidate of the decision.
+         * @param scores where each candidate's score is stored.
+         * @param from the first candidate, inclusive.
+         * @param to the last candidate, exclusive.
+         */
+        ScoreRange(SearchBoard board, List<Placement> candidates, double[] scores, int from, int to) {
+            this.board = board;
+            this.candidates = candidates;
+            this.scores = scores;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CANDIDATES_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    Placement p = candidates.get(i);
+                    scores[i] = heuristic.evaluate(board.place(p.getRotation(), p.getX(), p.getY()));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ScoreRange(board, candidates, scores, from, mid),
+                    new ScoreRange(board, candidates, scores, mid, to));
+        }
+    }
+}
@@ -0,0 +1,507 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.Constants;
+import com.comp2042.logic.board.Board;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A bot that looks several pieces ahead: it searches sequences of placements of the current
+ * brick and the bricks in the preview queue, with and without the hold, and plays the first
+ * step of the best sequence.
+ * <p>
+ * The search is a beam search. Each level places one more brick on every board kept from the
+ * previous level; the children are scored with the {@link Heuristic} on their own, and only
+ * the best {@code beamWidth} distinct ones go on to the next level. Children whose stack
+ * reaches the spawn area are scored as lost straight away and never expanded.
+ * <p>
+ * Each level is expanded in parallel on a {@link ForkJoinPool}. The first level is always
+ * completed so there is always a move; after that, a level that runs past the time budget is
+ * abandoned and the best sequence of the last complete level is played. Without a deadline the
+ * result does not depend on the number of threads.
+ * <p>
+ * With a {@link TranspositionCache}, scores are remembered by board hash, brick to play and held
+ * brick, so a board reached again through another move order, or again at the next decision,
+ * is not scored twice.
+ */
+public class BeamSearchPlayer {
+
+    /** The budget that never runs out. */
+    public static final long NO_BUDGET = Long.MAX_VALUE;
+
+    /** Ranges of at most this many beam nodes are expanded by one task without splitting further. */
+    private static final int NODES_PER_TASK = 4;
+    /**
+     * Mixes the lines cleared since the root into the cache key: the heuristic counts them, and
+     * the same cells can be reached with different counts from different roots.
+     */
+    private static final long LINES_MIX = 0xFF51_AFD7_ED55_8CCDL;
+
+    /** Scores the board at the end of each sequence. */
+    private final Heuristic heuristic;
+    /** The number of boards kept at each level. */
+    private final int beamWidth;
+    /** The number of preview bricks the search may use. */
+    private final int previewCount;
+    /** The time budget of one decision, in nanoseconds. */
+    private final long budgetNanos;
+    /** The pool levels are expanded on, or null to expand them on the calling thread. */
+    private final ForkJoinPool pool;
+    /** Remembers scores between searches, or null to score every board. */
+    private final TranspositionCache cache;
+
+    /**
+     * Constructs a new BeamSearchPlayer that scores every board it reaches.
+     *
+     * @param heuristic scores the board at the end of each sequence.
+     * @param beamWidth the number of boards kept at each level.
+     * @param previewCount the number of preview bricks to look at; the search is at most one deeper.
+     * @param budgetNanos the time budget of one decision, or {@link #NO_BUDGET}.
+     * @param pool the pool to search on, or null to search on the calling thread.
+     * @throws IllegalArgumentException if the beam width is not positive or the preview count is negative.
+     */
+    public BeamSearchPlayer(Heuristic heuristic, int beamWidth, int previewCount, long budgetNanos, ForkJoinPool pool) {
+        this(heuristic, beamWidth, previewCount, budgetNanos, pool, null);
+    }
+
+    /**
+     * Constructs a new BeamSearchPlayer.
+     *
+     * @param heuristic scores the board at the end of each sequence.
+     * @param beamWidth the number of boards kept at each level.
+     * @param previewCount the number of preview bricks to look at; the search is at most one deeper.
+     * @param budgetNanos the time budget of one decision, or {@link #NO_BUDGET}.
+     * @param pool the pool to search on, or null to search on the calling thread.
+     * @param cache remembers scores between searches, or null to score every board. It must only
+     *              be shared between players with the same heuristic.
+     * @throws IllegalArgumentException if the beam width is not positive or the preview count is negative.
+     */
+    public BeamSearchPlayer(Heuristic heuristic, int beamWidth, int previewCount, long budgetNanos,
+                            ForkJoinPool pool, TranspositionCache cache) {
+        if (beamWidth < 1 || previewCount < 0) {
+            throw new IllegalArgumentException("Beam width must be positive and preview count not negative.");
+        }
+        this.heuristic = heuristic;
+        this.beamWidth = beamWidth;
+        this.previewCount = previewCount;
+        this.budgetNanos = budgetNanos;
+        this.pool = pool;
+        this.cache = cache;
+    }
+
+    /**
+     * Copies what the search needs from the board. Call it on the thread that owns the board;
+     * the search itself can then run anywhere.
+     *
+     * @param board the board holding the current brick; it is only read.
+     * @return the snapshot, or null if there is no brick in play.
+     */
+    public Snapshot snapshot(Board board) {
+        Brick current = board.getCurrentBrick();
+        if (current == null) return null;
+
+        Map<ShapeTable, Integer> ids = new IdentityHashMap<>();
+        ids.put(current.getShapes(), current.getBrickType().ordinal() + 1);
+        List<Brick> next = board.getNextBricks(previewCount);
+        ShapeTable[] queue = new ShapeTable[next.size()];
+        for (int i = 0; i < queue.length; i++) {
+            queue[i] = next.get(i).getShapes();
+            ids.put(queue[i], next.get(i).getBrickType().ordinal() + 1);
+        }
+        Brick held = board.getHeldBrick();
+        if (held != null) {
+            ids.put(held.getShapes(), held.getBrickType().ordinal() + 1);
+        }
+        return new Snapshot(SearchBoard.of(board.getBoardMatrix()), current.getShapes(),
+                board.getCurrentRotationIndex(), board.getViewData().getxPosition(),
+                board.getViewData().getyPosition(), held == null ? null : held.getShapes(),
+                board.canHold(), queue, ids);
+    }
+
+    /**
+     * Searches for the best plan for the board's current brick.
+     *
+     * @param board the board holding the current brick; it is only read.
+     * @return the plan; its placement is null if there is nothing to play.
+     */
+    public Plan plan(Board board) {
+        return search(snapshot(board));
+    }
+
+    /**
+     * Searches for the best plan from a snapshot.
+     *
+     * @param snapshot the position to search, or null.
+     * @return the plan; its placement is null if there is nothing to play.
+     */
+    public Plan search(Snapshot snapshot) {
+        if (snapshot == null) {
+            return new Plan(false, null, 0, Double.NEGATIVE_INFINITY, 0, false);
+        }
+        long start = System.nanoTime();
+        List<Node> beam = List.of(new Node(snapshot.board, snapshot.current, snapshot.held, 0,
+                false, null, 0, false));
+        Node best = null;
+        int depth = 0;
+        long nodes = 0;
+        boolean timedOut = false;
+
+        for (int level = 0; level <= snapshot.queue.length; level++) {
+            List<List<Node>> children = new ArrayList<>(Collections.nCopies(beam.size(), null));
+            Expansion expansion = new Expansion(snapshot, beam, children, 0, beam.size(), start, level == 0);
+            if (pool == null) {
+                expansion.compute();
+            } else {
+                pool.invoke(expansion);
+            }
+            if (expansion.expired()) {
+                timedOut = true;
+                break;
+            }
+
+            List<Node> next = new ArrayList<>();
+            for (List<Node> list : children) {
+                next.addAll(list);
+            }
+            if (next.isEmpty()) break;
+            nodes += next.size();
+            // The sort is stable, so equal scores keep their generation order on any thread count
+            next.sort((a, b) -> Double.compare(b.score, a.score));
+
+            List<Node> kept = new ArrayList<>(Math.min(beamWidth, next.size()));
+            Set<Node> seen = new HashSet<>();
+            for (Node node : next) {
+                if (kept.size() == beamWidth) break;
+                if (seen.add(node)) kept.add(node);
+            }
+            best = kept.get(0);
+            depth = level + 1;
+            beam = kept;
+            if (best.dead) break;
+        }
+
+        if (best == null) {
+            return new Plan(false, null, 0, Double.NEGATIVE_INFINITY, nodes, timedOut);
+        }
+        return new Plan(best.rootHold, best.rootPlacement, depth, best.score, nodes, timedOut);
+    }
+
+    /**
+     * Scores a board, through the cache when there is one.
+     *
+     * @param board the board to score.
+     * @param nextId the cache id of the brick to play on it, or 0 if it is not known.
+     * @param heldId the cache id of the held brick, or 0 if the hold is empty.
+     * @return the heuristic score.
+     */
+    private double evaluate(SearchBoard board, int nextId, int heldId) {
+        if (cache == null) return heuristic.evaluate(board);
+
+        long key = TranspositionCache.key(board.getHash() ^ board.getLinesCleared() * LINES_MIX, nextId, heldId);
+        double score = cache.get(key);
+        if (Double.isNaN(score)) {
+            score = heuristic.evaluate(board);
+            cache.put(key, score);
+        }
+        return score;
+    }
+
+    /**
+     * Returns the heuristic the bot plays by.
+     *
+     * @return the heuristic.
+     */
+    public Heuristic getHeuristic() {
+        return heuristic;
+    }
+
+    /**
+     * The position a search starts from, copied from the board on its own thread.
+     */
+    public static final class Snapshot {
+
+        /** The board background. */
+        private final SearchBoard board;
+        /** The brick in play. */
+        private final ShapeTable current;
+        /** The rotation index of the brick in play. */
+        private final int rotationIndex;
+        /** The column of the brick in play. */
+        private final int x;
+        /** The row of the brick in play. */
+        private final int y;
+        /** The held brick, or null. */
+        private final ShapeTable held;
+        /** Whether the hold can be used for the brick in play. */
+        private final boolean canHold;
+        /** The preview queue, next brick first. */
+        private final ShapeTable[] queue;
+        /** The column new bricks spawn at. */
+        private final int spawnX;
+        /** The cache id of every brick in the snapshot: its type's ordinal plus one. */
+        private final Map<ShapeTable, Integer> ids;
+
+        /**
+         * Constructs a new Snapshot.
+         *
+         * @param board the board background.
+         * @param current the brick in play.
+         * @param rotationIndex the rotation index of the brick in play.
+         * @param x the column of the brick in play.
+         * @param y the row of the brick in play.
+         * @param held the held brick, or null.
+         * @param canHold whether the hold can be used for the brick in play.
+         * @param queue the preview queue, next brick first.
+         * @param ids the cache id of every brick in the snapshot.
+         */
+        Snapshot(SearchBoard board, ShapeTable current, int rotationIndex, int x, int y,
+                 ShapeTable held, boolean canHold, ShapeTable[] queue, Map<ShapeTable, Integer> ids) {
+            this.board = board;
+            this.current = current;
+            this.rotationIndex = rotationIndex;
+            this.x = x;
+            this.y = y;
+            this.held = held;
+            this.canHold = canHold;
+            this.queue = queue;
+            this.spawnX = board.getWidth() / 2 - 1;
+            this.ids = ids;
+        }
+
+        /**
+         * Returns the cache id of a brick of this snapshot.
+         *
+         * @param shapes the brick's shape table, or null.
+         * @return the id, or 0 for no brick.
+         */
+        private int idOf(ShapeTable shapes) {
+            return shapes == null ? 0 : ids.get(shapes);
+        }
+
+        /**
+         * Returns a brick of the preview queue.
+         *
+         * @param index the queue position.
+         * @return the brick, or null past the end of the queue.
+         */
+        private ShapeTable queued(int index) {
+            return index < queue.length ? queue[index] : null;
+        }
+    }
+
+    /**
+     * One board of the search: the board after a sequence of placements, the brick to place next,
+     * the hold, and the first step of the sequence that led here.
+     */
+    private static final class Node {
+
+        /** The board after the sequence. */
+        private final SearchBoard board;
+        /** The brick to place next, or null once the queue is used up and it is not known. */
+        private final ShapeTable current;
+        /** The held brick, or null. */
+        private final ShapeTable held;
+        /** The position in the preview queue of the brick after {@link #current}. */
+        private final int queueIndex;
+        /** Whether the sequence starts by using the hold. */
+        private final boolean rootHold;
+        /** The first placement of the sequence. */
+        private final Placement rootPlacement;
+        /** The heuristic score of the board. */
+        private final double score;
+        /** Whether the stack reached the spawn area, which ends the game. */
+        private final boolean dead;
+
+        /**
+         * Constructs a new Node.
+         *
+         * @param board the board after the sequence.
+         * @param current the brick to place next, or null.
+         * @param held the held brick, or null.
+         * @param queueIndex the queue position of the brick after {@code current}.
+         * @param rootHold whether the sequence starts by using the hold.
+         * @param rootPlacement the first placement of the sequence.
+         * @param score the heuristic score of the board.
+         * @param dead whether the stack reached the spawn area.
+         */
+        Node(SearchBoard board, ShapeTable current, ShapeTable held, int queueIndex,
+             boolean rootHold, Placement rootPlacement, double score, boolean dead) {
+            this.board = board;
+            this.current = current;
+            this.held = held;
+            this.queueIndex = queueIndex;
+            this.rootHold = rootHold;
+            this.rootPlacement = rootPlacement;
+            this.score = score;
+            this.dead = dead;
+        }
+
+        /**
+         * Nodes are equal when the rest of the game would play out the same from them:
+         * the same cells, bricks to come and hold. How they were reached does not matter.
+         *
+         * @param o the other object.
+         * @return true if both nodes lead to the same position.
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Node other)) return false;
+            return queueIndex == other.queueIndex && current == other.current && held == other.held
+                    && board.equals(other.board);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(board, System.identityHashCode(current), System.identityHashCode(held), queueIndex);
+        }
+    }
+
+    /**
+     * Expands a contiguous range of beam nodes, splitting it in halves while it is large.
+     */
+    private final class Expansion extends RecursiveAction {
+
+        /** The position the search started from. */
+        private final Snapshot snapshot;
+        /** The nodes of the current level. */
+        private final List<Node> beam;
+        /** Where the children of each node are stored, by node index. */
+        private final List<List<Node>> children;
+        /** The first node of this range, inclusive. */
+        private final int from;
+        /** The last node of this range, exclusive. */
+        private final int to;
+        /** The {@link System#nanoTime()} the search started at. */
+        private final long start;
+        /** Whether this is the first level, which ignores the deadline and starts from the brick's position. */
+        private final boolean root;
+
+        /**
+         * Constructs a task for a range of nodes.
+         *
+         * @param snapshot the position the search started from.
+         * @param beam the nodes of the current level.
+         * @param children where the children of each node are stored.
+         * @param from the first node, inclusive.
+         * @param to the last node, exclusive.
+         * @param start the time the search started at.
+         * @param root whether this is the first level.
+         */
+        Expansion(Snapshot snapshot, List<Node> beam, List<List<Node>> children, int from, int to,
+                  long start, boolean root) {
+            this.snapshot = snapshot;
+            this.beam = beam;
+            this.children = children;
+            this.from = from;
+            this.to = to;
+            this.start = start;
+            this.root = root;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= NODES_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    if (expired()) return;
+                    children.set(i, expand(beam.get(i)));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Expansion(snapshot, beam, children, from, mid, start, root),
+                    new Expansion(snapshot, beam, children, mid, to, start, root));
+        }
+
+        /**
+         * Checks whether this level ran past the time budget.
+         *
+         * @return true if the level must be abandoned.
+         */
+        boolean expired() {
+            return !root && System.nanoTime() - start > budgetNanos;
+        }
+
+        /**
+         * Lists the children of a node: every placement of its brick, and every placement
+         * after using the hold. Each child has exactly one brick more than its parent.
+         *
+         * @param node the node to expand.
+         * @return the scored children, in generation order.
+         */
+        private List<Node> expand(Node node) {
+            List<Node> result = new ArrayList<>();
+            if (node.current == null) {
+                // Past the known bricks only the held one can still be placed, by swapping it in,
+                // so a sequence that filled an empty hold places as many bricks as any other
+                if (node.held != null) {
+                    addChildren(result, node, node.held, 0, snapshot.spawnX, Constants.HIDDEN_ROWS,
+                            true, null, null, node.queueIndex);
+                }
+                return result;
+            }
+
+            int q = node.queueIndex;
+            if (root) {
+                addChildren(result, node, node.current, snapshot.rotationIndex, snapshot.x, snapshot.y,
+                        false, snapshot.queued(q), node.held, q + 1);
+            } else {
+                addChildren(result, node, node.current, 0, snapshot.spawnX, Constants.HIDDEN_ROWS,
+                        false, snapshot.queued(q), node.held, q + 1);
+            }
+
+            if (root && !snapshot.canHold) return result;
+            if (node.held == null) {
+                ShapeTable swapped = snapshot.queued(q);
+                if (swapped != null) {
+                    addChildren(result, node, swapped, 0, snapshot.spawnX, Constants.HIDDEN_ROWS,
+                            true, snapshot.queued(q + 1), node.current, q + 2);
+                }
+            } else if (node.held != node.current) {
+                addChildren(result, node, node.held, 0, snapshot.spawnX, Constants.HIDDEN_ROWS,
+                        true, snapshot.queued(q), node.current, q + 1);
+            }
+            return result;
+        }
+
+        /**
+         * Adds a child for every placement of a brick.
+         *
+         * @param result the list to add to.
+         * @param parent the node being expanded.
+         * @param piece the brick to place.
+         * @param rotationIndex the rotation the brick starts in.
+         * @param x the column the brick starts at.
+         * @param y the row the brick starts at.
+         * @param hold whether the hold was used to get this brick.
+         * @param nextCurrent the brick to place after this one, or null.
+         * @param held the hold after this placement.
+         * @param queueIndex the queue position of the brick after {@code nextCurrent}.
+         */
+        private void addChildren(List<Node> result, Node parent, ShapeTable piece, int rotationIndex, int x, int y,
+                                 boolean hold, ShapeTable nextCurrent, ShapeTable held, int queueIndex) {
+            int nextId = snapshot.idOf(nextCurrent);
+            int heldId = snapshot.idOf(held);
+            for (Placement placement : parent.board.placements(piece, rotationIndex, x, y)) {
+                SearchBoard board = parent.board.place(placement.getRotation(), placement.getX(), placement.getY());
+                boolean dead = nextCurrent != null
+                        ? !board.fits(nextCurrent.getRotation(0), snapshot.spawnX, Constants.HIDDEN_ROWS)
+                        : !board.isEmptyAbove(Constants.HIDDEN_ROWS);
+                double score = dead ? Double.NEGATIVE_INFINITY : evaluate(board, nextId, heldId);
+                result.add(new Node(board, nextCurrent, held, queueIndex,
+                        root ? hold : parent.rootHold, root ? placement : parent.rootPlacement, score, dead));
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.comp2042.ai;
+
+/**
+ * Scores the board a placement leaves behind, so the bot can compare placements.
+ */
+@FunctionalInterface
+public interface Heuristic {
+
+    /**
+     * Scores a board reached by placing a brick. Higher scores are better.
+     * Implementations are called from several threads at once and must not keep mutable state.
+     *
+     * @param board the board after the placement, with its full rows already removed.
+     * @return the score of the board.
+     */
+    double evaluate(SearchBoard board);
+}
@@ -0,0 +1,117 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.bricks.ShapeTable;
+import com.comp2042.logic.movement.EventType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One final resting place of a brick, and the inputs that take the brick there:
+ * some rotations in place, a sideways slide, then a hard drop.
+ */
+public final class Placement {
+
+    /** The rotation the brick lands in. */
+    private final ShapeTable.Rotation rotation;
+    /** The index of that rotation in the brick's shape table. */
+    private final int rotationIndex;
+    /** The number of rotate inputs needed to reach the rotation. */
+    private final int turns;
+    /** The column the brick lands in. */
+    private final int x;
+    /** The number of columns to slide; negative slides left. */
+    private final int shift;
+    /** The row the brick lands in. */
+    private final int y;
+
+    /**
+     * Constructs a new Placement.
+     *
+     * @param rotation the rotation the brick lands in.
+     * @param rotationIndex the index of that rotation in the brick's shape table.
+     * @param turns the number of rotate inputs needed.
+     * @param x the landing column.
+     * @param shift the number of columns to slide; negative slides left.
+     * @param y the landing row.
+     */
+    Placement(ShapeTable.Rotation rotation, int rotationIndex, int turns, int x, int shift, int y) {
+        this.rotation = rotation;
+        this.rotationIndex = rotationIndex;
+        this.turns = turns;
+        this.x = x;
+        this.shift = shift;
+        this.y = y;
+    }
+
+    /**
+     * Builds the inputs that play this placement: the rotations, the slide and the hard drop.
+     *
+     * @return a new list of inputs, in order.
+     */
+    public List<EventType> toMoves() {
+        List<EventType> moves = new ArrayList<>(turns + Math.abs(shift) + 1);
+        for (int i = 0; i < turns; i++) {
+            moves.add(EventType.ROTATE);
+        }
+        for (int i = 0; i < Math.abs(shift); i++) {
+            moves.add(shift < 0 ? EventType.LEFT : EventType.RIGHT);
+        }
+        moves.add(EventType.HARD_DROP);
+        return moves;
+    }
+
+    /**
+     * Returns the rotation the brick lands in.
+     *
+     * @return the rotation.
+     */
+    public ShapeTable.Rotation getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Returns the index of the landing rotation in the brick's shape table.
+     *
+     * @return the rotation index.
+     */
+    public int getRotationIndex() {
+        return rotationIndex;
+    }
+
+    /**
+     * Returns the number of rotate inputs needed to reach the landing rotation.
+     *
+     * @return the number of rotations.
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Returns the landing column.
+     *
+     * @return the column of the brick's top-left corner.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Returns the number of columns to slide.
+     *
+     * @return the slide; negative slides left.
+     */
+    public int getShift() {
+        return shift;
+    }
+
+    /**
+     * Returns the landing row.
+     *
+     * @return the row of the brick's top-left corner.
+     */
+    public int getY() {
+        return y;
+    }
+}
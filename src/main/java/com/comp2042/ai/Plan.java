@@ -0,0 +1,112 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.movement.EventType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The decision of a lookahead search for the current brick: whether to use the hold first,
+ * where to place the brick that is then in play, and how deep the search got.
+ */
+public final class Plan {
+
+    /** Whether to swap the current brick into the hold before placing. */
+    private final boolean hold;
+    /** Where to place the brick in play after the optional hold, or null if there is nothing to play. */
+    private final Placement placement;
+    /** The number of pieces deep the best sequence was searched. */
+    private final int depth;
+    /** The score of the best sequence's final board. */
+    private final double score;
+    /** The number of search nodes scored. */
+    private final long nodes;
+    /** Whether the time budget ran out before the full depth was searched. */
+    private final boolean timedOut;
+
+    /**
+     * Constructs a new Plan.
+     *
+     * @param hold whether to use the hold before placing.
+     * @param placement where to place the brick in play, or null if there is nothing to play.
+     * @param depth the number of pieces deep the best sequence was searched.
+     * @param score the score of the best sequence's final board.
+     * @param nodes the number of search nodes scored.
+     * @param timedOut whether the time budget ran out early.
+     */
+    Plan(boolean hold, Placement placement, int depth, double score, long nodes, boolean timedOut) {
+        this.hold = hold;
+        this.placement = placement;
+        this.depth = depth;
+        this.score = score;
+        this.nodes = nodes;
+        this.timedOut = timedOut;
+    }
+
+    /**
+     * Builds the inputs that play this decision: the optional hold, then the placement.
+     *
+     * @return a new list of inputs, or an empty list if there is nothing to play.
+     */
+    public List<EventType> toMoves() {
+        List<EventType> moves = new ArrayList<>();
+        if (placement == null) return moves;
+        if (hold) moves.add(EventType.HOLD);
+        moves.addAll(placement.toMoves());
+        return moves;
+    }
+
+    /**
+     * Returns whether the current brick goes into the hold before placing.
+     *
+     * @return true to use the hold first.
+     */
+    public boolean isHold() {
+        return hold;
+    }
+
+    /**
+     * Returns where to place the brick in play after the optional hold.
+     *
+     * @return the placement, or null if there is nothing to play.
+     */
+    public Placement getPlacement() {
+        return placement;
+    }
+
+    /**
+     * Returns the number of pieces deep the best sequence was searched.
+     *
+     * @return the search depth reached.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the score of the best sequence's final board.
+     *
+     * @return the score.
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the number of search nodes scored.
+     *
+     * @return the node count.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns whether the time budget ran out before the full depth was searched.
+     *
+     * @return true if the search was cut short.
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+}
@@ -0,0 +1,395 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.board.Zobrist;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable copy of a board background for placement search, stored as one bitmask per row.
+ * <p>
+ * Placing a brick returns a new board with its full rows already removed, so candidate
+ * placements can be tried on any thread without sharing state. Each board carries the
+ * {@link Zobrist} hash of its cells, updated incrementally by {@link #place}, so searches can
+ * recognise a board they already scored. The features the heuristics read (column heights,
+ * holes, bumpiness) are computed the first time one is asked for, and never for a board
+ * whose score is found in a cache.
+ */
+public final class SearchBoard {
+
+    /** The number of columns. */
+    private final int width;
+    /** The row masks, top row first, with bit {@code c} set when column {@code c} is occupied. */
+    private final int[] rows;
+    /** The number of lines cleared by the placements that led here from the copied matrix. */
+    private final int linesCleared;
+    /** The Zobrist hash of the occupied cells. */
+    private final long hash;
+    /**
+     * The board features, or null until first read. Computing them twice on a race is harmless:
+     * they are immutable and always come out the same.
+     */
+    private Features features;
+
+    /**
+     * Builds a board.
+     *
+     * @param width the number of columns.
+     * @param rows the row masks, owned by the new board.
+     * @param linesCleared the number of lines cleared since the board was copied from a matrix.
+     * @param hash the Zobrist hash of the rows.
+     */
+    private SearchBoard(int width, int[] rows, int linesCleared, long hash) {
+        this.width = width;
+        this.rows = rows;
+        this.linesCleared = linesCleared;
+        this.hash = hash;
+    }
+
+    /**
+     * Returns the board features, computing them on first use.
+     *
+     * @return the features.
+     */
+    private Features features() {
+        Features f = features;
+        if (f == null) {
+            f = new Features(width, rows);
+            features = f;
+        }
+        return f;
+    }
+
+    /**
+     * Copies a board matrix into a search board.
+     *
+     * @param matrix the board matrix; any non-zero cell counts as occupied.
+     * @return the search board.
+     */
+    public static SearchBoard of(int[][] matrix) {
+        int[] rows = new int[matrix.length];
+        for (int r = 0; r < matrix.length; r++) {
+            int mask = 0;
+            for (int c = 0; c < matrix[r].length; c++) {
+                if (matrix[r][c] != 0) mask |= 1 << c;
+            }
+            rows[r] = mask;
+        }
+        return new SearchBoard(matrix[0].length, rows, 0, Zobrist.of(matrix));
+    }
+
+    /**
+     * Checks whether a brick rotation fits at a position without leaving the board or
+     * overlapping a block.
+     *
+     * @param rotation the rotation of the brick.
+     * @param x the column of the brick's top-left corner.
+     * @param y the row of the brick's top-left corner.
+     * @return true if the brick fits.
+     */
+    public boolean fits(ShapeTable.Rotation rotation, int x, int y) {
+        if (rotation.getMaxCol() < 0) return true;
+        if (x + rotation.getMinCol() < 0 || x + rotation.getMaxCol() >= width) return false;
+
+        int[] masks = rotation.getRowMasks();
+        for (int row = rotation.getMinRow(); row <= rotation.getMaxRow(); row++) {
+            if (masks[row] == 0) continue;
+            int targetRow = y + row;
+            if (targetRow < 0 || targetRow >= rows.length) return false;
+            int shifted = x >= 0 ? masks[row] << x : masks[row] >>> -x;
+            if ((rows[targetRow] & shifted) != 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Finds where a brick lands when dropped straight down from a position it fits at.
+     *
+     * @param rotation the rotation of the brick.
+     * @param x the column of the brick.
+     * @param y the row to drop from.
+     * @return the landing row.
+     */
+    public int dropRow(ShapeTable.Rotation rotation, int x, int y) {
+        while (fits(rotation, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    /**
+     * Writes a brick into a copy of this board and removes the rows it completes.
+     * The new board's line count adds the rows cleared here to this board's count, so a
+     * sequence of placements carries its total to the last board.
+     *
+     * @param rotation the rotation of the brick.
+     * @param x the column of the brick.
+     * @param y the row of the brick; the brick must fit there.
+     * @return the resulting board.
+     */
+    public SearchBoard place(ShapeTable.Rotation rotation, int x, int y) {
+        int[] next = rows.clone();
+        int[] masks = rotation.getRowMasks();
+        long nextHash = hash;
+        int full = (1 << width) - 1;
+        int lowestFull = -1;
+        for (int row = 0; row < masks.length; row++) {
+            if (masks[row] == 0) continue;
+            int shifted = x >= 0 ? masks[row] << x : masks[row] >>> -x;
+            next[y + row] |= shifted;
+            nextHash ^= Zobrist.row(y + row, shifted);
+            if (next[y + row] == full) lowestFull = y + row;
+        }
+        if (lowestFull < 0) {
+            return new SearchBoard(width, next, linesCleared, nextHash);
+        }
+
+        // Only the rows down to the lowest full one move; rehash just those
+        for (int r = 0; r <= lowestFull; r++) {
+            nextHash ^= Zobrist.row(r, next[r]);
+        }
+        int cleared = 0;
+        int write = next.length - 1;
+        for (int r = next.length - 1; r >= 0; r--) {
+            if (next[r] == full) {
+                cleared++;
+                continue;
+            }
+            next[write--] = next[r];
+        }
+        while (write >= 0) {
+            next[write--] = 0;
+        }
+        for (int r = 0; r <= lowestFull; r++) {
+            nextHash ^= Zobrist.row(r, next[r]);
+        }
+        return new SearchBoard(width, next, linesCleared + cleared, nextHash);
+    }
+
+    /**
+     * Lists every final placement of a brick reachable from its current position by rotating
+     * in place, then sliding sideways, then dropping. Rotations with the same cells as an
+     * earlier one are skipped, since they only repeat its placements.
+     *
+     * @param shapes the brick's rotations.
+     * @param rotationIndex the brick's current rotation.
+     * @param x the brick's current column.
+     * @param y the brick's current row.
+     * @return the placements, in rotation then column order.
+     */
+    public List<Placement> placements(ShapeTable shapes, int rotationIndex, int x, int y) {
+        List<Placement> placements = new ArrayList<>();
+        int count = shapes.getRotationCount();
+        List<int[]> seenMasks = new ArrayList<>(count);
+
+        for (int turns = 0; turns < count; turns++) {
+            int index = (rotationIndex + turns) % count;
+            ShapeTable.Rotation rotation = shapes.getRotation(index);
+            if (!fits(rotation, x, y)) break;
+
+            int[] masks = rotation.getRowMasks();
+            boolean repeated = false;
+            for (int[] seen : seenMasks) {
+                repeated |= Arrays.equals(seen, masks);
+            }
+            if (repeated) continue;
+            seenMasks.add(masks);
+
+            int left = x;
+            while (fits(rotation, left - 1, y)) left--;
+            int right = x;
+            while (fits(rotation, right + 1, y)) right++;
+
+            for (int column = left; column <= right; column++) {
+                placements.add(new Placement(rotation, index, turns, column, column - x,
+                        dropRow(rotation, column, y)));
+            }
+        }
+        return placements;
+    }
+
+    /**
+     * Returns the number of lines cleared by the placements that led to this board
+     * from the matrix it was copied from.
+     *
+     * @return the lines cleared, or 0 for a board copied from a matrix.
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Returns the height of a column, counted from the floor.
+     *
+     * @param column the column.
+     * @return the column height; zero for an empty column.
+     */
+    public int getColumnHeight(int column) {
+        return features().columnHeights[column];
+    }
+
+    /**
+     * Returns the sum of the column heights.
+     *
+     * @return the aggregate height.
+     */
+    public int getAggregateHeight() {
+        return features().aggregateHeight;
+    }
+
+    /**
+     * Returns the height of the tallest column.
+     *
+     * @return the maximum column height.
+     */
+    public int getMaxHeight() {
+        return features().maxHeight;
+    }
+
+    /**
+     * Returns the number of empty cells with an occupied cell somewhere above them.
+     *
+     * @return the hole count.
+     */
+    public int getHoles() {
+        return features().holes;
+    }
+
+    /**
+     * Returns the sum of the height differences between neighbouring columns.
+     *
+     * @return the bumpiness.
+     */
+    public int getBumpiness() {
+        return features().bumpiness;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return the board width.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the board height.
+     */
+    public int getHeight() {
+        return rows.length;
+    }
+
+    /**
+     * Checks whether every row above a given one is empty.
+     *
+     * @param row the first row that may hold blocks.
+     * @return true if rows {@code 0} to {@code row - 1} are empty.
+     */
+    public boolean isEmptyAbove(int row) {
+        for (int r = 0; r < row; r++) {
+            if (rows[r] != 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a cell is occupied.
+     *
+     * @param row the row.
+     * @param column the column.
+     * @return true if the cell holds a block.
+     */
+    public boolean isOccupied(int row, int column) {
+        return (rows[row] & (1 << column)) != 0;
+    }
+
+    /**
+     * Compares the cells of two boards; the line counts are not compared.
+     *
+     * @param o the other object.
+     * @return true if both boards have the same occupied cells.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SearchBoard other)) return false;
+        return width == other.width && Arrays.equals(rows, other.rows);
+    }
+
+    /**
+     * Returns the Zobrist hash of the occupied cells; boards with the same cells have the same
+     * hash, whatever placements led to them.
+     *
+     * @return the board hash, equal to {@link Zobrist#of(int[][])} of the same cells.
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Folds the Zobrist hash, consistently with {@link #equals(Object)}.
+     *
+     * @return the hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(hash);
+    }
+
+    /**
+     * The features of one board, computed in a single pass over its rows.
+     */
+    private static final class Features {
+
+        /** The height of each column, counted from the floor; zero for an empty column. */
+        private final int[] columnHeights;
+        /** The sum of the column heights. */
+        private final int aggregateHeight;
+        /** The height of the tallest column. */
+        private final int maxHeight;
+        /** The number of empty cells with an occupied cell somewhere above them. */
+        private final int holes;
+        /** The sum of the height differences between neighbouring columns. */
+        private final int bumpiness;
+
+        /**
+         * Computes the features of a board.
+         *
+         * @param width the number of columns.
+         * @param rows the row masks, top row first.
+         */
+        Features(int width, int[] rows) {
+            this.columnHeights = new int[width];
+
+            int full = (1 << width) - 1;
+            int seen = 0;
+            int holeCount = 0;
+            for (int r = 0; r < rows.length; r++) {
+                holeCount += Integer.bitCount(~rows[r] & seen & full);
+                int newTops = rows[r] & ~seen;
+                while (newTops != 0) {
+                    int c = Integer.numberOfTrailingZeros(newTops);
+                    columnHeights[c] = rows.length - r;
+                    newTops &= newTops - 1;
+                }
+                seen |= rows[r];
+            }
+
+            int sum = 0, max = 0, bumps = 0;
+            for (int c = 0; c < width; c++) {
+                sum += columnHeights[c];
+                max = Math.max(max, columnHeights[c]);
+                if (c > 0) bumps += Math.abs(columnHeights[c] - columnHeights[c - 1]);
+            }
+            this.aggregateHeight = sum;
+            this.maxHeight = max;
+            this.holes = holeCount;
+            this.bumpiness = bumps;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.comp2042.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size, lock-free cache of evaluation scores, keyed by search state: the Zobrist hash
+ * of a board, the brick to play on it and the brick in the hold.
+ * <p>
+ * Searches reach the same board through different move orders all the time; looking its score
+ * up here skips computing the board's features again. The cache is direct-mapped: each key has
+ * exactly one slot, chosen by its low bits above bit 0 (which every key has set), and storing a score always replaces whatever was in
+ * that slot. Memory use is therefore fixed at construction, lookups and stores are O(1), and
+ * recent entries win over old ones, which suits a search that moves on from one decision to the
+ * next.
+ * <p>
+ * Any number of threads may read and write at once without locking. Each slot keeps the key
+ * XORed with the score next to the score itself; a reader that sees the halves of two different
+ * writes gets a key that does not match and treats the lookup as a miss.
+ */
+public final class TranspositionCache {
+
+    /** Multiplier spreading the piece and hold ids over the key bits. */
+    private static final long PIECE_MIX = 0x9E37_79B9_7F4A_7C15L;
+    /** Multiplier spreading the hold id over the key bits, distinct from {@link #PIECE_MIX}. */
+    private static final long HOLD_MIX = 0xC2B2_AE3D_27D4_EB4FL;
+
+    /** Two longs per slot: the key XOR the score bits, then the score bits. */
+    private final AtomicLongArray slots;
+    /** The slot count minus one; the slot count is a power of two. */
+    private final int mask;
+    /** The number of lookups that found their key. */
+    private final LongAdder hits = new LongAdder();
+    /** The number of lookups that did not. */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructs an empty cache.
+     *
+     * @param capacity the number of entries to hold; rounded up to a power of two.
+     * @throws IllegalArgumentException if the capacity is not positive or above 2<sup>29</sup>.
+     */
+    public TranspositionCache(int capacity) {
+        if (capacity < 1 || capacity > 1 << 29) {
+            throw new IllegalArgumentException("Cache capacity must be between 1 and 2^29: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) size <<= 1;
+        this.slots = new AtomicLongArray(size * 2);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Combines the parts of a search state into a cache key.
+     *
+     * @param boardHash the Zobrist hash of the board, with anything else the score depends on mixed in.
+     * @param piece the id of the brick to play, or 0 if it is not known.
+     * @param hold the id of the held brick, or 0 if the hold is empty.
+     * @return the key; never 0, so an empty slot never matches.
+     */
+    public static long key(long boardHash, int piece, int hold) {
+        return (boardHash ^ (piece + 1) * PIECE_MIX ^ (hold + 1) * HOLD_MIX) | 1L;
+    }
+
+    /**
+     * Looks up the score stored for a key.
+     *
+     * @param key the key, from {@link #key(long, int, int)}.
+     * @return the score, or {@link Double#NaN} if the key is not in the cache.
+     */
+    public double get(long key) {
+        int slot = slotOf(key);
+        long check = slots.getOpaque(slot * 2);
+        long bits = slots.getOpaque(slot * 2 + 1);
+        if ((check ^ bits) != key) {
+            misses.increment();
+            return Double.NaN;
+        }
+        hits.increment();
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Stores the score of a key, replacing the entry in its slot.
+     *
+     * @param key the key, from {@link #key(long, int, int)}.
+     * @param score the score; NaN is not stored.
+     */
+    public void put(long key, double score) {
+        if (Double.isNaN(score)) return;
+        int slot = slotOf(key);
+        long bits = Double.doubleToRawLongBits(score);
+        slots.setOpaque(slot * 2, key ^ bits);
+        slots.setOpaque(slot * 2 + 1, bits);
+    }
+
+    /**
+     * Returns the slot of a key. Bit 0 is skipped: {@link #key(long, int, int)} always sets it,
+     * so using it would leave every even slot empty.
+     *
+     * @param key the key, from {@link #key(long, int, int)}.
+     * @return the slot index, below the capacity.
+     */
+    int slotOf(long key) {
+        return (int) (key >>> 1) & mask;
+    }
+
+    /**
+     * Removes every entry and resets the statistics, e.g. when a new game starts.
+     * Not atomic with respect to concurrent stores.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.setOpaque(i, 0L);
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Returns the number of entries the cache holds at most.
+     *
+     * @return the capacity, a power of two.
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the number of lookups that found their key.
+     *
+     * @return the hit count.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that did not find their key.
+     *
+     * @return the miss count.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+}
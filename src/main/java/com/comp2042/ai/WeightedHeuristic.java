@@ -0,0 +1,81 @@
+package com.comp2042.ai;
+
+/**
+ * A linear heuristic over four board features: aggregate height, lines cleared, holes and bumpiness.
+ */
+public final class WeightedHeuristic implements Heuristic {
+
+    /**
+     * Weights that play well on a standard ten-column board: reward clearing lines,
+     * penalise height, holes and an uneven surface.
+     */
+    public static final WeightedHeuristic DEFAULT = new WeightedHeuristic(-0.510066, 0.760666, -0.35663, -0.184483);
+
+    /** The weight of the aggregate column height. */
+    private final double heightWeight;
+    /** The weight of the number of lines cleared. */
+    private final double linesWeight;
+    /** The weight of the number of holes. */
+    private final double holesWeight;
+    /** The weight of the bumpiness. */
+    private final double bumpinessWeight;
+
+    /**
+     * Constructs a new WeightedHeuristic.
+     *
+     * @param heightWeight the weight of the aggregate column height.
+     * @param linesWeight the weight of the number of lines cleared.
+     * @param holesWeight the weight of the number of holes.
+     * @param bumpinessWeight the weight of the bumpiness.
+     */
+    public WeightedHeuristic(double heightWeight, double linesWeight, double holesWeight, double bumpinessWeight) {
+        this.heightWeight = heightWeight;
+        this.linesWeight = linesWeight;
+        this.holesWeight = holesWeight;
+        this.bumpinessWeight = bumpinessWeight;
+    }
+
+    @Override
+    public double evaluate(SearchBoard board) {
+        return heightWeight * board.getAggregateHeight()
+                + linesWeight * board.getLinesCleared()
+                + holesWeight * board.getHoles()
+                + bumpinessWeight * board.getBumpiness();
+    }
+
+    /**
+     * Returns the weight of the aggregate column height.
+     *
+     * @return the height weight.
+     */
+    public double getHeightWeight() {
+        return heightWeight;
+    }
+
+    /**
+     * Returns the weight of the number of lines cleared.
+     *
+     * @return the lines weight.
+     */
+    public double getLinesWeight() {
+        return linesWeight;
+    }
+
+    /**
+     * Returns the weight of the number of holes.
+     *
+     * @return the holes weight.
+     */
+    public double getHolesWeight() {
+        return holesWeight;
+    }
+
+    /**
+     * Returns the weight of the bumpiness.
+     *
+     * @return the bumpiness weight.
+     */
+    public double getBumpinessWeight() {
+        return bumpinessWeight;
+    }
+}
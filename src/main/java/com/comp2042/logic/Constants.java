@@ -68,4 +68,12 @@ public final class Constants {
     // --- Gameplay ---
     /** Delay in milliseconds for the automatic falling of bricks. */
     public static final int FALL_DELAY_MS = 400; // milliseconds for falling speed
+    /** The number of upcoming bricks shown in the preview panels unless configured otherwise. */
+    public static final int PREVIEW_COUNT = 3;
+    /** Delayed auto shift: how long a shift key is held before the brick starts repeating, in milliseconds. */
+    public static final int DAS_MS = 167;
+    /** Auto repeat rate: the delay between repeated shifts once they start, in milliseconds; 0 slides to the wall. */
+    public static final int ARR_MS = 33;
+    /** The delay between two rows of a held soft drop, in milliseconds. */
+    public static final int SOFT_DROP_MS = 33;
 }
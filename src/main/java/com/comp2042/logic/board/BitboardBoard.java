@@ -0,0 +1,517 @@
+package com.comp2042.logic.board;
+
+import com.comp2042.logic.Constants;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.ShapeTable;
+import com.comp2042.logic.movement.ClearRow;
+import com.comp2042.logic.scoring.Score;
+import com.comp2042.model.ViewData;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A game board implementation that stores every row of the well as a bitmask.
+ * <p>
+ * Collision, merge and full-row detection are reduced to a few AND/OR/compare operations
+ * per piece row instead of nested loops over the whole {@code int[][]} matrix. A separate
+ * color plane keeps the cell values the renderer needs, so {@link #getBoardMatrix()} returns
+ * exactly what {@link SimpleBoard} would for the same sequence of moves.
+ * <p>
+ * Each row mask reserves {@link #WALL_BITS} bits on the left and fills every bit outside the
+ * playable columns, so the side walls behave like occupied cells and need no bounds checks.
+ */
+public class BitboardBoard implements Board {
+
+    /** Number of wall bits reserved to the left of column 0 in each row mask. */
+    private static final int WALL_BITS = 4;
+    /** A row mask with every bit set, meaning the row is completely filled. */
+    private static final int FULL_ROW = -1;
+    /** Shared cleared-rows array for clears that remove nothing. */
+    private static final int[] NO_ROWS = new int[0];
+
+    /** The width of the game board in number of cells. */
+    private final int width;
+    /** The height of the game board in number of cells. */
+    private final int height;
+    /** A row mask with only the wall bits set, i.e. an empty row. */
+    private final int emptyRow;
+
+    /** Generates new bricks for the game. */
+    private final BrickGenerator brickGenerator;
+    /** The game's score manager. */
+    private final Score score;
+
+    /** One bitmask per board row; bit {@code WALL_BITS + c} is set when column {@code c} is occupied. */
+    private final int[] rowMasks;
+    /** The color plane holding the value of every cell, as rendered by the view. */
+    private int[][] boardMatrix;
+    /** The highest row that may hold a block; every row above it is empty. */
+    private int stackTop;
+    /** The skyline: the highest occupied row of each column, or the board height if the column is empty. */
+    private final int[] columnTop;
+    /** The cells written since the view last drew the board. */
+    private final DirtyCells changedCells;
+    /** The Zobrist hash of the occupied cells, updated by merges and clears. */
+    private long boardHash;
+    /** The first board row written by the last merge, or -1 if no merge is pending a clear. */
+    private int mergedTop = -1;
+    /** The last board row written by the last merge, or -1 if no merge is pending a clear. */
+    private int mergedBottom = -1;
+
+    /** The shared shape table of the current brick, holding the precomputed row masks of every rotation. */
+    private ShapeTable shapes;
+    /** The widest row of the current brick, used to keep shifted masks inside 32 bits. */
+    private int shapeWidth;
+    /** The index of the current rotation. */
+    private int rotation;
+    /** The column of the active brick's top-left corner. */
+    private int currentX;
+    /** The row of the active brick's top-left corner. */
+    private int currentY;
+
+    /** The brick currently being held by the player. */
+    private Brick heldBrick;
+    /** The current active brick in play. */
+    private Brick currentBrick;
+    /** Flag indicating if the hold feature has been used in the current turn. */
+    private boolean holdUsedThisTurn;
+    /** The number of upcoming bricks included in the view data. */
+    private int previewCount = Constants.PREVIEW_COUNT;
+    /** The last view snapshot handed out, reused while the state it shows is unchanged. */
+    private ViewData viewData;
+
+    /**
+     * Constructs a new BitboardBoard with the standard dimensions and a random brick generator.
+     */
+    public BitboardBoard() {
+        this(new Score());
+    }
+
+    /**
+     * Delegating constructor that wires the default random generator to the given score.
+     *
+     * @param score the score object shared with the brick generator.
+     */
+    private BitboardBoard(Score score) {
+        this(new RandomBrickGenerator(score), score);
+    }
+
+    /**
+     * Constructs a new BitboardBoard whose brick sequence is fixed by a seed,
+     * so two boards with the same seed see the same pieces.
+     *
+     * @param seed the seed of the brick sequence.
+     */
+    public BitboardBoard(long seed) {
+        this(new Score(), seed);
+    }
+
+    /**
+     * Delegating constructor that wires a seeded generator to the given score.
+     *
+     * @param score the score object shared with the brick generator.
+     * @param seed the seed of the brick sequence.
+     */
+    private BitboardBoard(Score score, long seed) {
+        this(new RandomBrickGenerator(score, seed), score);
+    }
+
+    /**
+     * Constructs a new BitboardBoard that draws its bricks from the given generator.
+     *
+     * @param brickGenerator the generator supplying new bricks.
+     * @param score the score object for this board.
+     */
+    BitboardBoard(BrickGenerator brickGenerator, Score score) {
+        this.width = Constants.BOARD_WIDTH;
+        this.height = Constants.BOARD_HEIGHT;
+        if (width + WALL_BITS > Integer.SIZE) {
+            throw new IllegalStateException("Board width " + width + " does not fit in a row mask");
+        }
+        this.emptyRow = ~(((1 << width) - 1) << WALL_BITS);
+
+        this.brickGenerator = brickGenerator;
+        this.score = score;
+
+        rowMasks = new int[height];
+        columnTop = new int[width];
+        changedCells = new DirtyCells(height, width);
+        boardMatrix = new int[height][width];
+        clearMasks();
+    }
+
+    /**
+     * Resets every row mask to an empty row.
+     */
+    private void clearMasks() {
+        Arrays.fill(rowMasks, emptyRow);
+        Arrays.fill(columnTop, height);
+        stackTop = height;
+        mergedTop = mergedBottom = -1;
+        boardHash = 0;
+    }
+
+    /**
+     * Checks whether the given rotation of the current brick collides with the walls,
+     * the floor or the settled blocks when placed at the given position.
+     *
+     * @param masks the row masks of the rotation to test.
+     * @param x the column of the brick's top-left corner.
+     * @param y the row of the brick's top-left corner.
+     * @return true if an intersection occurs, false otherwise.
+     */
+    private boolean intersects(int[] masks, int x, int y) {
+        int shift = x + WALL_BITS;
+        boolean shiftOutOfRange = shift < 0 || shift + shapeWidth > Integer.SIZE;
+
+        for (int row = 0; row < masks.length; row++) {
+            int mask = masks[row];
+            if (mask == 0) continue;
+
+            int targetRow = y + row;
+            if (shiftOutOfRange || targetRow < 0 || targetRow >= height) {
+                return true;
+            }
+            if ((rowMasks[targetRow] & (mask << shift)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the row masks of a rotation of the current brick.
+     *
+     * @param index the rotation index.
+     * @return the shared row masks of that rotation.
+     */
+    private int[] masksOf(int index) {
+        return shapes.getRotation(index).getRowMasks();
+    }
+
+    /**
+     * Places a brick at the spawn position with its first rotation.
+     *
+     * @param brick the brick to spawn.
+     */
+    private void spawn(Brick brick) {
+        currentBrick = brick;
+        shapes = brick.getShapes();
+        shapeWidth = shapes.getMaxWidth();
+        rotation = 0;
+        currentX = width / 2 - 1;
+        currentY = Constants.HIDDEN_ROWS;
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        if (intersects(masksOf(rotation), currentX, currentY + 1)) {
+            return false;
+        }
+        currentY++;
+        return true;
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        if (intersects(masksOf(rotation), currentX - 1, currentY)) {
+            return false;
+        }
+        currentX--;
+        return true;
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        if (intersects(masksOf(rotation), currentX + 1, currentY)) {
+            return false;
+        }
+        currentX++;
+        return true;
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        int next = (rotation + 1) % shapes.getRotationCount();
+        if (intersects(masksOf(next), currentX, currentY)) {
+            return false;
+        }
+        rotation = next;
+        return true;
+    }
+
+    @Override
+    public int hardDropBrick() {
+        int y = currentY;
+        currentY = computeGhostY();
+        return currentY - y;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        spawn(brickGenerator.getBrick());
+        holdUsedThisTurn = false;
+        return intersects(masksOf(rotation), currentX, currentY);
+    }
+
+    @Override
+    public void holdCurrentBrick() {
+        if (holdUsedThisTurn) return;
+
+        Brick previous = currentBrick;
+        if (heldBrick == null) {
+            spawn(brickGenerator.getBrick());
+        } else {
+            spawn(heldBrick);
+        }
+        heldBrick = previous;
+
+        holdUsedThisTurn = true;
+    }
+
+    @Override
+    public Brick getCurrentBrick() {
+        return currentBrick;
+    }
+
+    @Override
+    public int getCurrentRotationIndex() {
+        return rotation;
+    }
+
+    @Override
+    public Brick getHeldBrick() {
+        return heldBrick;
+    }
+
+    @Override
+    public boolean canHold() {
+        return !holdUsedThisTurn;
+    }
+
+    @Override
+    public List<Brick> getNextBricks(int count) {
+        return brickGenerator.peekNext(count);
+    }
+
+    @Override
+    public int[][] getBoardMatrix() {
+        return boardMatrix;
+    }
+
+    @Override
+    public DirtyCells getChangedCells() {
+        return changedCells;
+    }
+
+    @Override
+    public long getBoardHash() {
+        return boardHash;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        var nextBricks = brickGenerator.peekNext(previewCount);
+        int[][][] nextShapes = new int[nextBricks.size()][][];
+        for (int i = 0; i < nextBricks.size(); i++) {
+            nextShapes[i] = nextBricks.get(i).getShapes().getRotation(0).getCells();
+        }
+
+        int[][] heldShape = null;
+        if (heldBrick != null) {
+            heldShape = heldBrick.getShapes().getRotation(0).getCells();
+        }
+        int[][] shape = shapes.getRotation(rotation).getCells();
+        int ghostY = computeGhostY();
+        viewData = viewData == null
+                ? new ViewData(shape, currentX, currentY, nextShapes, currentX, ghostY, heldShape)
+                : viewData.withState(shape, currentX, currentY, nextShapes, currentX, ghostY, heldShape);
+        return viewData;
+    }
+
+    @Override
+    public void setPreviewCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Preview count must not be negative: " + count);
+        }
+        previewCount = count;
+    }
+
+    /**
+     * Computes the row where the current brick would land if it were hard dropped.
+     * <p>
+     * While the brick is above the skyline in every column it covers, the landing row follows
+     * from its bottom profile alone; a brick tucked under an overhang is probed row by row.
+     *
+     * @return the Y-coordinate for the ghost brick.
+     */
+    private int computeGhostY() {
+        int[] bottoms = shapes.getRotation(rotation).getColumnBottoms();
+        int landingY = Integer.MAX_VALUE;
+        for (int col = 0; col < bottoms.length; col++) {
+            if (bottoms[col] < 0) continue;
+
+            int top = columnTop[currentX + col];
+            if (currentY + bottoms[col] >= top) {
+                return scanGhostY();
+            }
+            landingY = Math.min(landingY, top - 1 - bottoms[col]);
+        }
+        return landingY == Integer.MAX_VALUE ? currentY : landingY;
+    }
+
+    /**
+     * Finds the landing row by testing each row below the brick in turn.
+     *
+     * @return the Y-coordinate for the ghost brick.
+     */
+    private int scanGhostY() {
+        int[] masks = masksOf(rotation);
+        int y = currentY;
+        while (!intersects(masks, currentX, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    @Override
+    public BrickType mergeBrickToBackground() {
+        int[][] shape = shapes.getRotation(rotation).getCells();
+        int[] masks = masksOf(rotation);
+        int shift = currentX + WALL_BITS;
+
+        mergedTop = -1;
+        mergedBottom = -1;
+        for (int row = 0; row < shape.length; row++) {
+            if (masks[row] == 0) continue;
+
+            int targetRow = currentY + row;
+            if (mergedTop < 0) mergedTop = targetRow;
+            mergedBottom = targetRow;
+            rowMasks[targetRow] |= masks[row] << shift;
+            boardHash ^= Zobrist.row(targetRow, (masks[row] << shift) >>> WALL_BITS);
+            for (int col = 0; col < shape[row].length; col++) {
+                if (shape[row][col] != 0) {
+                    boardMatrix[targetRow][currentX + col] = shape[row][col];
+                    columnTop[currentX + col] = Math.min(columnTop[currentX + col], targetRow);
+                    changedCells.mark(targetRow, currentX + col);
+                }
+            }
+        }
+        if (mergedTop >= 0) {
+            stackTop = Math.min(stackTop, mergedTop);
+        }
+        holdUsedThisTurn = false;
+        return currentBrick.getBrickType();
+    }
+
+    /**
+     * Removes the full rows among those touched by the last merge.
+     * <p>
+     * Rows above the cleared ones are shifted down by reference, down to the top of the stack,
+     * and the cleared row arrays are zeroed and reused as the new empty rows.
+     *
+     * @return a ClearRow object describing the cleared rows.
+     */
+    @Override
+    public ClearRow clearRows() {
+        int cleared = 0;
+        if (mergedTop >= 0) {
+            for (int r = mergedTop; r <= mergedBottom; r++) {
+                if (rowMasks[r] == FULL_ROW) cleared++;
+            }
+        }
+
+        if (cleared == 0) {
+            mergedTop = mergedBottom = -1;
+            return new ClearRow(0, boardMatrix, 0, NO_ROWS);
+        }
+
+        int[] clearedRows = new int[cleared];
+        int[][] freed = new int[cleared][];
+        int found = 0;
+        for (int r = mergedTop; r <= mergedBottom; r++) {
+            if (rowMasks[r] == FULL_ROW) {
+                clearedRows[found] = r;
+                freed[found++] = boardMatrix[r];
+            }
+        }
+
+        changedCells.markRows(stackTop, mergedBottom);
+        int shiftedTop = stackTop;
+        boardHash ^= hashRows(shiftedTop, mergedBottom);
+        int writeRow = mergedBottom;
+        for (int r = mergedBottom; r >= stackTop; r--) {
+            if (rowMasks[r] == FULL_ROW) continue;
+            rowMasks[writeRow] = rowMasks[r];
+            boardMatrix[writeRow] = boardMatrix[r];
+            writeRow--;
+        }
+        for (int[] row : freed) {
+            Arrays.fill(row, 0);
+            rowMasks[writeRow] = emptyRow;
+            boardMatrix[writeRow] = row;
+            writeRow--;
+        }
+        boardHash ^= hashRows(shiftedTop, mergedBottom);
+        stackTop += cleared;
+        mergedTop = mergedBottom = -1;
+        updateSkyline(cleared);
+
+        // Score bonus: 1 line = 50, 2 lines = 200, 3 lines = 450, 4 lines = 800
+        int scoreBonus = 50 * cleared * cleared;
+        return new ClearRow(cleared, boardMatrix, scoreBonus, clearedRows);
+    }
+
+    /**
+     * Hashes the occupied cells of a range of rows, read from their masks.
+     *
+     * @param from the first row, inclusive.
+     * @param to the last row, inclusive.
+     * @return the XOR of the keys of the occupied cells in the range.
+     */
+    private long hashRows(int from, int to) {
+        long hash = 0;
+        for (int r = from; r <= to; r++) {
+            hash ^= Zobrist.row(r, (rowMasks[r] & ~emptyRow) >>> WALL_BITS);
+        }
+        return hash;
+    }
+
+    /**
+     * Moves the skyline down after rows were removed. Every column had a block in each
+     * cleared row, so the new top is found by scanning down from the shifted old top.
+     *
+     * @param cleared the number of rows removed.
+     */
+    private void updateSkyline(int cleared) {
+        for (int c = 0; c < width; c++) {
+            int r = Math.min(columnTop[c] + cleared, height);
+            while (r < height && boardMatrix[r][c] == 0) {
+                r++;
+            }
+            columnTop[c] = r;
+        }
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        boardMatrix = new int[height][width];
+        clearMasks();
+        changedCells.markAll();
+        heldBrick = null;
+        currentBrick = null;
+        holdUsedThisTurn = false;
+        score.reset();
+        createNewBrick();
+    }
+}
@@ -1,10 +1,13 @@
 package com.comp2042.logic.board;
 
+import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickType;
 import com.comp2042.logic.movement.ClearRow;
 import com.comp2042.logic.scoring.Score;
 import com.comp2042.model.ViewData;
 
+import java.util.List;
+
 /**
  * Represents the game board, defining the contract for all game board implementations.
  */
@@ -38,6 +41,19 @@ public interface Board {
      */
     boolean rotateLeftBrick();
 
+    /**
+     * Moves the current brick straight down as far as it can go, without merging it.
+     *
+     * @return the number of rows the brick moved.
+     */
+    default int hardDropBrick() {
+        int distance = 0;
+        while (moveBrickDown()) {
+            distance++;
+        }
+        return distance;
+    }
+
     /**
      * Creates a new brick and places it on the board.
      *
@@ -50,6 +66,42 @@ public interface Board {
      */
     void holdCurrentBrick();
 
+    /**
+     * Gets the brick currently in play.
+     *
+     * @return the current brick, or null before the first brick is created.
+     */
+    Brick getCurrentBrick();
+
+    /**
+     * Gets the index of the current brick's rotation in its shape table.
+     *
+     * @return the current rotation index.
+     */
+    int getCurrentRotationIndex();
+
+    /**
+     * Gets the brick in the hold.
+     *
+     * @return the held brick, or null if nothing is held.
+     */
+    Brick getHeldBrick();
+
+    /**
+     * Checks whether the hold can still be used for the current brick.
+     *
+     * @return true if {@link #holdCurrentBrick()} would swap the brick.
+     */
+    boolean canHold();
+
+    /**
+     * Gets the upcoming bricks without consuming them.
+     *
+     * @param count the number of bricks to look at.
+     * @return the next bricks, in the order they will spawn.
+     */
+    List<Brick> getNextBricks(int count);
+
     /**
      * Gets the current state of the board as a 2D integer matrix.
      *
@@ -58,12 +110,38 @@ public interface Board {
     int[][] getBoardMatrix();
 
     /**
-     * Gets the data required for the view to render the game state.
+     * Gets the cells of the board matrix that changed since the view last cleared this set.
+     * The view restyles those cells and then calls {@link DirtyCells#clear()}.
+     *
+     * @return the live set of changed cells.
+     */
+    DirtyCells getChangedCells();
+
+    /**
+     * Gets the Zobrist hash of the occupied cells of the board matrix, kept up to date as bricks
+     * are merged and rows are cleared. Equal for any two boards with the same occupied cells.
+     *
+     * @return the board hash; see {@link Zobrist}.
+     */
+    long getBoardHash();
+
+    /**
+     * Gets the data required for the view to render the game state. The same snapshot is
+     * returned until the state it shows changes, so renderers can compare versions to skip work.
      *
      * @return the view data.
      */
     ViewData getViewData();
 
+    /**
+     * Sets how many upcoming bricks {@link #getViewData()} includes for the preview panels.
+     * Defaults to {@link com.comp2042.logic.Constants#PREVIEW_COUNT}.
+     *
+     * @param count the number of upcoming bricks to include.
+     * @throws IllegalArgumentException if the count is negative.
+     */
+    void setPreviewCount(int count);
+
     /**
      * Merges the current brick into the board's background.
      *
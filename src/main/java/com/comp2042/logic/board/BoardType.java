@@ -0,0 +1,37 @@
+package com.comp2042.logic.board;
+
+/**
+ * Enumerates the available {@link Board} implementations so the engine can be selected
+ * when a game is constructed.
+ */
+public enum BoardType {
+    /** The matrix-based {@link SimpleBoard}. */
+    SIMPLE,
+    /** The row-bitmask based {@link BitboardBoard}, suited to headless and bot play. */
+    BITBOARD;
+
+    /**
+     * Creates a new, empty board of this type.
+     *
+     * @return a new board instance.
+     */
+    public Board create() {
+        return switch (this) {
+            case SIMPLE -> new SimpleBoard();
+            case BITBOARD -> new BitboardBoard();
+        };
+    }
+
+    /**
+     * Creates a new, empty board of this type whose brick sequence is fixed by a seed.
+     *
+     * @param seed the seed of the brick sequence.
+     * @return a new board instance.
+     */
+    public Board create(long seed) {
+        return switch (this) {
+            case SIMPLE -> new SimpleBoard(seed);
+            case BITBOARD -> new BitboardBoard(seed);
+        };
+    }
+}
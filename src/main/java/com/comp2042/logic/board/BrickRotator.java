@@ -1,10 +1,9 @@
 package com.comp2042.logic.board;
 
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.ShapeTable;
 import com.comp2042.model.NextShapeInfo;
 
-import java.util.List;
-
 /**
  * Manages the rotation of a Tetris brick.
  */
@@ -18,8 +17,8 @@ public class BrickRotator {
         // Default constructor
     }
 
-    /** A list of 2D integer arrays, each representing a possible rotation of the brick. */
-    private List<int[][]> rotations;
+    /** The shared shape table holding every possible rotation of the brick. */
+    private ShapeTable rotations;
     /** The index of the current rotation in the {@code rotations} list. */
     private int currentRotationIndex = 0;
 
@@ -29,7 +28,7 @@ public class BrickRotator {
      * @param brick the brick to set.
      */
     public void setBrick(Brick brick) {
-        this.rotations = brick.getShapeMatrix();
+        this.rotations = brick.getShapes();
         this.currentRotationIndex = 0; // spawn always uses rotation 0
     }
 
@@ -39,7 +38,25 @@ public class BrickRotator {
      * @return a 2D integer array representing the current shape.
      */
     public int[][] getCurrentShape() {
-        return rotations.get(currentRotationIndex);
+        return rotations.getRotation(currentRotationIndex).getCells();
+    }
+
+    /**
+     * Gets the shared rotation state of the brick, including its precomputed bottom profile.
+     *
+     * @return the current rotation.
+     */
+    public ShapeTable.Rotation getCurrentRotation() {
+        return rotations.getRotation(currentRotationIndex);
+    }
+
+    /**
+     * Gets the index of the current rotation in the brick's shape table.
+     *
+     * @return the current rotation index.
+     */
+    public int getCurrentRotationIndex() {
+        return currentRotationIndex;
     }
 
     /**
@@ -49,14 +66,34 @@ public class BrickRotator {
      */
     public NextShapeInfo getNextShape() {
 
-        int nextIndex = (currentRotationIndex + 1) % rotations.size();
+        int nextIndex = getNextRotationIndex();
 
         return new NextShapeInfo(
-                rotations.get(nextIndex),
+                rotations.getRotation(nextIndex).getCells(),
                 nextIndex
         );
     }
 
+    /**
+     * Gets the index of the rotation that follows the current one, without allocating.
+     *
+     * @return the index of the next rotation.
+     */
+    public int getNextRotationIndex() {
+        return (currentRotationIndex + 1) % rotations.getRotationCount();
+    }
+
+    /**
+     * Gets the shape of a specific rotation of the brick.
+     * The returned matrix is shared with the rotator and must not be modified.
+     *
+     * @param index the rotation index.
+     * @return a 2D integer array representing the shape of that rotation.
+     */
+    public int[][] getShape(int index) {
+        return rotations.getRotation(index).getCells();
+    }
+
     /**
      * Sets the current rotation of the brick to a specific index.
      *
@@ -64,8 +101,8 @@ public class BrickRotator {
      * @throws IndexOutOfBoundsException if the newIndex is out of bounds.
      */
     public void setCurrentShape(int newIndex) {
-        if (newIndex < 0 || newIndex >= rotations.size()) {
-            throw new IndexOutOfBoundsException("Rotation index " + newIndex + " is out of bounds for rotations size " + rotations.size());
+        if (newIndex < 0 || newIndex >= rotations.getRotationCount()) {
+            throw new IndexOutOfBoundsException("Rotation index " + newIndex + " is out of bounds for rotations size " + rotations.getRotationCount());
         }
         this.currentRotationIndex = newIndex;
     }
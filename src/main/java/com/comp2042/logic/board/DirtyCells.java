@@ -0,0 +1,115 @@
+package com.comp2042.logic.board;
+
+/**
+ * The set of board cells that changed since the view last drew the board.
+ * <p>
+ * Boards mark cells as merges, clears and resets write them; the view walks the set,
+ * restyles only those cells and then calls {@link #clear()}. Each cell is recorded at most
+ * once, and marking, reading and clearing never allocate.
+ */
+public final class DirtyCells {
+
+    /** The width of the board, used to pack a row and column into one index. */
+    private final int width;
+    /** Whether each packed cell index is currently in the set. */
+    private final boolean[] marked;
+    /** The packed indices of the marked cells, in the order they were marked. */
+    private final int[] cells;
+    /** The number of marked cells. */
+    private int size;
+
+    /**
+     * Constructs an empty set for a board of the given size.
+     *
+     * @param height the number of rows of the board.
+     * @param width the number of columns of the board.
+     */
+    public DirtyCells(int height, int width) {
+        this.width = width;
+        this.marked = new boolean[height * width];
+        this.cells = new int[height * width];
+    }
+
+    /**
+     * Adds a cell to the set.
+     *
+     * @param row the row of the cell.
+     * @param col the column of the cell.
+     */
+    public void mark(int row, int col) {
+        int index = row * width + col;
+        if (!marked[index]) {
+            marked[index] = true;
+            cells[size++] = index;
+        }
+    }
+
+    /**
+     * Adds every cell of a range of rows to the set.
+     *
+     * @param fromRow the first row, inclusive.
+     * @param toRow the last row, inclusive.
+     */
+    public void markRows(int fromRow, int toRow) {
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int col = 0; col < width; col++) {
+                mark(row, col);
+            }
+        }
+    }
+
+    /**
+     * Adds every cell of the board to the set.
+     */
+    public void markAll() {
+        markRows(0, marked.length / width - 1);
+    }
+
+    /**
+     * Returns the number of cells in the set.
+     *
+     * @return the number of changed cells.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether no cell has changed.
+     *
+     * @return true if the set is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the row of the cell at the given position in the set.
+     *
+     * @param i the position, between 0 and {@link #size()} - 1.
+     * @return the row of that cell.
+     */
+    public int getRow(int i) {
+        return cells[i] / width;
+    }
+
+    /**
+     * Returns the column of the cell at the given position in the set.
+     *
+     * @param i the position, between 0 and {@link #size()} - 1.
+     * @return the column of that cell.
+     */
+    public int getColumn(int i) {
+        return cells[i] % width;
+    }
+
+    /**
+     * Empties the set, typically once the view has drawn the changes.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            marked[cells[i]] = false;
+        }
+        size = 0;
+    }
+}
@@ -2,9 +2,7 @@ package com.comp2042.logic.board;
 
 import com.comp2042.logic.movement.ClearRow;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -112,8 +110,8 @@ public final class MatrixOperations {
      */
     public static ClearRow checkRemoving(final int[][] matrix) {
 
-        List<Integer> cleared = new ArrayList<>();
-        Deque<int[]> remaining = new ArrayDeque<>();
+        int[] cleared = new int[matrix.length];
+        int clearedCount = 0;
 
         for (int r = 0; r < matrix.length; r++) {
 
@@ -126,26 +124,30 @@ public final class MatrixOperations {
             }
 
             if (full) {
-                cleared.add(r);
-            } else {
-                remaining.add(matrix[r]);
+                cleared[clearedCount++] = r;
             }
         }
 
-        // Build new board (bottom to top)
-        int[][] newBoard = new int[matrix.length][matrix[0].length];
+        // Build new board (bottom to top), skipping the cleared rows
+        int[][] newBoard = new int[matrix.length][];
         int writeRow = matrix.length - 1;
+        int nextCleared = clearedCount - 1;
 
-        while (!remaining.isEmpty()) {
-            newBoard[writeRow--] = remaining.pollLast();
+        for (int r = matrix.length - 1; r >= 0; r--) {
+            if (nextCleared >= 0 && cleared[nextCleared] == r) {
+                nextCleared--;
+                continue;
+            }
+            newBoard[writeRow--] = matrix[r];
+        }
+        while (writeRow >= 0) {
+            newBoard[writeRow--] = new int[matrix[0].length];
         }
 
         // Score bonus: 1 line = 50, 2 lines = 200, 3 lines = 450, 4 lines = 800
-        int scoreBonus = 50 * cleared.size() * cleared.size();
-
-        int[] clearedRowsArray = cleared.stream().mapToInt(i -> i).toArray();
+        int scoreBonus = 50 * clearedCount * clearedCount;
 
-        return new ClearRow(cleared.size(), newBoard, scoreBonus, clearedRowsArray);
+        return new ClearRow(clearedCount, newBoard, scoreBonus, Arrays.copyOf(cleared, clearedCount));
     }
 
     /**
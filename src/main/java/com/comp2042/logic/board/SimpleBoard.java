@@ -1,6 +1,5 @@
 package com.comp2042.logic.board;
 
-import com.comp2042.ui.AudioManager;
 import com.comp2042.logic.Constants;
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
@@ -9,16 +8,19 @@ import com.comp2042.logic.bricks.RandomBrickGenerator;
 import com.comp2042.logic.bricks.RandomBrickGenerationStrategy;
 import com.comp2042.logic.movement.ClearRow;
 import com.comp2042.logic.scoring.Score;
-import com.comp2042.model.NextShapeInfo;
 import com.comp2042.model.ViewData;
 
-import java.awt.Point;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * A simple implementation of the game board.
  */
 public class SimpleBoard implements Board {
 
+    /** Shared cleared-rows array for clears that remove nothing. */
+    private static final int[] NO_ROWS = new int[0];
+
     /** The width of the game board in number of cells. */
     private final int width;
     /** The height of the game board in number of cells. */
@@ -31,8 +33,25 @@ public class SimpleBoard implements Board {
 
     /** The 2D array representing the game board's current state. */
     private int[][] boardMatrix;
-    /** The current position (top-left corner) of the active brick on the board. */
-    private Point currentOffset;
+    /** The number of occupied cells in each row, kept in step with {@link #boardMatrix}. */
+    private final int[] rowFill;
+    /** The highest row that may hold a block; every row above it is empty. */
+    private int stackTop;
+    /** The skyline: the highest occupied row of each column, or the board height if the column is empty. */
+    private final int[] columnTop;
+    /** The cells written since the view last drew the board. */
+    private final DirtyCells changedCells;
+    /** The Zobrist hash of the occupied cells, updated by merges and clears. */
+    private long boardHash;
+    /** The first board row written by the last merge, or -1 if no merge is pending a clear. */
+    private int mergedTop = -1;
+    /** The last board row written by the last merge, or -1 if no merge is pending a clear. */
+    private int mergedBottom = -1;
+    /**
+     * The current position (top-left corner) of the active brick on the board,
+     * packed into one int by {@link #pack(int, int)} so moves never allocate.
+     */
+    private int currentOffset;
 
     /** The brick currently being held by the player. */
     private Brick heldBrick;
@@ -40,6 +59,10 @@ public class SimpleBoard implements Board {
     private Brick currentBrick;
     /** Flag indicating if the hold feature has been used in the current turn. */
     private boolean holdUsedThisTurn;
+    /** The number of upcoming bricks included in the view data. */
+    private int previewCount = Constants.PREVIEW_COUNT;
+    /** The last view snapshot handed out, reused while the state it shows is unchanged. */
+    private ViewData viewData;
 
     /** The game's score manager. */
     private final Score score;
@@ -52,13 +75,59 @@ public class SimpleBoard implements Board {
      * brick generator, and brick rotator.
      */
     public SimpleBoard() {
+        this(new Score());
+    }
+
+    /**
+     * Delegating constructor that wires the default random generator to the given score,
+     * so the generator reads the same level the board reports.
+     *
+     * @param score the score object shared with the brick generator.
+     */
+    private SimpleBoard(Score score) {
+        this(new RandomBrickGenerator(score), score);
+    }
+
+    /**
+     * Constructs a new SimpleBoard whose brick sequence is fixed by a seed,
+     * so two boards with the same seed see the same pieces.
+     *
+     * @param seed the seed of the brick sequence.
+     */
+    public SimpleBoard(long seed) {
+        this(new Score(), seed);
+    }
+
+    /**
+     * Delegating constructor that wires a seeded generator to the given score.
+     *
+     * @param score the score object shared with the brick generator.
+     * @param seed the seed of the brick sequence.
+     */
+    private SimpleBoard(Score score, long seed) {
+        this(new RandomBrickGenerator(score, seed), score);
+    }
+
+    /**
+     * Constructs a new SimpleBoard that draws its bricks from the given generator.
+     * Used to drive the board with a scripted piece sequence.
+     *
+     * @param brickGenerator the generator supplying new bricks.
+     * @param score the score object for this board.
+     */
+    SimpleBoard(BrickGenerator brickGenerator, Score score) {
         this.width = Constants.BOARD_WIDTH;
         this.height = Constants.BOARD_HEIGHT;
 
         boardMatrix = new int[height][width];
-
-        score = new Score();
-        brickGenerator = new RandomBrickGenerator(score);
+        rowFill = new int[height];
+        stackTop = height;
+        columnTop = new int[width];
+        changedCells = new DirtyCells(height, width);
+        Arrays.fill(columnTop, height);
+
+        this.score = score;
+        this.brickGenerator = brickGenerator;
         brickRotator = new BrickRotator();
     }
 
@@ -69,17 +138,7 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickDown() {
-        int[][] temp = MatrixOperations.copy(boardMatrix);
-
-        Point p = new Point(currentOffset);
-        p.translate(0, 1);
-
-        if (MatrixOperations.intersect(temp, brickRotator.getCurrentShape(), p.x, p.y)) {
-            return false;
-        }
-
-        currentOffset = p;
-        return true;
+        return tryMove(0, 1);
     }
 
     /**
@@ -89,17 +148,7 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickLeft() {
-        int[][] temp = MatrixOperations.copy(boardMatrix);
-
-        Point p = new Point(currentOffset);
-        p.translate(-1, 0);
-
-        if (MatrixOperations.intersect(temp, brickRotator.getCurrentShape(), p.x, p.y)) {
-            return false;
-        }
-
-        currentOffset = p;
-        return true;
+        return tryMove(-1, 0);
     }
 
     /**
@@ -109,43 +158,96 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickRight() {
-        int[][] temp = MatrixOperations.copy(boardMatrix);
+        return tryMove(1, 0);
+    }
 
-        Point p = new Point(currentOffset);
-        p.translate(1, 0);
+    /**
+     * Rotates the current brick to the left.
+     *
+     * @return true if the brick was rotated, false otherwise.
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextIndex = brickRotator.getNextRotationIndex();
+
+        // intersect only reads the board, so it is checked in place without a copy
+        if (MatrixOperations.intersect(boardMatrix,
+                brickRotator.getShape(nextIndex),
+                unpackX(currentOffset),
+                unpackY(currentOffset))) {
 
-        if (MatrixOperations.intersect(temp, brickRotator.getCurrentShape(), p.x, p.y)) {
             return false;
         }
 
-        currentOffset = p;
+        brickRotator.setCurrentShape(nextIndex);
         return true;
     }
 
     /**
-     * Rotates the current brick to the left.
+     * Moves the current brick straight down to its landing row in one step.
      *
-     * @return true if the brick was rotated, false otherwise.
+     * @return the number of rows the brick moved.
      */
     @Override
-    public boolean rotateLeftBrick() {
-
-        int[][] temp = MatrixOperations.copy(boardMatrix);
-
-        NextShapeInfo nextShape = brickRotator.getNextShape();
+    public int hardDropBrick() {
+        int y = unpackY(currentOffset);
+        int landingY = computeGhostY();
+        currentOffset = pack(unpackX(currentOffset), landingY);
+        return landingY - y;
+    }
 
-        if (MatrixOperations.intersect(temp,
-                nextShape.getShape(),
-                currentOffset.x,
-                currentOffset.y)) {
+    /**
+     * Moves the current brick by the given delta if the target position is free.
+     * The check runs directly against the board matrix and allocates nothing.
+     *
+     * @param dx the column delta.
+     * @param dy the row delta.
+     * @return true if the brick was moved, false otherwise.
+     */
+    private boolean tryMove(int dx, int dy) {
+        int x = unpackX(currentOffset) + dx;
+        int y = unpackY(currentOffset) + dy;
 
+        if (MatrixOperations.intersect(boardMatrix, brickRotator.getCurrentShape(), x, y)) {
             return false;
         }
 
-        brickRotator.setCurrentShape(nextShape.getPosition());
+        currentOffset = pack(x, y);
         return true;
     }
 
+    /**
+     * Packs a board position into a single int: the column in the high 16 bits
+     * and the row in the low 16 bits, both signed.
+     *
+     * @param x the column.
+     * @param y the row.
+     * @return the packed position.
+     */
+    static int pack(int x, int y) {
+        return (x << 16) | (y & 0xFFFF);
+    }
+
+    /**
+     * Extracts the column from a position packed by {@link #pack(int, int)}.
+     *
+     * @param packed the packed position.
+     * @return the column.
+     */
+    static int unpackX(int packed) {
+        return packed >> 16;
+    }
+
+    /**
+     * Extracts the row from a position packed by {@link #pack(int, int)}.
+     *
+     * @param packed the packed position.
+     * @return the row.
+     */
+    static int unpackY(int packed) {
+        return (short) packed;
+    }
+
     /**
      * Creates a new brick and places it on the board.
      *
@@ -167,17 +269,68 @@ public class SimpleBoard implements Board {
         int spawnX = width / 2 - 1;
         int spawnY = Constants.HIDDEN_ROWS;
 
-        currentOffset = new Point(spawnX, spawnY);
+        currentOffset = pack(spawnX, spawnY);
         holdUsedThisTurn = false;
 
         return MatrixOperations.intersect(
                 boardMatrix,
                 brickRotator.getCurrentShape(),
-                currentOffset.x,
-                currentOffset.y
+                spawnX,
+                spawnY
         );
     }
 
+    /**
+     * Gets the brick currently in play.
+     *
+     * @return the current brick, or null before the first brick is created.
+     */
+    @Override
+    public Brick getCurrentBrick() {
+        return currentBrick;
+    }
+
+    /**
+     * Gets the index of the current brick's rotation in its shape table.
+     *
+     * @return the current rotation index.
+     */
+    @Override
+    public int getCurrentRotationIndex() {
+        return brickRotator.getCurrentRotationIndex();
+    }
+
+    /**
+     * Gets the brick in the hold.
+     *
+     * @return the held brick, or null if nothing is held.
+     */
+    @Override
+    public Brick getHeldBrick() {
+        return heldBrick;
+    }
+
+    /**
+     * Checks whether the hold can still be used for the current brick.
+     *
+     * @return true if the hold has not been used since the brick spawned.
+     */
+    @Override
+    public boolean canHold() {
+        return !holdUsedThisTurn;
+    }
+
+    /**
+     * Gets the upcoming bricks without consuming them.
+     *
+     * @param count the number of bricks to look at.
+     * @return the next bricks, in the order they will spawn.
+     */
+    @Override
+    public List<Brick> getNextBricks(int count) {
+        return brickGenerator.peekNext(count);
+    }
+
     /**
      * Gets the current state of the board as a 2D integer matrix.
      *
@@ -188,6 +341,27 @@ public class SimpleBoard implements Board {
         return boardMatrix;
     }
 
+    /**
+     * Gets the cells of the board matrix that changed since the view last cleared the set.
+     *
+     * @return the live set of changed cells.
+     */
+    @Override
+    public DirtyCells getChangedCells() {
+        return changedCells;
+    }
+
+    /**
+     * Gets the Zobrist hash of the occupied cells, kept up to date by
+     * {@link #mergeBrickToBackground()} and {@link #clearRows()}.
+     *
+     * @return the board hash.
+     */
+    @Override
+    public long getBoardHash() {
+        return boardHash;
+    }
+
     /**
      * Gets the current score object.
      *
@@ -212,28 +386,40 @@ public class SimpleBoard implements Board {
     @Override
     public ViewData getViewData() {
 
-        int ghostX = currentOffset.x;
+        int ghostX = unpackX(currentOffset);
         int ghostY = computeGhostY();
 
-        var nextBricks = brickGenerator.peekNext(3);
+        var nextBricks = brickGenerator.peekNext(previewCount);
         int[][][] nextShapes = new int[nextBricks.size()][][];
         for (int i = 0; i < nextBricks.size(); i++) {
-            nextShapes[i] = nextBricks.get(i).getShapeMatrix().get(0);
+            nextShapes[i] = nextBricks.get(i).getShapes().getRotation(0).getCells();
         }
 
         int[][] heldShape = null;
         if (heldBrick != null) {
-            heldShape = heldBrick.getShapeMatrix().get(0);
+            heldShape = heldBrick.getShapes().getRotation(0).getCells();
         }
-        return new ViewData(
-                brickRotator.getCurrentShape(),
-                currentOffset.x,
-                currentOffset.y,
-                nextShapes,
-                ghostX,
-                ghostY,
-                heldShape
-        );
+        int[][] shape = brickRotator.getCurrentShape();
+        int x = unpackX(currentOffset);
+        int y = unpackY(currentOffset);
+        viewData = viewData == null
+                ? new ViewData(shape, x, y, nextShapes, ghostX, ghostY, heldShape)
+                : viewData.withState(shape, x, y, nextShapes, ghostX, ghostY, heldShape);
+        return viewData;
+    }
+
+    /**
+     * Sets how many upcoming bricks the view data includes for the preview panels.
+     *
+     * @param count the number of upcoming bricks to include.
+     * @throws IllegalArgumentException if the count is negative.
+     */
+    @Override
+    public void setPreviewCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Preview count must not be negative: " + count);
+        }
+        previewCount = count;
     }
 
     /**
@@ -256,13 +442,13 @@ public class SimpleBoard implements Board {
             Brick newBrick = brickGenerator.getBrick();
             currentBrick = newBrick;
             brickRotator.setBrick(newBrick);
-            currentOffset = new Point(spawnX, spawnY);
+            currentOffset = pack(spawnX, spawnY);
         } else {
             Brick temp = heldBrick;
             heldBrick = currentBrick;
             currentBrick = temp;
             brickRotator.setBrick(currentBrick);
-            currentOffset = new Point(spawnX, spawnY);
+            currentOffset = pack(spawnX, spawnY);
         }
 
         holdUsedThisTurn = true;
@@ -271,68 +457,208 @@ public class SimpleBoard implements Board {
     /**
      * Computes the Y-coordinate where the ghost brick should be displayed.
      * The ghost brick shows where the current brick would land if a hard drop occurred.
+     * <p>
+     * While the brick is above the skyline in every column it covers, it lands where its
+     * bottom profile first meets the skyline, which takes one step per brick column.
+     * A brick tucked under an overhang falls back to probing row by row.
      *
      * @return the Y-coordinate for the ghost brick.
      */
+    int computeGhostY() {
+        int[] bottoms = brickRotator.getCurrentRotation().getColumnBottoms();
+        int x = unpackX(currentOffset);
+        int y = unpackY(currentOffset);
+
+        int landingY = Integer.MAX_VALUE;
+        for (int col = 0; col < bottoms.length; col++) {
+            if (bottoms[col] < 0) continue;
+
+            int top = columnTop[x + col];
+            if (y + bottoms[col] >= top) {
+                return scanGhostY(x, y);
+            }
+            landingY = Math.min(landingY, top - 1 - bottoms[col]);
+        }
+        return landingY == Integer.MAX_VALUE ? y : landingY;
+    }
+
     /**
-     * Computes the Y-coordinate where the ghost brick should be displayed.
-     * The ghost brick shows where the current brick would land if a hard drop occurred.
+     * Finds the landing row by testing each row below the brick in turn.
      *
+     * @param x the column of the brick.
+     * @param y the row to start from.
      * @return the Y-coordinate for the ghost brick.
      */
-    private int computeGhostY() {
-
-        int[][] temp = MatrixOperations.copy(boardMatrix);
+    private int scanGhostY(int x, int y) {
         int[][] shape = brickRotator.getCurrentShape();
-
-        int x = currentOffset.x;
-        int y = currentOffset.y;
-
-        int testY = y;
-
-        while (true) {
-            int nextY = testY + 1;
-
-            if (MatrixOperations.intersect(temp, shape, x, nextY)) {
-                return testY;
-            }
-
-            testY = nextY;
+        while (!MatrixOperations.intersect(boardMatrix, shape, x, y + 1)) {
+            y++;
         }
+        return y;
     }
 
     /**
      * Merges the current brick into the board's background.
      * This typically happens when a brick lands.
+     * <p>
+     * The cells are written in place and the per-row fill counts are updated, so that
+     * {@link #clearRows()} only needs to look at the rows this brick touched.
      *
      * @return the type of the merged brick.
      */
     @Override
     public BrickType mergeBrickToBackground() {
-
-        boardMatrix = MatrixOperations.merge(
-                boardMatrix,
-                brickRotator.getCurrentShape(),
-                currentOffset.x,
-                currentOffset.y
-        );
+        int[][] shape = brickRotator.getCurrentShape();
+        int x = unpackX(currentOffset);
+        int y = unpackY(currentOffset);
+
+        mergedTop = -1;
+        mergedBottom = -1;
+        for (int row = 0; row < shape.length; row++) {
+            for (int col = 0; col < shape[row].length; col++) {
+
+                if (shape[row][col] == 0) continue;
+
+                int targetRow = y + row;
+                int[] boardRow = boardMatrix[targetRow];
+                if (boardRow[x + col] == 0) {
+                    rowFill[targetRow]++;
+                    boardHash ^= Zobrist.cell(targetRow, x + col);
+                }
+                boardRow[x + col] = shape[row][col];
+                columnTop[x + col] = Math.min(columnTop[x + col], targetRow);
+                changedCells.mark(targetRow, x + col);
+
+                if (mergedTop < 0) mergedTop = targetRow;
+                mergedBottom = targetRow;
+            }
+        }
+        if (mergedTop >= 0) {
+            stackTop = Math.min(stackTop, mergedTop);
+        }
         holdUsedThisTurn = false;
         return currentBrick.getBrickType();
     }
 
     /**
-     * Clears any completed rows from the board and plays a sound effect if rows were cleared.
+     * Clears any completed rows from the board.
+     * <p>
+     * Only the rows touched by the last merge can have become full, so only those are checked.
+     * Full rows are removed by shifting the row references above them down in place; their
+     * arrays are zeroed and reused as the new empty rows at the top of the stack.
      *
      * @return a ClearRow object containing information about the cleared rows.
      */
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(boardMatrix);
-        if (clearRow.getLinesRemoved() > 0) {
-            AudioManager.getInstance().playLineClear();
+        int cleared = 0;
+        if (mergedTop >= 0) {
+            for (int r = mergedTop; r <= mergedBottom; r++) {
+                if (rowFill[r] == width) cleared++;
+            }
+        }
+
+        if (cleared == 0) {
+            mergedTop = mergedBottom = -1;
+            return new ClearRow(0, boardMatrix, 0, NO_ROWS);
+        }
+
+        int[] clearedRows = new int[cleared];
+        int[][] freed = new int[cleared][];
+        int found = 0;
+        for (int r = mergedTop; r <= mergedBottom; r++) {
+            if (rowFill[r] == width) {
+                clearedRows[found] = r;
+                freed[found++] = boardMatrix[r];
+            }
+        }
+
+        // Rows below the merged range are untouched; shift the rest of the stack down
+        changedCells.markRows(stackTop, mergedBottom);
+        int shiftedTop = stackTop;
+        boardHash ^= hashRows(shiftedTop, mergedBottom);
+        int writeRow = mergedBottom;
+        for (int r = mergedBottom; r >= stackTop; r--) {
+            if (r >= mergedTop && rowFill[r] == width) continue;
+            boardMatrix[writeRow] = boardMatrix[r];
+            rowFill[writeRow] = rowFill[r];
+            writeRow--;
+        }
+        for (int[] row : freed) {
+            Arrays.fill(row, 0);
+            boardMatrix[writeRow] = row;
+            rowFill[writeRow] = 0;
+            writeRow--;
+        }
+        boardHash ^= hashRows(shiftedTop, mergedBottom);
+        stackTop += cleared;
+        mergedTop = mergedBottom = -1;
+        updateSkyline(cleared);
+
+        // Score bonus: 1 line = 50, 2 lines = 200, 3 lines = 450, 4 lines = 800
+        int scoreBonus = 50 * cleared * cleared;
+        return new ClearRow(cleared, boardMatrix, scoreBonus, clearedRows);
+    }
+
+    /**
+     * Hashes a range of rows. XORing the range out before a shift and back in after it
+     * updates {@link #boardHash} without touching the rows the shift left alone.
+     *
+     * @param from the first row, inclusive.
+     * @param to the last row, inclusive.
+     * @return the XOR of the keys of the occupied cells in the range.
+     */
+    private long hashRows(int from, int to) {
+        long hash = 0;
+        for (int r = from; r <= to; r++) {
+            hash ^= Zobrist.row(r, boardMatrix[r]);
+        }
+        return hash;
+    }
+
+    /**
+     * Moves the skyline down after rows were removed. Every column had a block in each
+     * cleared row, so the rows above its old top are still empty and the new top is found
+     * by scanning down from the shifted old top.
+     *
+     * @param cleared the number of rows removed.
+     */
+    private void updateSkyline(int cleared) {
+        for (int c = 0; c < width; c++) {
+            int r = Math.min(columnTop[c] + cleared, height);
+            while (r < height && boardMatrix[r][c] == 0) {
+                r++;
+            }
+            columnTop[c] = r;
+        }
+    }
+
+    /**
+     * Replaces the background with a copy of the given cells and rebuilds the row counts and skyline.
+     * Used to start the board from a prepared position, such as a benchmark fixture.
+     *
+     * @param cells the background, with the board's dimensions.
+     */
+    void loadBackground(int[][] cells) {
+        stackTop = height;
+        Arrays.fill(columnTop, height);
+        for (int r = 0; r < height; r++) {
+            int[] row = boardMatrix[r];
+            System.arraycopy(cells[r], 0, row, 0, width);
+            int fill = 0;
+            for (int c = 0; c < width; c++) {
+                if (row[c] == 0) continue;
+                fill++;
+                columnTop[c] = Math.min(columnTop[c], r);
+            }
+            rowFill[r] = fill;
+            if (fill > 0) {
+                stackTop = Math.min(stackTop, r);
+            }
         }
-        boardMatrix = clearRow.getNewBoard();
-        return clearRow;
+        mergedTop = mergedBottom = -1;
+        boardHash = Zobrist.of(boardMatrix);
+        changedCells.markAll();
     }
 
     /**
@@ -341,6 +667,12 @@ public class SimpleBoard implements Board {
     @Override
     public void newGame() {
         boardMatrix = new int[height][width];
+        Arrays.fill(rowFill, 0);
+        stackTop = height;
+        Arrays.fill(columnTop, height);
+        mergedTop = mergedBottom = -1;
+        boardHash = 0;
+        changedCells.markAll();
         heldBrick = null;
         currentBrick = null;
         holdUsedThisTurn = false;
@@ -0,0 +1,98 @@
+package com.comp2042.logic.board;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist keys for board occupancy: one fixed random 64-bit key per cell.
+ * <p>
+ * The hash of a board is the XOR of the keys of its occupied cells, so filling or emptying a
+ * cell updates it with a single XOR, and two boards with the same occupied cells hash the same
+ * whichever order they were built in. Cell colors are not part of the hash. The keys come from a
+ * fixed seed, so hashes are stable across runs and threads.
+ */
+public final class Zobrist {
+
+    /** The number of rows keys exist for. */
+    public static final int MAX_ROWS = 64;
+    /** The number of columns keys exist for; rows are also handled as 32-bit masks. */
+    public static final int MAX_COLUMNS = Integer.SIZE;
+
+    /** The seed the keys are drawn from. */
+    private static final long SEED = 0x2042_5EEDL;
+    /** The key of each cell, by {@code row * MAX_COLUMNS + column}. */
+    private static final long[] KEYS = new long[MAX_ROWS * MAX_COLUMNS];
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < KEYS.length; i++) {
+            KEYS[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private Zobrist() {}
+
+    /**
+     * Returns the key of one cell.
+     *
+     * @param row the row of the cell.
+     * @param column the column of the cell.
+     * @return the cell's key.
+     */
+    public static long cell(int row, int column) {
+        return KEYS[row * MAX_COLUMNS + column];
+    }
+
+    /**
+     * Hashes the occupied cells of one row given as a bitmask.
+     *
+     * @param row the row.
+     * @param mask the occupied columns, bit {@code c} for column {@code c}.
+     * @return the XOR of the keys of the occupied cells, or 0 for an empty row.
+     */
+    public static long row(int row, int mask) {
+        long hash = 0;
+        int base = row * MAX_COLUMNS;
+        while (mask != 0) {
+            hash ^= KEYS[base + Integer.numberOfTrailingZeros(mask)];
+            mask &= mask - 1;
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes the occupied cells of one row given as cell values.
+     *
+     * @param row the row.
+     * @param cells the row's cells; any non-zero cell counts as occupied.
+     * @return the XOR of the keys of the occupied cells, or 0 for an empty row.
+     */
+    public static long row(int row, int[] cells) {
+        long hash = 0;
+        int base = row * MAX_COLUMNS;
+        for (int c = 0; c < cells.length; c++) {
+            if (cells[c] != 0) hash ^= KEYS[base + c];
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes a whole board matrix.
+     *
+     * @param matrix the board; any non-zero cell counts as occupied.
+     * @return the hash of the occupied cells.
+     * @throws IllegalArgumentException if the board is larger than the key table.
+     */
+    public static long of(int[][] matrix) {
+        if (matrix.length > MAX_ROWS || (matrix.length > 0 && matrix[0].length > MAX_COLUMNS)) {
+            throw new IllegalArgumentException("Board is too large to hash: " + matrix.length + " rows");
+        }
+        long hash = 0;
+        for (int r = 0; r < matrix.length; r++) {
+            hash ^= row(r, matrix[r]);
+        }
+        return hash;
+    }
+}
@@ -14,6 +14,18 @@ public interface Brick {
      */
     List<int[][]> getShapeMatrix();
 
+    /**
+     * Gets the shared, read-only shape table of the brick. Unlike {@link #getShapeMatrix()}
+     * this does not copy, so it is the accessor to use on hot paths such as spawning and rendering.
+     * The default implementation builds a table from {@link #getShapeMatrix()}; the standard bricks
+     * override it to return a table built once at class load.
+     *
+     * @return the brick's shape table.
+     */
+    default ShapeTable getShapes() {
+        return ShapeTable.of(getShapeMatrix());
+    }
+
     /**
      * Gets the type of the brick.
      *
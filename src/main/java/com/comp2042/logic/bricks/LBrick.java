@@ -1,7 +1,5 @@
 package com.comp2042.logic.bricks;
 
-import com.comp2042.logic.board.MatrixOperations;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -9,50 +7,53 @@ import java.util.List;
  */
 public final class LBrick implements Brick {
 
-    /** A list of 2D integer arrays, each representing a rotation of the 'L' brick. */
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+    /** The rotation states of the 'L' brick, built once at class load and shared by every instance. */
+    private static final ShapeTable SHAPES = ShapeTable.of(
+            // 0°
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {3, 3, 3, 0},
+                    {3, 0, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            // 90°
+            new int[][]{
+                    {0, 3, 0, 0},
+                    {0, 3, 0, 0},
+                    {0, 3, 3, 0},
+                    {0, 0, 0, 0}
+            },
+            // 180°
+            new int[][]{
+                    {0, 0, 3, 0},
+                    {3, 3, 3, 0},
+                    {0, 0, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            // 270°
+            new int[][]{
+                    {3, 3, 0, 0},
+                    {0, 3, 0, 0},
+                    {0, 3, 0, 0},
+                    {0, 0, 0, 0}
+            }
+    );
 
     /**
-     * Constructs an LBrick, initializing its rotation matrices.
+     * Constructs an LBrick. The shape data is shared through {@link #SHAPES}.
      */
     public LBrick() {
-
-        // 0°
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {3, 3, 3, 0},
-                {3, 0, 0, 0},
-                {0, 0, 0, 0}
-        });
-
-        // 90°
-        brickMatrix.add(new int[][]{
-                {0, 3, 0, 0},
-                {0, 3, 0, 0},
-                {0, 3, 3, 0},
-                {0, 0, 0, 0}
-        });
-
-        // 180°
-        brickMatrix.add(new int[][]{
-                {0, 0, 3, 0},
-                {3, 3, 3, 0},
-                {0, 0, 0, 0},
-                {0, 0, 0, 0}
-        });
-
-        // 270°
-        brickMatrix.add(new int[][]{
-                {3, 3, 0, 0},
-                {0, 3, 0, 0},
-                {0, 3, 0, 0},
-                {0, 0, 0, 0}
-        });
+        // Shapes are shared; nothing to initialize per instance
     }
 
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return SHAPES.copyMatrices();
+    }
+
+    @Override
+    public ShapeTable getShapes() {
+        return SHAPES;
     }
 
     @Override
@@ -1,7 +1,5 @@
 package com.comp2042.logic.bricks;
 
-import com.comp2042.logic.board.MatrixOperations;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -9,24 +7,31 @@ import java.util.List;
  */
 public final class OBrick implements Brick {
 
-    /** A list of 2D integer arrays, each representing a rotation of the 'O' brick. */
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+    /** The rotation states of the 'O' brick, built once at class load and shared by every instance. */
+    private static final ShapeTable SHAPES = ShapeTable.of(
+            new int[][]{
+                    {0, 0, 0, 0}, // NEW: Empty Row 0
+                    {0, 4, 4, 0}, // Row 1 (The piece itself)
+                    {0, 4, 4, 0}, // Row 2 (The piece itself)
+                    {0, 0, 0, 0}  // Row 3
+            }
+    );
 
     /**
-     * Constructs an OBrick, initializing its rotation matrices.
+     * Constructs an OBrick. The shape data is shared through {@link #SHAPES}.
      */
     public OBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0}, // NEW: Empty Row 0
-                {0, 4, 4, 0}, // Row 1 (The piece itself)
-                {0, 4, 4, 0}, // Row 2 (The piece itself)
-                {0, 0, 0, 0}  // Row 3
-        });
+        // Shapes are shared; nothing to initialize per instance
     }
 
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return SHAPES.copyMatrices();
+    }
+
+    @Override
+    public ShapeTable getShapes() {
+        return SHAPES;
     }
 
     @Override
@@ -5,24 +5,41 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 import com.comp2042.logic.scoring.Score;
 
 /**
  * A brick generation strategy that uses a "bag" of bricks to ensure a random but fair distribution.
+ * <p>
+ * The next {@link #DECIDED_BRICKS} bricks are decided, including whether a slow brick cuts in,
+ * each time a brick is handed out, so the sequence for a seed does not depend on how far ahead
+ * the game previews. Previews deeper than that show the bag bricks that come next; a slow brick
+ * decided later is inserted before them. The bag and the slow brick rolls draw from separate
+ * random streams, so drawing bag bricks early for a preview changes neither.
  */
 public class RandomBrickGenerationStrategy implements BrickGenerationStrategy {
 
     /** The probability (0.0-1.0) of generating a Slow Brick when the level is 3 or higher. */
     private static final double SLOW_BRICK_CHANCE = 0.10;
+    /** The number of upcoming bricks that are decided, slow brick rolls included. */
+    static final int DECIDED_BRICKS = 3;
 
     /** The game's score object, used to determine the current level. */
     private final Score score;
+    /** The random source for the bag shuffle; one per game, never shared. */
+    private final RandomGenerator random;
+    /** The random source for the slow brick roll, split from {@link #random} at construction. */
+    private final RandomGenerator slowRandom;
 
-    /** A queue of bricks ready to be delivered to the game. */
+    /** A queue of decided bricks ready to be delivered to the game. */
     private final Deque<Brick> nextBricks = new ArrayDeque<>();
+    /** Bag bricks drawn early for a deep preview, in order, not yet decided. */
+    private final Deque<Brick> previewBricks = new ArrayDeque<>();
     /** A list of bricks representing the current "bag" for random selection. */
     private List<Brick> bag = new ArrayList<>();
+    /** The last brick drawn from the bag, or null before the first. */
+    private Brick lastDrawn;
 
     /**
      * Constructs a new RandomBrickGenerationStrategy.
@@ -30,9 +47,22 @@ public class RandomBrickGenerationStrategy implements BrickGenerationStrategy {
      * @param score the score object to be used for level-based logic.
      */
     public RandomBrickGenerationStrategy(Score score) {
+        this(score, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new RandomBrickGenerationStrategy drawing from the given random source.
+     * Two strategies built with equally seeded sources deliver the same brick sequence.
+     *
+     * @param score the score object to be used for level-based logic.
+     * @param random the random source for this game.
+     */
+    public RandomBrickGenerationStrategy(Score score, RandomGenerator random) {
         this.score = score;
+        this.random = random;
+        this.slowRandom = new SplittableRandom(random.nextLong());
         refillBag();
-        ensureQueueSize(3);
+        ensureQueueSize(DECIDED_BRICKS);
     }
 
     /**
@@ -46,7 +76,7 @@ public class RandomBrickGenerationStrategy implements BrickGenerationStrategy {
     /**
      * Refills the internal bag with a new set of all seven standard Tetris bricks (I, J, L, O, S, T, Z)
      * and shuffles them. Ensures that the first brick in the new bag is not the same type as the last
-     * brick delivered, if possible.
+     * brick drawn from the previous bag, if possible.
      */
     private void refillBag() {
         List<Brick> fresh = new ArrayList<>(7);
@@ -58,12 +88,11 @@ public class RandomBrickGenerationStrategy implements BrickGenerationStrategy {
         fresh.add(new TBrick());
         fresh.add(new ZBrick());
 
-        Collections.shuffle(fresh, ThreadLocalRandom.current());
+        Collections.shuffle(fresh, random);
         bag = fresh;
 
-        if (!nextBricks.isEmpty() && !bag.isEmpty()) {
-            Brick tail = nextBricks.peekLast();
-            if (tail != null && tail.getClass().equals(bag.get(0).getClass())) {
+        if (lastDrawn != null && !bag.isEmpty()) {
+            if (lastDrawn.getClass().equals(bag.get(0).getClass())) {
                 Brick first = bag.remove(0);
                 bag.add(first);
             }
@@ -72,23 +101,32 @@ public class RandomBrickGenerationStrategy implements BrickGenerationStrategy {
 
     /**
      * Ensures that the {@code nextBricks} queue has at least {@code minSize} bricks.
-     * If the queue falls below {@code minSize}, new bricks are added from the bag,
-     * refilling the bag if necessary.
+     * If the queue falls below {@code minSize}, each new brick is either a slow brick or the next
+     * bag brick, preferring bag bricks already drawn for a preview.
      * @param minSize The minimum desired size of the {@code nextBricks} queue.
      */
     private void ensureQueueSize(int minSize) {
         while (nextBricks.size() < minSize) {
-            if (score.getLevel() >= 3 && ThreadLocalRandom.current().nextDouble() < SLOW_BRICK_CHANCE) {
+            if (score.getLevel() >= 3 && slowRandom.nextDouble() < SLOW_BRICK_CHANCE) {
                 nextBricks.add(new SlowBrick());
             } else {
-                if (bag.isEmpty()) {
-                    refillBag();
-                }
-                nextBricks.add(bag.remove(0));
+                nextBricks.add(previewBricks.isEmpty() ? drawFromBag() : previewBricks.poll());
             }
         }
     }
 
+    /**
+     * Takes the next brick from the bag, refilling the bag if it is empty.
+     * @return The brick.
+     */
+    private Brick drawFromBag() {
+        if (bag.isEmpty()) {
+            refillBag();
+        }
+        lastDrawn = bag.remove(0);
+        return lastDrawn;
+    }
+
     /**
      * Generates the next brick to be used in the game.
      * This method also incorporates logic to potentially introduce a {@code SlowBrick}
@@ -100,7 +138,7 @@ public class RandomBrickGenerationStrategy implements BrickGenerationStrategy {
     public Brick generateNextBrick() {
         ensureQueueSize(1);
         Brick current = nextBricks.poll();
-        ensureQueueSize(3);
+        ensureQueueSize(DECIDED_BRICKS);
         return current;
     }
 
@@ -128,18 +166,25 @@ public class RandomBrickGenerationStrategy implements BrickGenerationStrategy {
      */
     /**
      * Peeks at the next 'count' bricks in the sequence without consuming them.
-     * Ensures the queue has enough bricks, refilling the bag if necessary.
+     * The first {@link #DECIDED_BRICKS} are the bricks that will be delivered; deeper ones are the
+     * bag bricks that follow, drawn from the bag as needed, before any slow brick decided later.
+     * Peeking never decides a brick, so it does not change the sequence.
      * The returned list is unmodifiable.
      *
      * @param count The number of bricks to peek.
      * @return A list of the next {@code Brick} objects.
      */
     public List<Brick> peekNextBricks(int count) {
-        ensureQueueSize(Math.max(1, count));
-        List<Brick> result = new ArrayList<>();
-        int i = 0;
+        while (nextBricks.size() + previewBricks.size() < count) {
+            previewBricks.add(drawFromBag());
+        }
+        List<Brick> result = new ArrayList<>(count);
         for (Brick b : nextBricks) {
-            if (i++ >= count) break;
+            if (result.size() >= count) break;
+            result.add(b);
+        }
+        for (Brick b : previewBricks) {
+            if (result.size() >= count) break;
             result.add(b);
         }
         return Collections.unmodifiableList(result);
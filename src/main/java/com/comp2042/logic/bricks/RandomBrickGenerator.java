@@ -2,6 +2,7 @@ package com.comp2042.logic.bricks;
 
 import com.comp2042.logic.scoring.Score;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * A brick generator that uses a strategy to create new bricks.
@@ -22,8 +23,28 @@ public final class RandomBrickGenerator implements BrickGenerator {
      * @param score the score object to be used by the generation strategy.
      */
     public RandomBrickGenerator(Score score) {
-        this.strategy = new RandomBrickGenerationStrategy(score);
-        this.randomStrategy = (RandomBrickGenerationStrategy) this.strategy;
+        this(new RandomBrickGenerationStrategy(score));
+    }
+
+    /**
+     * Constructs a new RandomBrickGenerator whose brick sequence is fixed by a seed.
+     * Generators built with the same seed deliver the same bricks for the same score progression.
+     *
+     * @param score the score object to be used by the generation strategy.
+     * @param seed the seed of the brick sequence.
+     */
+    public RandomBrickGenerator(Score score, long seed) {
+        this(new RandomBrickGenerationStrategy(score, new SplittableRandom(seed)));
+    }
+
+    /**
+     * Constructs a new RandomBrickGenerator around the given random strategy.
+     *
+     * @param strategy the strategy to draw bricks from.
+     */
+    private RandomBrickGenerator(RandomBrickGenerationStrategy strategy) {
+        this.strategy = strategy;
+        this.randomStrategy = strategy;
     }
 
     /**
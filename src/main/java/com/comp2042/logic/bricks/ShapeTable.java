@@ -0,0 +1,260 @@
+package com.comp2042.logic.bricks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable table of the rotation states of a brick.
+ * <p>
+ * The standard bricks build their table once when the class is loaded and share it between
+ * every instance, so spawning a piece or rendering a preview never copies shape data.
+ * Each rotation also carries its bounding box and a bitmask form of every row.
+ * <p>
+ * The matrices returned by {@link Rotation#getCells()} are shared and must be treated as read-only;
+ * use {@link Brick#getShapeMatrix()} when a private, modifiable copy is needed.
+ */
+public final class ShapeTable {
+
+    /** The rotation states, in clockwise order starting from the spawn orientation. */
+    private final List<Rotation> rotations;
+    /** The widest matrix row over all rotations. */
+    private final int maxWidth;
+
+    /**
+     * Constructs a new ShapeTable from the given rotation matrices.
+     *
+     * @param shapes the rotation matrices; they are copied once and never exposed for writing.
+     */
+    private ShapeTable(List<int[][]> shapes) {
+        if (shapes.isEmpty()) {
+            throw new IllegalArgumentException("A shape table needs at least one rotation.");
+        }
+        List<Rotation> built = new ArrayList<>(shapes.size());
+        int widest = 0;
+        for (int[][] shape : shapes) {
+            Rotation rotation = new Rotation(shape);
+            widest = Math.max(widest, rotation.width);
+            built.add(rotation);
+        }
+        this.rotations = Collections.unmodifiableList(built);
+        this.maxWidth = widest;
+    }
+
+    /**
+     * Builds a shape table for the given rotation matrices.
+     *
+     * @param shapes the rotation matrices of the brick, in rotation order.
+     * @return a new shape table.
+     * @throws IllegalArgumentException if {@code shapes} is empty.
+     */
+    public static ShapeTable of(List<int[][]> shapes) {
+        return new ShapeTable(shapes);
+    }
+
+    /**
+     * Builds a shape table for the given rotation matrices.
+     *
+     * @param shapes the rotation matrices of the brick, in rotation order.
+     * @return a new shape table.
+     * @throws IllegalArgumentException if no shapes are given.
+     */
+    public static ShapeTable of(int[][]... shapes) {
+        return new ShapeTable(List.of(shapes));
+    }
+
+    /**
+     * Returns the number of rotation states.
+     *
+     * @return the rotation count.
+     */
+    public int getRotationCount() {
+        return rotations.size();
+    }
+
+    /**
+     * Returns a rotation state.
+     *
+     * @param index the rotation index.
+     * @return the rotation at that index.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public Rotation getRotation(int index) {
+        return rotations.get(index);
+    }
+
+    /**
+     * Returns the widest matrix row over all rotations.
+     *
+     * @return the maximum matrix width.
+     */
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    /**
+     * Returns deep copies of every rotation matrix, for callers that need to modify them.
+     *
+     * @return a new list of new matrices.
+     */
+    public List<int[][]> copyMatrices() {
+        List<int[][]> copies = new ArrayList<>(rotations.size());
+        for (Rotation rotation : rotations) {
+            copies.add(copy(rotation.cells));
+        }
+        return copies;
+    }
+
+    /**
+     * Deep copies a matrix.
+     *
+     * @param matrix the matrix to copy.
+     * @return the copy.
+     */
+    private static int[][] copy(int[][] matrix) {
+        int[][] copy = new int[matrix.length][];
+        for (int r = 0; r < matrix.length; r++) {
+            copy[r] = matrix[r].clone();
+        }
+        return copy;
+    }
+
+    /**
+     * One rotation state of a brick: its cell matrix, bounding box, per-row bitmasks
+     * and the lowest occupied cell of every column.
+     */
+    public static final class Rotation {
+
+        /** The cell values of this rotation; zero means empty. */
+        private final int[][] cells;
+        /** One bitmask per matrix row, with bit {@code c} set when column {@code c} is occupied. */
+        private final int[] rowMasks;
+        /** The lowest occupied row of each matrix column, or -1 for an empty column. */
+        private final int[] columnBottoms;
+        /** The widest row of the matrix. */
+        private final int width;
+        /** The first occupied row, or -1 if the shape is empty. */
+        private final int minRow;
+        /** The last occupied row, or -1 if the shape is empty. */
+        private final int maxRow;
+        /** The first occupied column, or -1 if the shape is empty. */
+        private final int minCol;
+        /** The last occupied column, or -1 if the shape is empty. */
+        private final int maxCol;
+
+        /**
+         * Builds a rotation state from its matrix.
+         *
+         * @param shape the cell matrix; copied so later changes to it have no effect.
+         */
+        private Rotation(int[][] shape) {
+            this.cells = copy(shape);
+            this.rowMasks = new int[shape.length];
+
+            int w = 0;
+            int top = -1, bottom = -1, left = Integer.MAX_VALUE, right = -1;
+            for (int row = 0; row < shape.length; row++) {
+                w = Math.max(w, shape[row].length);
+                int mask = 0;
+                for (int col = 0; col < shape[row].length; col++) {
+                    if (shape[row][col] == 0) continue;
+                    if (col >= Integer.SIZE) {
+                        throw new IllegalArgumentException("Shapes wider than " + Integer.SIZE + " cells are not supported.");
+                    }
+                    mask |= 1 << col;
+                    if (top < 0) top = row;
+                    bottom = row;
+                    left = Math.min(left, col);
+                    right = Math.max(right, col);
+                }
+                rowMasks[row] = mask;
+            }
+            this.width = w;
+            this.columnBottoms = new int[w];
+            Arrays.fill(columnBottoms, -1);
+            for (int row = 0; row < shape.length; row++) {
+                for (int col = 0; col < shape[row].length; col++) {
+                    if (shape[row][col] != 0) columnBottoms[col] = row;
+                }
+            }
+            this.minRow = top;
+            this.maxRow = bottom;
+            this.minCol = right < 0 ? -1 : left;
+            this.maxCol = right;
+        }
+
+        /**
+         * Returns the shared cell matrix of this rotation. It must not be modified.
+         *
+         * @return the cell matrix.
+         */
+        public int[][] getCells() {
+            return cells;
+        }
+
+        /**
+         * Returns the shared row bitmasks of this rotation. They must not be modified.
+         *
+         * @return one mask per matrix row.
+         */
+        public int[] getRowMasks() {
+            return rowMasks;
+        }
+
+        /**
+         * Returns the lowest occupied row of every column, the piece's bottom profile.
+         * The array is shared and must not be modified.
+         *
+         * @return one row index per matrix column, or -1 where the column is empty.
+         */
+        public int[] getColumnBottoms() {
+            return columnBottoms;
+        }
+
+        /**
+         * Returns the widest row of the matrix.
+         *
+         * @return the matrix width.
+         */
+        public int getWidth() {
+            return width;
+        }
+
+        /**
+         * Returns the first occupied row of the bounding box.
+         *
+         * @return the top row, or -1 if the shape is empty.
+         */
+        public int getMinRow() {
+            return minRow;
+        }
+
+        /**
+         * Returns the last occupied row of the bounding box.
+         *
+         * @return the bottom row, or -1 if the shape is empty.
+         */
+        public int getMaxRow() {
+            return maxRow;
+        }
+
+        /**
+         * Returns the first occupied column of the bounding box.
+         *
+         * @return the left column, or -1 if the shape is empty.
+         */
+        public int getMinCol() {
+            return minCol;
+        }
+
+        /**
+         * Returns the last occupied column of the bounding box.
+         *
+         * @return the right column, or -1 if the shape is empty.
+         */
+        public int getMaxCol() {
+            return maxCol;
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package com.comp2042.logic.bricks;
 
-import com.comp2042.logic.board.MatrixOperations;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -9,25 +7,32 @@ import java.util.List;
  */
 public final class SlowBrick implements Brick {
 
-    /** A list of 2D integer arrays, each representing a rotation of the 'SLOW' brick. */
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+    /** The rotation states of the 'SLOW' brick, built once at class load and shared by every instance. */
+    private static final ShapeTable SHAPES = ShapeTable.of(
+            // A simple 2x2 shape for the SlowBrick
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 8, 8, 0},
+                    {0, 8, 8, 0},
+                    {0, 0, 0, 0}
+            }
+    );
 
     /**
-     * Constructs a SlowBrick, initializing its rotation matrices.
+     * Constructs a SlowBrick. The shape data is shared through {@link #SHAPES}.
      */
     public SlowBrick() {
-        // A simple 2x2 shape for the SlowBrick
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 8, 8, 0},
-                {0, 8, 8, 0},
-                {0, 0, 0, 0}
-        });
+        // Shapes are shared; nothing to initialize per instance
     }
 
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return SHAPES.copyMatrices();
+    }
+
+    @Override
+    public ShapeTable getShapes() {
+        return SHAPES;
     }
 
     @Override
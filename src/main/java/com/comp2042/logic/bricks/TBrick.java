@@ -1,7 +1,5 @@
 package com.comp2042.logic.bricks;
 
-import com.comp2042.logic.board.MatrixOperations;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -9,50 +7,53 @@ import java.util.List;
  */
 public final class TBrick implements Brick {
 
-    /** A list of 2D integer arrays, each representing a rotation of the 'T' brick. */
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+    /** The rotation states of the 'T' brick, built once at class load and shared by every instance. */
+    private static final ShapeTable SHAPES = ShapeTable.of(
+            // 0°
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {6, 6, 6, 0},
+                    {0, 6, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            // 90°
+            new int[][]{
+                    {0, 6, 0, 0},
+                    {6, 6, 0, 0},
+                    {0, 6, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            // 180°
+            new int[][]{
+                    {0, 6, 0, 0},
+                    {6, 6, 6, 0},
+                    {0, 0, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            // 270°
+            new int[][]{
+                    {0, 6, 0, 0},
+                    {0, 6, 6, 0},
+                    {0, 6, 0, 0},
+                    {0, 0, 0, 0}
+            }
+    );
 
     /**
-     * Constructs a TBrick, initializing its rotation matrices.
+     * Constructs a TBrick. The shape data is shared through {@link #SHAPES}.
      */
     public TBrick() {
-
-        // 0°
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {6, 6, 6, 0},
-                {0, 6, 0, 0},
-                {0, 0, 0, 0}
-        });
-
-        // 90°
-        brickMatrix.add(new int[][]{
-                {0, 6, 0, 0},
-                {6, 6, 0, 0},
-                {0, 6, 0, 0},
-                {0, 0, 0, 0}
-        });
-
-        // 180°
-        brickMatrix.add(new int[][]{
-                {0, 6, 0, 0},
-                {6, 6, 6, 0},
-                {0, 0, 0, 0},
-                {0, 0, 0, 0}
-        });
-
-        // 270°
-        brickMatrix.add(new int[][]{
-                {0, 6, 0, 0},
-                {0, 6, 6, 0},
-                {0, 6, 0, 0},
-                {0, 0, 0, 0}
-        });
+        // Shapes are shared; nothing to initialize per instance
     }
 
     @Override
     public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        return SHAPES.copyMatrices();
+    }
+
+    @Override
+    public ShapeTable getShapes() {
+        return SHAPES;
     }
 
     @Override
@@ -0,0 +1,209 @@
+package com.comp2042.logic.engine;
+
+import com.comp2042.logic.board.Board;
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.movement.ClearRow;
+import com.comp2042.logic.movement.EventType;
+import com.comp2042.logic.scoring.Score;
+import com.comp2042.model.ViewData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the rules of the game on a {@link Board} without any JavaFX or audio dependency.
+ * <p>
+ * The engine owns the lock, clear, score and spawn sequence. Callers drive it with
+ * {@link #tick()} for gravity and {@link #step(EventType)} for player input, and observe it
+ * through {@link GameListener}s, so the same rules run in the UI, on a server or in a batch job.
+ */
+public class GameEngine {
+
+    /** The board the rules are applied to. */
+    private final Board board;
+    /** The listeners notified of game events. */
+    private final List<GameListener> listeners = new ArrayList<>();
+    /** Whether the last spawn overlapped the stack. */
+    private boolean gameOver;
+    /** The number of bricks locked since the last new game. */
+    private long bricksLocked;
+
+    /**
+     * Constructs a new GameEngine and spawns the first brick.
+     *
+     * @param board the board to play on.
+     */
+    public GameEngine(Board board) {
+        this.board = board;
+        gameOver = board.createNewBrick();
+    }
+
+    /**
+     * Registers a listener for game events.
+     *
+     * @param listener the listener to add.
+     */
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener the listener to remove.
+     */
+    public void removeListener(GameListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Advances gravity by one step: the current brick moves down one row, or locks if it cannot.
+     *
+     * @return the clear result if the brick locked, or null if it only moved.
+     */
+    public ClearRow tick() {
+        if (board.moveBrickDown()) {
+            return null;
+        }
+        return lockBrick();
+    }
+
+    /**
+     * Drops the current brick to its landing row and locks it.
+     *
+     * @return the clear result of the lock.
+     */
+    public ClearRow hardDrop() {
+        board.hardDropBrick();
+        return lockBrick();
+    }
+
+    /**
+     * Applies one player action.
+     * {@link EventType#DOWN} and {@link EventType#HARD_DROP} may lock the brick; use
+     * {@link #tick()} or {@link #hardDrop()} directly when the clear result is needed.
+     *
+     * @param type the action to apply.
+     * @return true if the board changed.
+     */
+    public boolean step(EventType type) {
+        return switch (type) {
+            case LEFT -> board.moveBrickLeft();
+            case RIGHT -> board.moveBrickRight();
+            case ROTATE -> rotate();
+            case HOLD -> {
+                board.holdCurrentBrick();
+                yield true;
+            }
+            case DOWN -> {
+                tick();
+                yield true;
+            }
+            case HARD_DROP -> {
+                hardDrop();
+                yield true;
+            }
+        };
+    }
+
+    /**
+     * Rotates the current brick and notifies the listeners.
+     *
+     * @return true if the brick rotated.
+     */
+    private boolean rotate() {
+        boolean rotated = board.rotateLeftBrick();
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onRotated();
+        }
+        return rotated;
+    }
+
+    /**
+     * Merges the current brick, clears full rows, updates the score and spawns the next brick.
+     *
+     * @return the clear result.
+     */
+    private ClearRow lockBrick() {
+        BrickType type = board.mergeBrickToBackground();
+        bricksLocked++;
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onBrickLocked(type);
+        }
+
+        ClearRow clearRow = board.clearRows();
+        if (clearRow.getLinesRemoved() > 0) {
+            Score score = board.getScore();
+            score.add(clearRow.getScoreBonus());
+            score.addClearedRows(clearRow.getLinesRemoved());
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onLinesCleared(clearRow);
+            }
+        }
+
+        if (board.createNewBrick()) {
+            gameOver = true;
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onGameOver();
+            }
+        }
+        return clearRow;
+    }
+
+    /**
+     * Resets the board and score and spawns the first brick of a new game.
+     */
+    public void newGame() {
+        board.newGame();
+        gameOver = false;
+        bricksLocked = 0;
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onNewGame();
+        }
+    }
+
+    /**
+     * Checks whether the game has ended.
+     *
+     * @return true once a spawned brick overlapped the stack.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Returns the number of bricks locked since the last new game.
+     *
+     * @return the locked brick count.
+     */
+    public long getBricksLocked() {
+        return bricksLocked;
+    }
+
+    /**
+     * Returns the board the engine plays on.
+     *
+     * @return the board.
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Returns the score of the current game.
+     *
+     * @return the score.
+     */
+    public Score getScore() {
+        return board.getScore();
+    }
+
+    /**
+     * Returns the data the view needs to draw the current state.
+     *
+     * @return the view data.
+     */
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+}
@@ -0,0 +1,43 @@
+package com.comp2042.logic.engine;
+
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.movement.ClearRow;
+
+/**
+ * Receives the events of a {@link GameEngine}.
+ * <p>
+ * The UI and audio layers subscribe to the engine through this interface instead of being
+ * called by the rules directly. Every method has an empty default, so a listener only
+ * overrides the events it cares about.
+ */
+public interface GameListener {
+
+    /**
+     * Called after the current brick was rotated.
+     */
+    default void onRotated() {}
+
+    /**
+     * Called after the current brick was merged into the background.
+     *
+     * @param type the type of the merged brick.
+     */
+    default void onBrickLocked(BrickType type) {}
+
+    /**
+     * Called after full rows were removed and the score was updated.
+     *
+     * @param clearRow the result of the clear; at least one line was removed.
+     */
+    default void onLinesCleared(ClearRow clearRow) {}
+
+    /**
+     * Called when a newly spawned brick overlaps the stack and the game ends.
+     */
+    default void onGameOver() {}
+
+    /**
+     * Called after the board and score were reset for a new game.
+     */
+    default void onNewGame() {}
+}
@@ -24,7 +24,8 @@ public final class ClearRow {
     /**
      * Constructs a new ClearRow object.
      * @param linesRemoved The number of lines removed.
-     * @param newMatrix The new game board matrix after clearing.
+     * @param newMatrix The new game board matrix after clearing. It is not copied here;
+     *                  {@link #getNewBoard()} copies it when it is read.
      * @param scoreBonus The score bonus gained from clearing lines.
      * @param clearedRows An array of the indices of the rows that were cleared.
      */
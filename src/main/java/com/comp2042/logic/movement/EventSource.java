@@ -1,10 +1,11 @@
 package com.comp2042.logic.movement;
 
 /**
- * Defines the source of a game event, either from user input or an automated thread.
+ * Defines the source of a game event: user input, the game's gravity thread, or the autoplay bot.
  */
 public enum EventSource {
     /** Indicates the event was triggered by user input. */
     USER, /** Indicates the event was triggered by an automated process (e.g., game thread). */
-    THREAD
+    THREAD, /** Indicates the event was chosen by the autoplay bot. */
+    BOT
 }
@@ -28,6 +28,15 @@ public interface InputEventListener {
      */
     ViewData onRightEvent(MoveEvent event);
 
+    /**
+     * Handles several shifts in one direction at once, such as the auto-repeated moves owed in one
+     * frame. Stops at the first shift that is blocked, and builds the view data only once.
+     * @param event The MoveEvent whose type, {@code LEFT} or {@code RIGHT}, gives the direction.
+     * @param columns The most columns to shift.
+     * @return ViewData representing the updated game state.
+     */
+    ViewData onShiftEvent(MoveEvent event, int columns);
+
     /**
      * Handles a rotation event for the active brick.
      * @param event The MoveEvent containing details about the rotation.
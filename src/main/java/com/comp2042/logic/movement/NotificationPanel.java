@@ -6,6 +6,7 @@ import javafx.animation.TranslateTransition;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
+import javafx.scene.CacheHint;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.effect.Effect;
@@ -17,9 +18,16 @@ import javafx.util.Duration;
 /**
  * A custom JavaFX BorderPane that displays notifications, typically for scores
  * or bonus messages, with animated fade and translate transitions.
+ * <p>
+ * The glowing label is cached as a bitmap, so the glow is only rendered again when the text
+ * changes, not on every frame of a fade or move. A panel can be reused for another message
+ * with {@link #setText(String)}.
  */
 public class NotificationPanel extends BorderPane {
 
+    /** The label showing the notification text. */
+    private final Label score;
+
     /**
      * Constructs a new NotificationPanel with the given text.
      * The text is displayed as a glowing label in the center of the panel.
@@ -29,15 +37,26 @@ public class NotificationPanel extends BorderPane {
     public NotificationPanel(String text) {
         setMinHeight(200);
         setMinWidth(220);
-        final Label score = new Label(text);
+        score = new Label(text);
         score.getStyleClass().add("bonusStyle");
         final Effect glow = new Glow(0.6);
         score.setEffect(glow);
         score.setTextFill(Color.WHITE);
+        score.setCache(true);
+        score.setCacheHint(CacheHint.SPEED);
         setCenter(score);
 
     }
 
+    /**
+     * Changes the text of the notification, so the panel can be shown again.
+     *
+     * @param text The text to be displayed in the notification.
+     */
+    public void setText(String text) {
+        score.setText(text);
+    }
+
     /**
      * Initiates the animation for displaying the score notification.
      * This involves a fade out and an upward translate transition.
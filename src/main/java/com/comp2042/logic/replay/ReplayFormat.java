@@ -0,0 +1,100 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.logic.engine.GameEngine;
+import com.comp2042.logic.movement.EventSource;
+import com.comp2042.logic.movement.EventType;
+
+/**
+ * The binary layout of a replay log, shared by {@link ReplayRecorder} and {@link ReplayPlayer}.
+ * <p>
+ * A log starts with a header: the {@link #MAGIC} bytes, a {@link #VERSION} byte, the board type
+ * ordinal and the 8-byte game seed. Each input follows as one code byte and a varint with the
+ * number of gravity ticks since the previous input. Event codes pack the {@link EventType}
+ * ordinal and the {@link EventSource} ordinal; {@link #NEW_GAME} marks a restart. A finished log
+ * ends with {@link #END} and the 8-byte checksum of the final state.
+ */
+final class ReplayFormat {
+
+    /** The first bytes of every replay log. */
+    static final byte[] MAGIC = {'T', 'R', 'P', 'L'};
+    /** The version of the layout described above. */
+    static final byte VERSION = 2;
+    /** The number of low bits of an event code that hold the {@link EventSource} ordinal. */
+    static final int SOURCE_BITS = 2;
+    /** The code of a restart of the game. */
+    static final int NEW_GAME = 0x7E;
+    /** The code of the trailer holding the final checksum. */
+    static final int END = 0x7F;
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private ReplayFormat() {}
+
+    /**
+     * Packs an input into its event code.
+     *
+     * @param type the event type.
+     * @param source the event source.
+     * @return the event code.
+     */
+    static int encode(EventType type, EventSource source) {
+        return type.ordinal() << SOURCE_BITS | source.ordinal();
+    }
+
+    /**
+     * Extracts the {@link EventType} ordinal from an event code.
+     *
+     * @param code the event code.
+     * @return the type ordinal.
+     */
+    static int typeOf(int code) {
+        return code >> SOURCE_BITS;
+    }
+
+    /**
+     * Extracts the {@link EventSource} ordinal from an event code.
+     *
+     * @param code the event code.
+     * @return the source ordinal.
+     */
+    static int sourceOf(int code) {
+        return code & ((1 << SOURCE_BITS) - 1);
+    }
+
+    /**
+     * Computes the checksum of the engine state a replay is verified against: every board cell,
+     * the score, level, rows cleared, locked brick count and game over flag.
+     *
+     * @param engine the engine to fingerprint.
+     * @return a 64-bit FNV-1a hash of the state.
+     */
+    static long checksum(GameEngine engine) {
+        long hash = 0xcbf29ce484222325L;
+        for (int[] row : engine.getBoard().getBoardMatrix()) {
+            for (int cell : row) {
+                hash = mix(hash, cell);
+            }
+        }
+        hash = mix(hash, engine.getScore().getScore());
+        hash = mix(hash, engine.getScore().getLevel());
+        hash = mix(hash, engine.getScore().getRowsCleared());
+        hash = mix(hash, (int) engine.getBricksLocked());
+        return mix(hash, engine.isGameOver() ? 1 : 0);
+    }
+
+    /**
+     * Folds one int into an FNV-1a hash.
+     *
+     * @param hash the hash so far.
+     * @param value the value to add.
+     * @return the new hash.
+     */
+    private static long mix(long hash, int value) {
+        for (int shift = 0; shift < Integer.SIZE; shift += Byte.SIZE) {
+            hash ^= (value >>> shift) & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
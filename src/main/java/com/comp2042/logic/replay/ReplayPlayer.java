@@ -0,0 +1,219 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.logic.board.BoardType;
+import com.comp2042.logic.engine.GameEngine;
+import com.comp2042.logic.movement.EventSource;
+import com.comp2042.logic.movement.EventType;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Re-runs a replay log against a fresh {@link GameEngine} as fast as the engine allows,
+ * ignoring the recorded timing, and checks the final state against the recorded checksum.
+ */
+public final class ReplayPlayer {
+
+    /** The size of the read buffer. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** The channel the log is read from. */
+    private final ReadableByteChannel channel;
+    /** The buffer the log is read through. */
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    /** Whether the channel has no more bytes. */
+    private boolean endOfChannel;
+
+    /**
+     * Constructs a player reading from the given channel.
+     *
+     * @param channel the channel holding the log.
+     */
+    private ReplayPlayer(ReadableByteChannel channel) {
+        this.channel = channel;
+        buffer.flip();
+    }
+
+    /**
+     * Replays the log in a file.
+     *
+     * @param file the replay log.
+     * @return the outcome of the replay.
+     * @throws IOException if the file cannot be read or is not a valid replay log.
+     */
+    public static ReplayResult play(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file)) {
+            return play(channel);
+        }
+    }
+
+    /**
+     * Replays a log read from a channel. The channel is not closed.
+     *
+     * @param channel the channel holding the log.
+     * @return the outcome of the replay.
+     * @throws IOException if the channel fails or does not hold a valid replay log.
+     */
+    public static ReplayResult play(ReadableByteChannel channel) throws IOException {
+        return new ReplayPlayer(channel).run();
+    }
+
+    /**
+     * Reads the header, applies every input and compares checksums.
+     *
+     * @return the outcome of the replay.
+     * @throws IOException if the log is malformed.
+     */
+    private ReplayResult run() throws IOException {
+        long start = System.nanoTime();
+
+        byte[] magic = new byte[ReplayFormat.MAGIC.length];
+        for (int i = 0; i < magic.length; i++) {
+            magic[i] = (byte) readByte();
+        }
+        if (!Arrays.equals(magic, ReplayFormat.MAGIC)) {
+            throw new IOException("Not a replay log");
+        }
+        int version = readByte();
+        if (version != ReplayFormat.VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        int boardOrdinal = readByte();
+        if (boardOrdinal >= BoardType.values().length) {
+            throw new IOException("Unknown board type " + boardOrdinal);
+        }
+        GameEngine engine = new GameEngine(BoardType.values()[boardOrdinal].create(readLong()));
+
+        EventType[] types = EventType.values();
+        long events = 0;
+        long ticks = 0;
+        while (true) {
+            int code = nextCode();
+            if (code < 0) {
+                return result(engine, events, ticks, false, 0, start);
+            }
+            if (code == ReplayFormat.END) {
+                return result(engine, events, ticks, true, readLong(), start);
+            }
+            readVarLong(); // Timing is not needed to reproduce the game at full speed
+            events++;
+            if (code == ReplayFormat.NEW_GAME) {
+                engine.newGame();
+                continue;
+            }
+
+            int typeOrdinal = ReplayFormat.typeOf(code);
+            if (typeOrdinal >= types.length) {
+                throw new IOException("Unknown event code " + code);
+            }
+            if (ReplayFormat.sourceOf(code) == EventSource.THREAD.ordinal()) {
+                ticks++;
+            }
+            switch (types[typeOrdinal]) {
+                case DOWN -> engine.tick();
+                case HARD_DROP -> engine.hardDrop();
+                default -> engine.step(types[typeOrdinal]);
+            }
+        }
+    }
+
+    /**
+     * Builds the result once the log is exhausted.
+     *
+     * @param engine the engine in its final state.
+     * @param events the number of inputs replayed.
+     * @param ticks the number of gravity ticks replayed.
+     * @param finished whether the log ended with a checksum.
+     * @param expected the recorded checksum, or 0.
+     * @param start the {@link System#nanoTime()} the replay started at.
+     * @return the outcome of the replay.
+     */
+    private static ReplayResult result(GameEngine engine, long events, long ticks, boolean finished,
+                                       long expected, long start) {
+        return new ReplayResult(engine, events, ticks, finished, expected,
+                ReplayFormat.checksum(engine), System.nanoTime() - start);
+    }
+
+    /**
+     * Reads the next entry code, or returns -1 at the end of an unfinished log.
+     *
+     * @return the code, or -1.
+     * @throws IOException if the channel fails.
+     */
+    private int nextCode() throws IOException {
+        if (!buffer.hasRemaining() && !fill()) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    /**
+     * Reads one byte, failing at the end of the log.
+     *
+     * @return the unsigned byte value.
+     * @throws IOException if the log ends early.
+     */
+    private int readByte() throws IOException {
+        if (!buffer.hasRemaining() && !fill()) {
+            throw new EOFException("Replay log ends in the middle of an entry");
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    /**
+     * Reads a big-endian 8-byte value.
+     *
+     * @return the value.
+     * @throws IOException if the log ends early.
+     */
+    private long readLong() throws IOException {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = value << 8 | readByte();
+        }
+        return value;
+    }
+
+    /**
+     * Reads an unsigned LEB128 varint.
+     *
+     * @return the value.
+     * @throws IOException if the log ends early or the varint is too long.
+     */
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in replay log");
+    }
+
+    /**
+     * Refills the buffer from the channel.
+     *
+     * @return true if at least one byte is available.
+     * @throws IOException if the channel fails.
+     */
+    private boolean fill() throws IOException {
+        if (endOfChannel) return false;
+        buffer.compact();
+        int read;
+        do {
+            read = channel.read(buffer);
+        } while (read == 0);
+        if (read < 0) {
+            endOfChannel = true;
+        }
+        buffer.flip();
+        return buffer.hasRemaining();
+    }
+}
@@ -0,0 +1,178 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.logic.board.BoardType;
+import com.comp2042.logic.engine.GameEngine;
+import com.comp2042.logic.movement.EventSource;
+import com.comp2042.logic.movement.EventType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Records the inputs of a game as a compact binary log (see {@link ReplayFormat}).
+ * <p>
+ * Inputs are encoded into a direct buffer and written to the channel only when the buffer
+ * fills up or the log is closed, so recording costs a few bytes of memory traffic per input.
+ * The tick of an input is the number of {@link EventSource#THREAD} events, gravity steps,
+ * recorded before it, stored as a delta from the previous input.
+ */
+public class ReplayRecorder implements AutoCloseable {
+
+    /** The size of the write buffer. */
+    private static final int BUFFER_SIZE = 8192;
+    /** The longest single entry: a code byte plus a 10-byte varint, or the trailer. */
+    private static final int MAX_ENTRY_SIZE = 11;
+
+    /** The channel the log is written to. */
+    private final WritableByteChannel channel;
+    /** The buffer entries are encoded into before being written. */
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    /** The number of gravity ticks recorded so far. */
+    private long tick;
+    /** The tick of the previously recorded input. */
+    private long lastTick;
+    /** Whether the log was closed. */
+    private boolean closed;
+
+    /**
+     * Starts a log on the given channel and writes its header.
+     *
+     * @param channel the channel to write to; it is closed with the recorder.
+     * @param boardType the board type the game is played on.
+     * @param seed the seed of the game's brick sequence.
+     */
+    public ReplayRecorder(WritableByteChannel channel, BoardType boardType, long seed) {
+        this.channel = channel;
+        buffer.put(ReplayFormat.MAGIC);
+        buffer.put(ReplayFormat.VERSION);
+        buffer.put((byte) boardType.ordinal());
+        buffer.putLong(seed);
+    }
+
+    /**
+     * Starts a log in a new file, replacing any existing one.
+     *
+     * @param file the file to write.
+     * @param boardType the board type the game is played on.
+     * @param seed the seed of the game's brick sequence.
+     * @return the recorder.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static ReplayRecorder create(Path file, BoardType boardType, long seed) throws IOException {
+        return new ReplayRecorder(FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), boardType, seed);
+    }
+
+    /**
+     * Records one input.
+     *
+     * @param type the event type.
+     * @param source the event source; null is recorded as {@link EventSource#USER}.
+     */
+    public void record(EventType type, EventSource source) {
+        EventSource from = source == null ? EventSource.USER : source;
+        writeEntry(ReplayFormat.encode(type, from));
+        if (from == EventSource.THREAD) {
+            tick++;
+        }
+    }
+
+    /**
+     * Records that the game was restarted.
+     */
+    public void recordNewGame() {
+        writeEntry(ReplayFormat.NEW_GAME);
+    }
+
+    /**
+     * Writes the trailer with the checksum of the final state and closes the log.
+     *
+     * @param engine the engine whose state ends the recording.
+     */
+    public void finish(GameEngine engine) {
+        if (closed) return;
+        ensureRoom();
+        buffer.put((byte) ReplayFormat.END);
+        buffer.putLong(ReplayFormat.checksum(engine));
+        close();
+    }
+
+    /**
+     * Writes the buffered entries to the channel without closing the log, so they are kept even
+     * if the game is never finished. Does nothing once the log is closed.
+     */
+    public void flush() {
+        if (closed) return;
+        try {
+            writeBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write replay log", e);
+        }
+    }
+
+    /**
+     * Flushes and closes the log. A log closed without {@link #finish(GameEngine)} has no
+     * checksum; it still replays, but cannot be verified.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        try (channel) {
+            writeBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write replay log", e);
+        }
+    }
+
+    /**
+     * Encodes an entry with the tick delta since the previous one.
+     *
+     * @param code the entry code.
+     */
+    private void writeEntry(int code) {
+        if (closed) {
+            throw new IllegalStateException("Replay log is closed");
+        }
+        ensureRoom();
+        buffer.put((byte) code);
+        long delta = tick - lastTick;
+        while ((delta & ~0x7FL) != 0) {
+            buffer.put((byte) ((delta & 0x7F) | 0x80));
+            delta >>>= 7;
+        }
+        buffer.put((byte) delta);
+        lastTick = tick;
+    }
+
+    /**
+     * Flushes the buffer if another entry might not fit.
+     */
+    private void ensureRoom() {
+        if (buffer.remaining() < MAX_ENTRY_SIZE) {
+            try {
+                writeBuffer();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write replay log", e);
+            }
+        }
+    }
+
+    /**
+     * Writes the buffered bytes to the channel.
+     *
+     * @throws IOException if the channel fails.
+     */
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,110 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.logic.engine.GameEngine;
+
+/**
+ * The outcome of replaying a log with {@link ReplayPlayer}.
+ */
+public final class ReplayResult {
+
+    /** The engine in its final replayed state. */
+    private final GameEngine engine;
+    /** The number of inputs replayed. */
+    private final long events;
+    /** The number of gravity ticks the recorded game lasted. */
+    private final long ticks;
+    /** Whether the log ended with a checksum. */
+    private final boolean finished;
+    /** The checksum stored in the log, or 0 if it has none. */
+    private final long expectedChecksum;
+    /** The checksum of the replayed final state. */
+    private final long actualChecksum;
+    /** The wall-clock time the replay took, in nanoseconds. */
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a new ReplayResult.
+     *
+     * @param engine the engine in its final replayed state.
+     * @param events the number of inputs replayed.
+     * @param ticks the number of gravity ticks the recorded game lasted.
+     * @param finished whether the log ended with a checksum.
+     * @param expectedChecksum the checksum stored in the log, or 0 if it has none.
+     * @param actualChecksum the checksum of the replayed final state.
+     * @param elapsedNanos the wall-clock time the replay took, in nanoseconds.
+     */
+    ReplayResult(GameEngine engine, long events, long ticks, boolean finished,
+                 long expectedChecksum, long actualChecksum, long elapsedNanos) {
+        this.engine = engine;
+        this.events = events;
+        this.ticks = ticks;
+        this.finished = finished;
+        this.expectedChecksum = expectedChecksum;
+        this.actualChecksum = actualChecksum;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the engine in its final replayed state.
+     * @return the engine.
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Returns the number of inputs replayed.
+     * @return the input count.
+     */
+    public long getEvents() {
+        return events;
+    }
+
+    /**
+     * Returns the number of gravity ticks the recorded game lasted.
+     * @return the tick count.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Returns whether the log ended with a checksum that could be verified.
+     * @return true if the recording was finished.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Returns whether the replayed final state matches the recorded one.
+     * @return true if the log was finished and the checksums agree.
+     */
+    public boolean isVerified() {
+        return finished && expectedChecksum == actualChecksum;
+    }
+
+    /**
+     * Returns the checksum stored in the log.
+     * @return the expected checksum, or 0 if the log has none.
+     */
+    public long getExpectedChecksum() {
+        return expectedChecksum;
+    }
+
+    /**
+     * Returns the checksum of the replayed final state.
+     * @return the actual checksum.
+     */
+    public long getActualChecksum() {
+        return actualChecksum;
+    }
+
+    /**
+     * Returns the wall-clock time the replay took.
+     * @return the elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
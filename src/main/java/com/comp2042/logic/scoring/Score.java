@@ -1,13 +1,12 @@
 package com.comp2042.logic.scoring;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.ReadOnlyIntegerProperty;
-import javafx.beans.property.ReadOnlyIntegerWrapper;
-import javafx.beans.property.SimpleIntegerProperty;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Manages the player's score, level, and rows cleared in the game.
- * It uses JavaFX properties for observable score, level, and rows cleared values.
+ * It is plain Java so the rules can run without a JavaFX toolkit; observers subscribe
+ * through {@link ScoreListener}.
  */
 public final class Score {
 
@@ -19,35 +18,41 @@ public final class Score {
         // Default constructor
     }
 
-    private final ReadOnlyIntegerWrapper score = new ReadOnlyIntegerWrapper(0);
-    private final ReadOnlyIntegerWrapper level = new ReadOnlyIntegerWrapper(1);
-    private final ReadOnlyIntegerWrapper rowsCleared = new ReadOnlyIntegerWrapper(0);
+    /** The current score. */
+    private int score;
+    /** The current level, starting at 1. */
+    private int level = 1;
+    /** The total number of rows cleared. */
+    private int rowsCleared;
+
+    /** The listeners notified after every change. */
+    private final List<ScoreListener> listeners = new ArrayList<>();
 
     /** The number of rows that must be cleared to advance to the next level. */
     private static final int ROWS_PER_LEVEL = 5;
 
     /**
-     * Returns the read-only integer property for the score.
-     * @return The {@code ReadOnlyIntegerProperty} for the score.
+     * Registers a listener to be notified after every change.
+     * @param listener The listener to add.
      */
-    public ReadOnlyIntegerProperty scoreProperty() {
-        return score.getReadOnlyProperty();
+    public void addListener(ScoreListener listener) {
+        listeners.add(listener);
     }
 
     /**
-     * Returns the read-only integer property for the level.
-     * @return The {@code ReadOnlyIntegerProperty} for the level.
+     * Removes a previously registered listener.
+     * @param listener The listener to remove.
      */
-    public ReadOnlyIntegerProperty levelProperty() {
-        return level.getReadOnlyProperty();
+    public void removeListener(ScoreListener listener) {
+        listeners.remove(listener);
     }
 
     /**
-     * Returns the read-only integer property for the number of rows cleared.
-     * @return The {@code ReadOnlyIntegerProperty} for the rows cleared.
+     * Returns the current score.
+     * @return The current score.
      */
-    public ReadOnlyIntegerProperty rowsClearedProperty() {
-        return rowsCleared.getReadOnlyProperty();
+    public int getScore() {
+        return score;
     }
 
     /**
@@ -55,7 +60,7 @@ public final class Score {
      * @return The current level.
      */
     public int getLevel() {
-        return level.get();
+        return level;
     }
 
     /**
@@ -63,7 +68,7 @@ public final class Score {
      * @return The total number of rows cleared.
      */
     public int getRowsCleared() {
-        return rowsCleared.get();
+        return rowsCleared;
     }
 
     /**
@@ -71,7 +76,8 @@ public final class Score {
      * @param i The value to add to the score.
      */
     public void add(int i) {
-        score.setValue(score.getValue() + i);
+        score += i;
+        fireChanged();
     }
 
     /**
@@ -79,25 +85,29 @@ public final class Score {
      * @param rows The number of rows that were cleared.
      */
     public void addClearedRows(int rows) {
-        int oldRows = rowsCleared.get();
-        int newRows = oldRows + rows;
-        rowsCleared.setValue(newRows);
+        rowsCleared += rows;
 
         // Calculate new level (starts at 1)
-        int newLevel = (newRows / ROWS_PER_LEVEL) + 1;
-
-        // Update level if it changed
-        if (newLevel != level.get()) {
-            level.setValue(newLevel);
-        }
+        level = (rowsCleared / ROWS_PER_LEVEL) + 1;
+        fireChanged();
     }
 
     /**
      * Resets the score, level, and rows cleared to their initial values.
      */
     public void reset() {
-        score.setValue(0);
-        level.setValue(1);
-        rowsCleared.setValue(0);
+        score = 0;
+        level = 1;
+        rowsCleared = 0;
+        fireChanged();
+    }
+
+    /**
+     * Notifies every registered listener of a change.
+     */
+    private void fireChanged() {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).scoreChanged(this);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package com.comp2042.logic.scoring;
+
+/**
+ * Receives a notification whenever a {@link Score} changes.
+ * The UI uses it to mirror the score into observable properties.
+ */
+@FunctionalInterface
+public interface ScoreListener {
+
+    /**
+     * Called after the score, level or rows cleared of a score object changed.
+     *
+     * @param score the score that changed.
+     */
+    void scoreChanged(Score score);
+}
@@ -1,26 +1,35 @@
 package com.comp2042.model;
 
-import com.comp2042.logic.board.MatrixOperations;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A data class that encapsulates all information required by the view layer to render the game state.
  * This includes the current brick's data, its position, next bricks, ghost brick position, and held brick.
+ * <p>
+ * A ViewData is an immutable snapshot that shares the shape matrices it is given instead of copying
+ * them: the boards pass the read-only rotation matrices of their bricks' shape tables, and every
+ * accessor returns the shared arrays, which must not be modified. Each snapshot carries a version
+ * that no other snapshot has, and {@link #withState} hands back the same snapshot while nothing has
+ * changed, so a renderer that has drawn a version can skip the next snapshot with the same one.
  */
 public final class ViewData {
 
+    /** A version that no snapshot has, for renderers that have not drawn one yet. */
+    public static final long NO_VERSION = 0;
+
+    /** The shape used where there is no brick. */
+    private static final int[][] EMPTY_SHAPE = new int[0][0];
+    /** The source of snapshot versions, shared by every board so versions never repeat. */
+    private static final AtomicLong VERSIONS = new AtomicLong(NO_VERSION);
+
+    /** The version of this snapshot. */
+    private final long version;
     /** The 2D integer array representing the shape of the current active brick. */
     private final int[][] brickData;
     /** The x-coordinate (column) of the current active brick's top-left corner on the board. */
     private final int xPosition;
     /** The y-coordinate (row) of the current active brick's top-left corner on the board. */
     private final int yPosition;
-    // Legacy single next preview (first element of nextBricksData)
-    /**
-     * The 2D integer array representing the shape of the next brick.
-     * This is maintained for compatibility with older rendering logic.
-     */
-    private final int[][] nextBrickData;
-    // New: support multiple next previews
     /** A 3D integer array where each 2D array represents the shape of an upcoming brick. */
     private final int[][][] nextBricksData;
     /** The x-coordinate (column) of the ghost brick's top-left corner on the board. */
@@ -43,19 +52,13 @@ public final class ViewData {
      */
     public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData,
                     int ghostXPosition, int ghostYPosition) {
-        this.brickData = brickData;
-        this.xPosition = xPosition;
-        this.yPosition = yPosition;
-        this.nextBrickData = nextBrickData;
-        this.nextBricksData = new int[][][] { MatrixOperations.copy(nextBrickData) };
-        this.ghostXPosition = ghostXPosition;
-        this.ghostYPosition = ghostYPosition;
-        this.heldBrickData = new int[0][0];
+        this(brickData, xPosition, yPosition, new int[][][] { nextBrickData }, ghostXPosition, ghostYPosition, null);
     }
 
     // New constructor: multiple next previews + hold preview
     /**
      * Constructs a new ViewData object with support for multiple next brick previews and a held brick.
+     * The arrays are shared, not copied, and must not be modified afterwards.
      * @param brickData The 2D array of the current active brick's shape.
      * @param xPosition The x-coordinate of the current active brick.
      * @param yPosition The y-coordinate of the current active brick.
@@ -66,38 +69,71 @@ public final class ViewData {
      */
     public ViewData(int[][] brickData, int xPosition, int yPosition, int[][][] nextBricksData,
                     int ghostXPosition, int ghostYPosition, int[][] heldBrickData) {
+        this.version = VERSIONS.incrementAndGet();
         this.brickData = brickData;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
-        this.nextBricksData = copy3D(nextBricksData);
-        // keep legacy first for compatibility
-        this.nextBrickData = (nextBricksData != null && nextBricksData.length > 0)
-                ? MatrixOperations.copy(nextBricksData[0]) : new int[0][0];
+        this.nextBricksData = nextBricksData != null ? nextBricksData : new int[0][][];
         this.ghostXPosition = ghostXPosition;
         this.ghostYPosition = ghostYPosition;
-        this.heldBrickData = heldBrickData != null ? MatrixOperations.copy(heldBrickData) : new int[0][0];
+        this.heldBrickData = heldBrickData != null ? heldBrickData : EMPTY_SHAPE;
+    }
+
+    /**
+     * Returns a snapshot of the given state: this one if it already shows exactly that state,
+     * otherwise a new snapshot with a new version. Shapes are compared by identity, which is
+     * what the boards' shared shape tables give.
+     * @param brickData The 2D array of the current active brick's shape.
+     * @param xPosition The x-coordinate of the current active brick.
+     * @param yPosition The y-coordinate of the current active brick.
+     * @param nextBricksData A 3D array where each 2D array is the shape of an upcoming brick.
+     * @param ghostXPosition The x-coordinate of the ghost brick.
+     * @param ghostYPosition The y-coordinate of the ghost brick.
+     * @param heldBrickData The 2D array of the held brick's shape, or null if no brick is held.
+     * @return A snapshot of the state.
+     */
+    public ViewData withState(int[][] brickData, int xPosition, int yPosition, int[][][] nextBricksData,
+                              int ghostXPosition, int ghostYPosition, int[][] heldBrickData) {
+        boolean same = brickData == this.brickData
+                && xPosition == this.xPosition
+                && yPosition == this.yPosition
+                && ghostXPosition == this.ghostXPosition
+                && ghostYPosition == this.ghostYPosition
+                && (heldBrickData != null ? heldBrickData : EMPTY_SHAPE) == this.heldBrickData
+                && sameShapes(nextBricksData, this.nextBricksData);
+        return same ? this : new ViewData(brickData, xPosition, yPosition, nextBricksData,
+                ghostXPosition, ghostYPosition, heldBrickData);
     }
 
     /**
-     * Creates a deep copy of a 3D integer array.
-     * @param src The source 3D array to copy.
-     * @return A deep copy of the source array.
+     * Checks whether two lists of shapes hold the same shape instances in the same order.
+     * @param a The first list, or null for none.
+     * @param b The second list.
+     * @return True if the lists match.
      */
-    private static int[][][] copy3D(int[][][] src) {
-        if (src == null) return new int[0][][];
-        int[][][] out = new int[src.length][][];
-        for (int i = 0; i < src.length; i++) {
-            out[i] = MatrixOperations.copy(src[i]);
+    private static boolean sameShapes(int[][][] a, int[][][] b) {
+        int length = a != null ? a.length : 0;
+        if (length != b.length) return false;
+        for (int i = 0; i < length; i++) {
+            if (a[i] != b[i]) return false;
         }
-        return out;
+        return true;
+    }
+
+    /**
+     * Returns the version of this snapshot. Two snapshots with the same version are the same snapshot.
+     * @return The version, never {@link #NO_VERSION}.
+     */
+    public long getVersion() {
+        return version;
     }
 
     /**
-     * Returns a deep copy of the 2D integer array representing the current active brick's shape.
-     * @return A deep copy of the brick data.
+     * Returns the shape of the current active brick. The array is shared and must not be modified.
+     * @return The brick data.
      */
     public int[][] getBrickData() {
-        return MatrixOperations.copy(brickData);
+        return brickData;
     }
 
     /**
@@ -134,28 +170,28 @@ public final class ViewData {
 
     // Legacy single next
     /**
-     * Returns a deep copy of the 2D integer array representing the next brick's shape (legacy).
-     * @return A deep copy of the next brick data.
+     * Returns the shape of the next brick (legacy). The array is shared and must not be modified.
+     * @return The first upcoming brick's shape, or an empty 2D array if there is none.
      */
     public int[][] getNextBrickData() {
-        return MatrixOperations.copy(nextBrickData);
+        return nextBricksData.length > 0 && nextBricksData[0] != null ? nextBricksData[0] : EMPTY_SHAPE;
     }
 
     // New: multiple next
     /**
-     * Returns a deep copy of the 3D integer array representing the upcoming bricks' shapes.
-     * @return A deep copy of the next bricks data.
+     * Returns the shapes of the upcoming bricks. The arrays are shared and must not be modified.
+     * @return The next bricks data.
      */
     public int[][][] getNextBricksData() {
-        return copy3D(nextBricksData);
+        return nextBricksData;
     }
 
     // Hold preview
     /**
-     * Returns a deep copy of the 2D integer array representing the held brick's shape.
-     * @return A deep copy of the held brick data, or an empty 2D array if no brick is held.
+     * Returns the shape of the held brick. The array is shared and must not be modified.
+     * @return The held brick data, or an empty 2D array if no brick is held.
      */
     public int[][] getHeldBrickData() {
-        return MatrixOperations.copy(heldBrickData);
+        return heldBrickData;
     }
-}
\ No newline at end of file
+}
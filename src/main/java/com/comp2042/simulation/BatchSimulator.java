@@ -0,0 +1,134 @@
+package com.comp2042.simulation;
+
+import com.comp2042.logic.board.Board;
+import com.comp2042.logic.board.BoardType;
+import com.comp2042.logic.engine.GameEngine;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+/**
+ * Plays many complete games in parallel on the headless {@link GameEngine}.
+ * <p>
+ * Games are spread over a {@link ForkJoinPool} by splitting the range of game indices.
+ * Every game gets its own seed, split from the batch seed up front. The seed fixes both the
+ * piece sequence and the policy's random choices, so a game's result depends only on the
+ * batch seed and its index, not on which worker thread happened to run it.
+ */
+public class BatchSimulator {
+
+    /** Ranges of at most this many games are played by one task without splitting further. */
+    private static final int GAMES_PER_TASK = 4;
+
+    /** The board implementation every game is played on. */
+    private final BoardType boardType;
+    /** Supplies a fresh policy for every game. */
+    private final Supplier<PlacementPolicy> policies;
+    /** The number of pieces after which a game is stopped if it has not topped out. */
+    private final long maxPieces;
+
+    /**
+     * Constructs a new BatchSimulator.
+     *
+     * @param boardType the board implementation to play on.
+     * @param policies supplies a fresh policy for every game.
+     * @param maxPieces the number of pieces after which a game is stopped.
+     */
+    public BatchSimulator(BoardType boardType, Supplier<PlacementPolicy> policies, long maxPieces) {
+        this.boardType = boardType;
+        this.policies = policies;
+        this.maxPieces = maxPieces;
+    }
+
+    /**
+     * Plays one game to the end on the calling thread.
+     *
+     * @param seed the seed for the game's piece sequence and policy decisions.
+     * @return the outcome of the game.
+     */
+    public GameResult playGame(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Board board = boardType.create(random.split().nextLong());
+        GameEngine engine = new GameEngine(board);
+        PlacementPolicy policy = policies.get();
+
+        while (!engine.isGameOver() && engine.getBricksLocked() < maxPieces) {
+            policy.place(board, random);
+            engine.hardDrop();
+        }
+        return new GameResult(seed, engine.getBricksLocked(), engine.getScore().getRowsCleared(),
+                engine.getScore().getScore(), engine.isGameOver());
+    }
+
+    /**
+     * Plays a batch of games on a dedicated fork/join pool.
+     *
+     * @param games the number of games to play.
+     * @param threads the parallelism of the pool.
+     * @param seed the batch seed every game seed is split from.
+     * @return the results and timing of the batch.
+     */
+    public SimulationReport run(int games, int threads, long seed) {
+        long[] seeds = new long[games];
+        SplittableRandom root = new SplittableRandom(seed);
+        for (int i = 0; i < games; i++) {
+            seeds[i] = root.split().nextLong();
+        }
+
+        GameResult[] results = new GameResult[games];
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        try {
+            pool.invoke(new GameRange(seeds, results, 0, games));
+        } finally {
+            pool.shutdown();
+        }
+        long elapsed = System.nanoTime() - start;
+        return new SimulationReport(Arrays.asList(results), elapsed, threads);
+    }
+
+    /**
+     * Plays a contiguous range of games, splitting it in halves while it is large.
+     */
+    private final class GameRange extends RecursiveAction {
+
+        /** The seed of every game in the batch. */
+        private final long[] seeds;
+        /** Where each game's result is stored, by game index. */
+        private final GameResult[] results;
+        /** The first game of this range, inclusive. */
+        private final int from;
+        /** The last game of this range, exclusive. */
+        private final int to;
+
+        /**
+         * Constructs a task for a range of games.
+         *
+         * @param seeds the seed of every game in the batch.
+         * @param results where each game's result is stored.
+         * @param from the first game, inclusive.
+         * @param to the last game, exclusive.
+         */
+        GameRange(long[] seeds, GameResult[] results, int from, int to) {
+            this.seeds = seeds;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    results[i] = playGame(seeds[i]);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new GameRange(seeds, results, from, mid), new GameRange(seeds, results, mid, to));
+        }
+    }
+}
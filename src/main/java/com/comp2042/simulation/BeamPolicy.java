@@ -0,0 +1,51 @@
+package com.comp2042.simulation;
+
+import com.comp2042.ai.BeamSearchPlayer;
+import com.comp2042.ai.Heuristic;
+import com.comp2042.ai.Placement;
+import com.comp2042.ai.Plan;
+import com.comp2042.logic.board.Board;
+
+import java.util.SplittableRandom;
+
+/**
+ * Places every brick where a {@link BeamSearchPlayer} would, using the preview queue and the
+ * hold, and ignoring the random source.
+ * <p>
+ * The search runs on the simulator's own thread and without a time budget, so a seeded batch
+ * plays out the same on any machine.
+ */
+public class BeamPolicy implements PlacementPolicy {
+
+    /** The number of boards the search keeps at each level. */
+    static final int BEAM_WIDTH = 16;
+    /** The number of preview bricks the search looks at. */
+    static final int PREVIEW_COUNT = 3;
+
+    /** The bot that chooses the placements. */
+    private final BeamSearchPlayer player;
+
+    /**
+     * Constructs a new BeamPolicy.
+     *
+     * @param heuristic scores the board at the end of each searched sequence.
+     */
+    public BeamPolicy(Heuristic heuristic) {
+        this.player = new BeamSearchPlayer(heuristic, BEAM_WIDTH, PREVIEW_COUNT, BeamSearchPlayer.NO_BUDGET, null);
+    }
+
+    @Override
+    public void place(Board board, SplittableRandom random) {
+        Plan plan = player.plan(board);
+        Placement placement = plan.getPlacement();
+        if (placement == null) return;
+
+        if (plan.isHold()) {
+            board.holdCurrentBrick();
+        }
+        for (int i = 0; i < placement.getTurns(); i++) {
+            board.rotateLeftBrick();
+        }
+        RandomPolicy.shift(board, placement.getShift());
+    }
+}
@@ -0,0 +1,40 @@
+package com.comp2042.simulation;
+
+import com.comp2042.ai.AutoPlayer;
+import com.comp2042.ai.Heuristic;
+import com.comp2042.ai.Placement;
+import com.comp2042.logic.board.Board;
+
+import java.util.SplittableRandom;
+
+/**
+ * Places every brick where an {@link AutoPlayer} would, ignoring the random source.
+ * <p>
+ * Candidates are scored on the simulator's own thread: the simulator already plays one game
+ * per worker, so splitting each decision further would only add overhead.
+ */
+public class BotPolicy implements PlacementPolicy {
+
+    /** The bot that chooses the placements. */
+    private final AutoPlayer player;
+
+    /**
+     * Constructs a new BotPolicy.
+     *
+     * @param heuristic scores the board each candidate placement leaves behind.
+     */
+    public BotPolicy(Heuristic heuristic) {
+        this.player = new AutoPlayer(heuristic, null);
+    }
+
+    @Override
+    public void place(Board board, SplittableRandom random) {
+        Placement placement = player.choose(board);
+        if (placement == null) return;
+
+        for (int i = 0; i < placement.getTurns(); i++) {
+            board.rotateLeftBrick();
+        }
+        RandomPolicy.shift(board, placement.getShift());
+    }
+}
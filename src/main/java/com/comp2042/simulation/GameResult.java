@@ -0,0 +1,75 @@
+package com.comp2042.simulation;
+
+/**
+ * The outcome of one simulated game.
+ */
+public final class GameResult {
+
+    /** The seed the game was played with. */
+    private final long seed;
+    /** The number of bricks locked. */
+    private final long pieces;
+    /** The number of lines cleared. */
+    private final int lines;
+    /** The final score. */
+    private final int score;
+    /** Whether the game ended by topping out rather than by reaching the piece limit. */
+    private final boolean toppedOut;
+
+    /**
+     * Constructs a new GameResult.
+     *
+     * @param seed the seed the game was played with.
+     * @param pieces the number of bricks locked.
+     * @param lines the number of lines cleared.
+     * @param score the final score.
+     * @param toppedOut whether the game ended by topping out.
+     */
+    public GameResult(long seed, long pieces, int lines, int score, boolean toppedOut) {
+        this.seed = seed;
+        this.pieces = pieces;
+        this.lines = lines;
+        this.score = score;
+        this.toppedOut = toppedOut;
+    }
+
+    /**
+     * Returns the seed the game was played with.
+     * @return the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of bricks locked.
+     * @return the piece count.
+     */
+    public long getPieces() {
+        return pieces;
+    }
+
+    /**
+     * Returns the number of lines cleared.
+     * @return the line count.
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Returns the final score.
+     * @return the score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Returns whether the game ended by topping out rather than by reaching the piece limit.
+     * @return true if the stack reached the top.
+     */
+    public boolean isToppedOut() {
+        return toppedOut;
+    }
+}
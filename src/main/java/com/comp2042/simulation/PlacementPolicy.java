@@ -0,0 +1,22 @@
+package com.comp2042.simulation;
+
+import com.comp2042.logic.board.Board;
+
+import java.util.SplittableRandom;
+
+/**
+ * Decides where the current brick goes in a simulated game.
+ * <p>
+ * A policy only rotates and shifts the brick; the simulator then hard drops it.
+ * Each game gets its own policy instance and random source, so implementations may keep state.
+ */
+public interface PlacementPolicy {
+
+    /**
+     * Moves the current brick towards the chosen placement.
+     *
+     * @param board the board holding the current brick.
+     * @param random the game's random source.
+     */
+    void place(Board board, SplittableRandom random);
+}
@@ -0,0 +1,32 @@
+package com.comp2042.simulation;
+
+import com.comp2042.ai.WeightedHeuristic;
+
+/**
+ * Enumerates the placement policies the simulator can drive games with.
+ */
+public enum PolicyType {
+    /** Random rotation and column for every brick, see {@link RandomPolicy}. */
+    RANDOM,
+    /** A fixed cycle of placements, see {@link ScriptedPolicy}. */
+    SCRIPTED,
+    /** The autoplay bot with its default weights, see {@link BotPolicy}. */
+    BOT,
+    /** The lookahead bot using the preview queue and the hold, see {@link BeamPolicy}. */
+    BEAM;
+
+    /**
+     * Creates a new policy of this type for one game.
+     *
+     * @param script the placement script, used by {@link #SCRIPTED} only.
+     * @return a new policy instance.
+     */
+    public PlacementPolicy create(String script) {
+        return switch (this) {
+            case RANDOM -> new RandomPolicy();
+            case SCRIPTED -> new ScriptedPolicy(script);
+            case BOT -> new BotPolicy(WeightedHeuristic.DEFAULT);
+            case BEAM -> new BeamPolicy(WeightedHeuristic.DEFAULT);
+        };
+    }
+}
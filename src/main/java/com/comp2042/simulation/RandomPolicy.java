@@ -0,0 +1,32 @@
+package com.comp2042.simulation;
+
+import com.comp2042.logic.board.Board;
+
+import java.util.SplittableRandom;
+
+/**
+ * Places every brick with a random rotation at a random column.
+ */
+public class RandomPolicy implements PlacementPolicy {
+
+    @Override
+    public void place(Board board, SplittableRandom random) {
+        for (int r = random.nextInt(4); r > 0; r--) {
+            board.rotateLeftBrick();
+        }
+        shift(board, random.nextInt(-5, 6));
+    }
+
+    /**
+     * Moves the current brick sideways, stopping early at a wall or the stack.
+     *
+     * @param board the board holding the current brick.
+     * @param columns the number of columns to move; negative moves left.
+     */
+    static void shift(Board board, int columns) {
+        for (int i = 0; i < Math.abs(columns); i++) {
+            boolean moved = columns < 0 ? board.moveBrickLeft() : board.moveBrickRight();
+            if (!moved) return;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.comp2042.simulation;
+
+import com.comp2042.logic.board.Board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Cycles through a fixed list of placements, ignoring the random source.
+ * <p>
+ * A script is written as comma separated {@code rotations:shift} pairs, for example
+ * {@code "0:-4,1:0,0:4"}, where the shift is the number of columns to move (negative is left).
+ */
+public class ScriptedPolicy implements PlacementPolicy {
+
+    /** The script used when none is given: stack flat pieces from left to right. */
+    public static final String DEFAULT_SCRIPT = "0:-4,0:0,0:4,1:-2,1:2";
+
+    /** The rotation count of each placement. */
+    private final int[] rotations;
+    /** The column shift of each placement. */
+    private final int[] shifts;
+    /** The index of the next placement. */
+    private int next;
+
+    /**
+     * Constructs a new ScriptedPolicy from a script.
+     *
+     * @param script the placements, as described in the class documentation.
+     * @throws IllegalArgumentException if the script is empty or malformed.
+     */
+    public ScriptedPolicy(String script) {
+        List<int[]> steps = new ArrayList<>();
+        for (String step : script.split(",")) {
+            String[] parts = step.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected rotations:shift but got '" + step + "'");
+            }
+            try {
+                steps.add(new int[]{Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())});
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Expected rotations:shift but got '" + step + "'", e);
+            }
+        }
+        rotations = new int[steps.size()];
+        shifts = new int[steps.size()];
+        for (int i = 0; i < steps.size(); i++) {
+            rotations[i] = steps.get(i)[0];
+            shifts[i] = steps.get(i)[1];
+        }
+    }
+
+    @Override
+    public void place(Board board, SplittableRandom random) {
+        for (int r = rotations[next]; r > 0; r--) {
+            board.rotateLeftBrick();
+        }
+        RandomPolicy.shift(board, shifts[next]);
+        next = (next + 1) % rotations.length;
+    }
+}
@@ -0,0 +1,122 @@
+package com.comp2042.simulation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.ToLongFunction;
+
+/**
+ * The results of a batch of simulated games, with throughput and distribution summaries.
+ */
+public final class SimulationReport {
+
+    /** The result of every game, in game order. */
+    private final List<GameResult> results;
+    /** The wall-clock time the batch took, in nanoseconds. */
+    private final long elapsedNanos;
+    /** The number of worker threads used. */
+    private final int threads;
+
+    /**
+     * Constructs a new SimulationReport.
+     *
+     * @param results the result of every game.
+     * @param elapsedNanos the wall-clock time the batch took, in nanoseconds.
+     * @param threads the number of worker threads used.
+     */
+    public SimulationReport(List<GameResult> results, long elapsedNanos, int threads) {
+        this.results = List.copyOf(results);
+        this.elapsedNanos = elapsedNanos;
+        this.threads = threads;
+    }
+
+    /**
+     * Returns the result of every game, in game order.
+     * @return an unmodifiable list of results.
+     */
+    public List<GameResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Returns the total number of pieces locked over all games.
+     * @return the piece count.
+     */
+    public long getTotalPieces() {
+        long total = 0;
+        for (GameResult result : results) {
+            total += result.getPieces();
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of games completed per second of wall-clock time.
+     * @return the game throughput.
+     */
+    public double getGamesPerSecond() {
+        return results.size() / seconds();
+    }
+
+    /**
+     * Returns the number of pieces locked per second of wall-clock time.
+     * @return the piece throughput.
+     */
+    public double getPiecesPerSecond() {
+        return getTotalPieces() / seconds();
+    }
+
+    /**
+     * Returns the elapsed time in seconds, never zero.
+     * @return the elapsed seconds.
+     */
+    private double seconds() {
+        return Math.max(elapsedNanos, 1) / 1e9;
+    }
+
+    /**
+     * Formats the report for the console.
+     * @return a multi-line summary.
+     */
+    public String format() {
+        long toppedOut = results.stream().filter(GameResult::isToppedOut).count();
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "games      %d on %d threads in %.3f s (%d topped out)%n",
+                results.size(), threads, seconds(), toppedOut));
+        out.append(String.format(Locale.ROOT, "throughput %.1f games/sec, %.0f pieces/sec%n",
+                getGamesPerSecond(), getPiecesPerSecond()));
+        out.append("pieces     ").append(summarize(GameResult::getPieces)).append(System.lineSeparator());
+        out.append("lines      ").append(summarize(r -> r.getLines())).append(System.lineSeparator());
+        out.append("score      ").append(summarize(r -> r.getScore())).append(System.lineSeparator());
+        return out.toString();
+    }
+
+    /**
+     * Summarizes the distribution of one value over all games.
+     *
+     * @param value extracts the value from a game result.
+     * @return the minimum, mean, median, 90th and 99th percentiles and maximum.
+     */
+    private String summarize(ToLongFunction<GameResult> value) {
+        if (results.isEmpty()) {
+            return "n/a";
+        }
+        long[] sorted = results.stream().mapToLong(value).sorted().toArray();
+        double mean = Arrays.stream(sorted).average().orElse(0);
+        return String.format(Locale.ROOT, "min %d  mean %.1f  p50 %d  p90 %d  p99 %d  max %d",
+                sorted[0], mean, percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+                sorted[sorted.length - 1]);
+    }
+
+    /**
+     * Returns a nearest-rank percentile of sorted values.
+     *
+     * @param sorted the values, in ascending order.
+     * @param p the percentile, from 0 to 100.
+     * @return the value at that percentile.
+     */
+    static long percentile(long[] sorted, int p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
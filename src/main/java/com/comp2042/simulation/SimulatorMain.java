@@ -0,0 +1,76 @@
+package com.comp2042.simulation;
+
+import com.comp2042.logic.board.BoardType;
+
+import java.util.Locale;
+
+/**
+ * Command-line entry point of the batch simulator. It needs no JavaFX runtime:
+ * <pre>
+ * java -cp target/classes com.comp2042.simulation.SimulatorMain --games 10000 --policy random
+ * </pre>
+ * Options: {@code --games N}, {@code --threads N} (default: all cores), {@code --seed N},
+ * {@code --policy random|scripted|bot|beam}, {@code --script "r:s,..."}, {@code --board simple|bitboard}
+ * and {@code --max-pieces N}.
+ */
+public final class SimulatorMain {
+
+    /**
+     * Private constructor to prevent instantiation of this entry point class.
+     */
+    private SimulatorMain() {}
+
+    /**
+     * Parses the options, runs the batch and prints the report.
+     *
+     * @param args the command-line options.
+     */
+    public static void main(String[] args) {
+        int games = 1000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        PolicyType policyType = PolicyType.RANDOM;
+        String script = ScriptedPolicy.DEFAULT_SCRIPT;
+        BoardType boardType = BoardType.BITBOARD;
+        long maxPieces = 100_000;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--games" -> games = Integer.parseInt(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    case "--seed" -> seed = Long.parseLong(value);
+                    case "--policy" -> policyType = PolicyType.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--script" -> script = value;
+                    case "--board" -> boardType = BoardType.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--max-pieces" -> maxPieces = Long.parseLong(value);
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            if (games < 1 || threads < 1 || maxPieces < 1) {
+                throw new IllegalArgumentException("--games, --threads and --max-pieces must be positive");
+            }
+            // Fail on a bad script before any worker starts
+            policyType.create(script);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("usage: SimulatorMain [--games N] [--threads N] [--seed N] [--policy random|scripted|bot|beam]"
+                    + " [--script r:s,...] [--board simple|bitboard] [--max-pieces N]");
+            System.exit(2);
+            return;
+        }
+
+        PolicyType policy = policyType;
+        String placements = script;
+        BatchSimulator simulator = new BatchSimulator(boardType, () -> policy.create(placements), maxPieces);
+
+        System.out.printf(Locale.ROOT, "seed %d, %s policy, %s board%n", seed,
+                policyType.name().toLowerCase(Locale.ROOT), boardType.name().toLowerCase(Locale.ROOT));
+        System.out.print(simulator.run(games, threads, seed).format());
+    }
+}
@@ -0,0 +1,100 @@
+package com.comp2042.tuning;
+
+import com.comp2042.ai.WeightedHeuristic;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * One member of a tuner population: a set of heuristic weights and the fitness it played to.
+ */
+public final class Candidate {
+
+    /** The number of weights of a {@link WeightedHeuristic}. */
+    public static final int WEIGHT_COUNT = 4;
+
+    /** The weights, in {@link WeightedHeuristic} constructor order: height, lines, holes, bumpiness. */
+    private final double[] weights;
+    /** The mean number of lines cleared per game, or NaN if the weights have not been played yet. */
+    private final double fitness;
+
+    /**
+     * Constructs a new Candidate.
+     *
+     * @param weights the weights in {@link WeightedHeuristic} constructor order; they are copied.
+     * @param fitness the mean number of lines cleared per game, or NaN if not played yet.
+     * @throws IllegalArgumentException if there are not exactly {@link #WEIGHT_COUNT} weights.
+     */
+    public Candidate(double[] weights, double fitness) {
+        if (weights.length != WEIGHT_COUNT) {
+            throw new IllegalArgumentException("Expected " + WEIGHT_COUNT + " weights, got " + weights.length);
+        }
+        this.weights = weights.clone();
+        this.fitness = fitness;
+    }
+
+    /**
+     * Builds the heuristic these weights describe.
+     *
+     * @return a new heuristic.
+     */
+    public WeightedHeuristic toHeuristic() {
+        return new WeightedHeuristic(weights[0], weights[1], weights[2], weights[3]);
+    }
+
+    /**
+     * Returns the weights.
+     *
+     * @return a copy of the weights, in {@link WeightedHeuristic} constructor order.
+     */
+    public double[] getWeights() {
+        return weights.clone();
+    }
+
+    /**
+     * Returns one weight.
+     *
+     * @param index the weight index, in {@link WeightedHeuristic} constructor order.
+     * @return the weight.
+     */
+    public double getWeight(int index) {
+        return weights[index];
+    }
+
+    /**
+     * Returns the mean number of lines cleared per game.
+     *
+     * @return the fitness, or NaN if the weights have not been played yet.
+     */
+    public double getFitness() {
+        return fitness;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        for (double weight : weights) {
+            if (out.length() > 0) out.append(", ");
+            out.append(String.format(Locale.ROOT, "%.6f", weight));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Compares the weights and fitness of two candidates.
+     *
+     * @param o the other object.
+     * @return true if both have the same weights and fitness.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Candidate other)) return false;
+        return Arrays.equals(weights, other.weights) && Double.compare(fitness, other.fitness) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(weights) + Double.hashCode(fitness);
+    }
+}
@@ -0,0 +1,122 @@
+package com.comp2042.tuning;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The evaluated population of one tuner generation, with convergence and throughput figures.
+ */
+public final class GenerationReport {
+
+    /** The generation number, counted from 0. */
+    private final int generation;
+    /** Every candidate with its fitness, best first. */
+    private final List<Candidate> ranked;
+    /** The number of games played to evaluate the generation. */
+    private final long games;
+    /** The wall-clock time the evaluation took, in nanoseconds. */
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a new GenerationReport.
+     *
+     * @param generation the generation number.
+     * @param ranked every candidate with its fitness, best first.
+     * @param games the number of games played.
+     * @param elapsedNanos the wall-clock time the evaluation took, in nanoseconds.
+     */
+    public GenerationReport(int generation, List<Candidate> ranked, long games, long elapsedNanos) {
+        this.generation = generation;
+        this.ranked = List.copyOf(ranked);
+        this.games = games;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the generation number.
+     * @return the generation, counted from 0.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns every candidate of the generation with its fitness.
+     * @return an unmodifiable list, best first.
+     */
+    public List<Candidate> getRanked() {
+        return ranked;
+    }
+
+    /**
+     * Returns the fittest candidate of the generation.
+     * @return the best candidate.
+     */
+    public Candidate getBest() {
+        return ranked.get(0);
+    }
+
+    /**
+     * Returns the mean fitness of the generation.
+     * @return the mean number of lines cleared per game over all candidates.
+     */
+    public double getMeanFitness() {
+        double sum = 0;
+        for (Candidate candidate : ranked) {
+            sum += candidate.getFitness();
+        }
+        return sum / ranked.size();
+    }
+
+    /**
+     * Returns how far the population's weights are spread: the standard deviation of each weight
+     * over the population, averaged over the weights. It shrinks towards zero as the population
+     * converges on one set of weights.
+     *
+     * @return the mean standard deviation of the weights.
+     */
+    public double getWeightSpread() {
+        double total = 0;
+        for (int w = 0; w < Candidate.WEIGHT_COUNT; w++) {
+            double mean = 0;
+            for (Candidate candidate : ranked) {
+                mean += candidate.getWeight(w);
+            }
+            mean /= ranked.size();
+            double variance = 0;
+            for (Candidate candidate : ranked) {
+                double d = candidate.getWeight(w) - mean;
+                variance += d * d;
+            }
+            total += Math.sqrt(variance / ranked.size());
+        }
+        return total / Candidate.WEIGHT_COUNT;
+    }
+
+    /**
+     * Returns the number of games played to evaluate the generation.
+     * @return the game count.
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the number of games completed per second of wall-clock time.
+     * @return the game throughput.
+     */
+    public double getGamesPerSecond() {
+        return games / (Math.max(elapsedNanos, 1) / 1e9);
+    }
+
+    /**
+     * Formats the generation as one console line.
+     * @return the summary line, without a line separator.
+     */
+    public String format() {
+        return String.format(Locale.ROOT,
+                "gen %4d  best %8.1f  mean %8.1f  spread %.4f  %d games in %.1f s (%.1f games/sec)  weights %s",
+                generation, getBest().getFitness(), getMeanFitness(), getWeightSpread(), games,
+                elapsedNanos / 1e9, getGamesPerSecond(), getBest());
+    }
+}
@@ -0,0 +1,349 @@
+package com.comp2042.tuning;
+
+import com.comp2042.logic.board.BoardType;
+import com.comp2042.simulation.BatchSimulator;
+import com.comp2042.simulation.BotPolicy;
+import com.comp2042.simulation.GameResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Evolves {@link com.comp2042.ai.WeightedHeuristic} weights by letting candidates play seeded
+ * games with the autoplay bot.
+ * <p>
+ * Every candidate of a generation plays the same set of games, so differences in fitness come
+ * from the weights rather than from luckier piece sequences; each generation draws a new set.
+ * Fitness is the mean number of lines cleared, with games stopped at a piece limit. All games
+ * of a generation, over every candidate, are spread over one {@link ForkJoinPool}.
+ * <p>
+ * The next generation keeps the best candidates unchanged and fills the rest with children:
+ * two parents are picked by tournament, their weights are averaged in proportion to their
+ * fitness, and sometimes one weight is nudged at random. Weights are kept at unit length, since
+ * only their direction changes which placement the bot picks.
+ * <p>
+ * Every random choice comes from the run seed and the generation number, so a run resumed from
+ * a {@link TunerCheckpoint} continues exactly as the uninterrupted run would have, and the
+ * result does not depend on the number of threads.
+ */
+public class GeneticTuner {
+
+    /** The number of candidates drawn for each tournament. */
+    static final int TOURNAMENT_SIZE = 3;
+    /** The chance that a child has one weight nudged. */
+    static final double MUTATION_RATE = 0.3;
+    /** The standard deviation of a nudge, relative to the unit-length weight vector. */
+    static final double MUTATION_SIGMA = 0.2;
+    /** Ranges of at most this many games are played by one task without splitting further. */
+    private static final int GAMES_PER_TASK = 2;
+    /** Separates the random streams used for the games of a generation. */
+    private static final long GAMES_STREAM = 0;
+    /** Separates the random streams used for breeding a generation. */
+    private static final long BREEDING_STREAM = 1;
+
+    /** The board implementation every game is played on. */
+    private final BoardType boardType;
+    /** The number of candidates in each generation. */
+    private final int populationSize;
+    /** The number of games each candidate plays per generation. */
+    private final int gamesPerCandidate;
+    /** The number of pieces after which a game is stopped if it has not topped out. */
+    private final long maxPieces;
+    /** The parallelism of the pool games are played on. */
+    private final int threads;
+    /** The seed every random choice of the run is derived from. */
+    private final long seed;
+
+    /**
+     * Constructs a new GeneticTuner.
+     *
+     * @param boardType the board implementation to play on.
+     * @param populationSize the number of candidates in each generation.
+     * @param gamesPerCandidate the number of games each candidate plays per generation.
+     * @param maxPieces the number of pieces after which a game is stopped.
+     * @param threads the number of games played at once.
+     * @param seed the seed every random choice of the run is derived from.
+     * @throws IllegalArgumentException if any count is not positive or the population is below 2.
+     */
+    public GeneticTuner(BoardType boardType, int populationSize, int gamesPerCandidate, long maxPieces,
+                        int threads, long seed) {
+        if (populationSize < 2 || gamesPerCandidate < 1 || maxPieces < 1 || threads < 1) {
+            throw new IllegalArgumentException("Population must be at least 2 and every count positive.");
+        }
+        this.boardType = boardType;
+        this.populationSize = populationSize;
+        this.gamesPerCandidate = gamesPerCandidate;
+        this.maxPieces = maxPieces;
+        this.threads = threads;
+        this.seed = seed;
+    }
+
+    /**
+     * Runs generations, from scratch or from a checkpoint, writing a checkpoint after each one.
+     *
+     * @param resume the checkpoint to continue from, or null to start from a random population.
+     *               It should come from a run with the same seed; its best fitness and stalled
+     *               count carry on, so patience stops the run where the uninterrupted one would.
+     * @param generations the number of the generation to stop before.
+     * @param patience stop early once the best fitness has not improved for this many generations; 0 never stops early.
+     * @param checkpointDir the directory to write checkpoints to, or null to write none.
+     * @param listener receives the report of every generation as soon as it is evaluated.
+     * @return the report of the last generation run, or null if none was run.
+     * @throws IOException if a checkpoint cannot be written.
+     * @throws IllegalArgumentException if the checkpoint was saved with a different population size.
+     */
+    public GenerationReport run(TunerCheckpoint resume, int generations, int patience, Path checkpointDir,
+                                Consumer<GenerationReport> listener) throws IOException {
+        if (resume != null && resume.getPopulation() != populationSize) {
+            throw new IllegalArgumentException("Checkpoint has a population of " + resume.getPopulation()
+                    + ", not " + populationSize);
+        }
+        double bestEver = resume == null ? Double.NEGATIVE_INFINITY : resume.getBestFitness();
+        int stalled = resume == null ? 0 : resume.getStalled();
+        if (patience > 0 && stalled >= patience) {
+            return null; // The checkpointed run had already stopped here
+        }
+        int generation = resume == null ? 0 : resume.getGeneration() + 1;
+        List<double[]> population = resume == null ? initialPopulation() : breed(generation, resume.getRanked());
+        GenerationReport last = null;
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            for (; generation < generations; generation++) {
+                last = evaluate(generation, population, pool);
+                if (last.getBest().getFitness() > bestEver) {
+                    bestEver = last.getBest().getFitness();
+                    stalled = 0;
+                } else {
+                    stalled++;
+                }
+                if (checkpointDir != null) {
+                    new TunerCheckpoint(seed, generation, last.getRanked(), bestEver, stalled).save(checkpointDir);
+                }
+                listener.accept(last);
+
+                if (patience > 0 && stalled >= patience) {
+                    break;
+                }
+                population = breed(generation + 1, last.getRanked());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return last;
+    }
+
+    /**
+     * Draws the first generation: weight vectors pointing in uniformly random directions.
+     *
+     * @return the weights of every candidate.
+     */
+    public List<double[]> initialPopulation() {
+        SplittableRandom random = random(0, BREEDING_STREAM);
+        List<double[]> population = new ArrayList<>(populationSize);
+        for (int i = 0; i < populationSize; i++) {
+            double[] weights = new double[Candidate.WEIGHT_COUNT];
+            for (int w = 0; w < weights.length; w++) {
+                weights[w] = random.nextGaussian();
+            }
+            population.add(normalize(weights));
+        }
+        return population;
+    }
+
+    /**
+     * Plays every candidate's games for one generation and ranks the candidates.
+     *
+     * @param generation the generation number, which fixes the games played.
+     * @param population the weights of every candidate.
+     * @param pool the pool to play the games on.
+     * @return the ranked generation.
+     */
+    GenerationReport evaluate(int generation, List<double[]> population, ForkJoinPool pool) {
+        SplittableRandom random = random(generation, GAMES_STREAM);
+        long[] gameSeeds = new long[gamesPerCandidate];
+        for (int g = 0; g < gameSeeds.length; g++) {
+            gameSeeds[g] = random.nextLong();
+        }
+
+        int games = population.size() * gamesPerCandidate;
+        int[] lines = new int[games];
+        long start = System.nanoTime();
+        pool.invoke(new GameRange(population, gameSeeds, lines, 0, games));
+        long elapsed = System.nanoTime() - start;
+
+        List<Candidate> ranked = new ArrayList<>(population.size());
+        for (int c = 0; c < population.size(); c++) {
+            long total = 0;
+            for (int g = 0; g < gamesPerCandidate; g++) {
+                total += lines[c * gamesPerCandidate + g];
+            }
+            ranked.add(new Candidate(population.get(c), (double) total / gamesPerCandidate));
+        }
+        // Stable, so equal fitness keeps population order
+        ranked.sort(Comparator.comparingDouble(Candidate::getFitness).reversed());
+        return new GenerationReport(generation, ranked, games, elapsed);
+    }
+
+    /**
+     * Breeds a generation from the ranked previous one.
+     *
+     * @param generation the number of the generation being bred, which fixes its random choices.
+     * @param ranked the previous generation, best first.
+     * @return the weights of every candidate of the new generation.
+     */
+    public List<double[]> breed(int generation, List<Candidate> ranked) {
+        SplittableRandom random = random(generation, BREEDING_STREAM);
+        List<double[]> next = new ArrayList<>(populationSize);
+        int elites = Math.min(eliteCount(), ranked.size());
+        for (int i = 0; i < elites; i++) {
+            next.add(ranked.get(i).getWeights());
+        }
+        while (next.size() < populationSize) {
+            Candidate a = tournament(ranked, random);
+            Candidate b = tournament(ranked, random);
+            double[] child = crossover(a, b);
+            if (random.nextDouble() < MUTATION_RATE) {
+                child[random.nextInt(child.length)] += random.nextGaussian() * MUTATION_SIGMA;
+            }
+            next.add(normalize(child));
+        }
+        return next;
+    }
+
+    /**
+     * Returns the number of best candidates carried into the next generation unchanged.
+     *
+     * @return a tenth of the population, at least one.
+     */
+    int eliteCount() {
+        return Math.max(1, populationSize / 10);
+    }
+
+    /**
+     * Picks the fittest of a few candidates drawn at random.
+     *
+     * @param ranked the population, best first.
+     * @param random the source of the draws.
+     * @return the winner.
+     */
+    private static Candidate tournament(List<Candidate> ranked, SplittableRandom random) {
+        int best = ranked.size();
+        for (int i = 0; i < TOURNAMENT_SIZE; i++) {
+            best = Math.min(best, random.nextInt(ranked.size()));
+        }
+        return ranked.get(best);
+    }
+
+    /**
+     * Averages two parents' weights in proportion to their fitness; equally if neither scored.
+     *
+     * @param a the first parent.
+     * @param b the second parent.
+     * @return the child's weights, not yet normalized.
+     */
+    private static double[] crossover(Candidate a, Candidate b) {
+        double fa = Math.max(a.getFitness(), 0);
+        double fb = Math.max(b.getFitness(), 0);
+        if (fa + fb == 0) {
+            fa = fb = 1;
+        }
+        double[] child = new double[Candidate.WEIGHT_COUNT];
+        for (int w = 0; w < child.length; w++) {
+            child[w] = a.getWeight(w) * fa + b.getWeight(w) * fb;
+        }
+        return child;
+    }
+
+    /**
+     * Scales a weight vector to unit length in place.
+     *
+     * @param weights the weights.
+     * @return the same array.
+     */
+    static double[] normalize(double[] weights) {
+        double length = 0;
+        for (double w : weights) {
+            length += w * w;
+        }
+        length = Math.sqrt(length);
+        if (length == 0) {
+            weights[0] = 1;
+            return weights;
+        }
+        for (int w = 0; w < weights.length; w++) {
+            weights[w] /= length;
+        }
+        return weights;
+    }
+
+    /**
+     * Returns the random source of one purpose in one generation.
+     *
+     * @param generation the generation number.
+     * @param stream which purpose the source is for.
+     * @return a new random source, the same for the same run seed, generation and purpose.
+     */
+    private SplittableRandom random(int generation, long stream) {
+        return new SplittableRandom(seed ^ (generation * 2L + stream) * 0x9E37_79B9_7F4A_7C15L);
+    }
+
+    /**
+     * Plays a contiguous range of the generation's games, splitting it in halves while it is large.
+     * Game {@code i} is candidate {@code i / gamesPerCandidate} on game seed {@code i % gamesPerCandidate}.
+     */
+    private final class GameRange extends RecursiveAction {
+
+        /** The weights of every candidate. */
+        private final List<double[]> population;
+        /** The seeds of the games every candidate plays. */
+        private final long[] gameSeeds;
+        /** Where the lines cleared in each game are stored, by game index. */
+        private final int[] lines;
+        /** The first game of this range, inclusive. */
+        private final int from;
+        /** The last game of this range, exclusive. */
+        private final int to;
+
+        /**
+         * Constructs a task for a range of games.
+         *
+         * @param population the weights of every candidate.
+         * @param gameSeeds the seeds of the games every candidate plays.
+         * @param lines where the lines cleared in each game are stored.
+         * @param from the first game, inclusive.
+         * @param to the last game, exclusive.
+         */
+        GameRange(List<double[]> population, long[] gameSeeds, int[] lines, int from, int to) {
+            this.population = population;
+            this.gameSeeds = gameSeeds;
+            this.lines = lines;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    Candidate candidate = new Candidate(population.get(i / gamesPerCandidate), Double.NaN);
+                    BatchSimulator simulator = new BatchSimulator(boardType,
+                            () -> new BotPolicy(candidate.toHeuristic()), maxPieces);
+                    GameResult result = simulator.playGame(gameSeeds[i % gamesPerCandidate]);
+                    lines[i] = result.getLines();
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new GameRange(population, gameSeeds, lines, from, mid),
+                    new GameRange(population, gameSeeds, lines, mid, to));
+        }
+    }
+}
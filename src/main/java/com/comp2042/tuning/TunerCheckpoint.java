@@ -0,0 +1,221 @@
+package com.comp2042.tuning;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A saved tuner generation: the seed of the run, the generation number, the evaluated
+ * population and the early-stopping state, enough to breed the next generation and stop
+ * exactly as the uninterrupted run would have.
+ * <p>
+ * Checkpoints are small text files, one candidate per line, so a run can be inspected or its
+ * best weights copied out while it is still going:
+ * <pre>
+ * tetris-tuner 2
+ * seed 42
+ * generation 7
+ * population 24
+ * best &lt;best fitness so far&gt;
+ * stalled &lt;generations without improvement&gt;
+ * candidate &lt;fitness&gt; &lt;height&gt; &lt;lines&gt; &lt;holes&gt; &lt;bumpiness&gt;
+ * </pre>
+ * Numbers are written with {@link Double#toString(double)}, which reads back to the same value.
+ */
+public final class TunerCheckpoint {
+
+    /** The first token of every checkpoint file. */
+    static final String MAGIC = "tetris-tuner";
+    /** The format version written after {@link #MAGIC}. */
+    static final int VERSION = 2;
+    /** The number of header lines before the candidates, including the {@link #MAGIC} line. */
+    private static final int HEADER_LINES = 6;
+
+    /** The seed of the run. */
+    private final long seed;
+    /** The number of the saved generation. */
+    private final int generation;
+    /** The evaluated population, best first. */
+    private final List<Candidate> ranked;
+    /** The best fitness of any generation up to and including the saved one. */
+    private final double bestFitness;
+    /** The number of generations, up to the saved one, since the best fitness last improved. */
+    private final int stalled;
+
+    /**
+     * Constructs a new TunerCheckpoint.
+     *
+     * @param seed the seed of the run.
+     * @param generation the number of the saved generation.
+     * @param ranked the evaluated population, best first.
+     * @param bestFitness the best fitness of any generation so far.
+     * @param stalled the number of generations since the best fitness last improved.
+     */
+    public TunerCheckpoint(long seed, int generation, List<Candidate> ranked, double bestFitness, int stalled) {
+        this.seed = seed;
+        this.generation = generation;
+        this.ranked = List.copyOf(ranked);
+        this.bestFitness = bestFitness;
+        this.stalled = stalled;
+    }
+
+    /**
+     * Returns the file name a generation is saved under.
+     *
+     * @param generation the generation number.
+     * @return the file name, such as {@code generation-0007.txt}.
+     */
+    public static String fileName(int generation) {
+        return String.format(Locale.ROOT, "generation-%04d.txt", generation);
+    }
+
+    /**
+     * Writes the checkpoint into a directory, creating it if needed. The file is written under a
+     * temporary name and then moved into place, so a run killed mid-write never leaves a
+     * truncated checkpoint behind.
+     *
+     * @param directory the directory to write into.
+     * @return the path of the written file.
+     * @throws IOException if the file cannot be written.
+     */
+    public Path save(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        StringBuilder out = new StringBuilder();
+        out.append(MAGIC).append(' ').append(VERSION).append('\n');
+        out.append("seed ").append(seed).append('\n');
+        out.append("generation ").append(generation).append('\n');
+        out.append("population ").append(ranked.size()).append('\n');
+        out.append("best ").append(bestFitness).append('\n');
+        out.append("stalled ").append(stalled).append('\n');
+        for (Candidate candidate : ranked) {
+            out.append("candidate ").append(candidate.getFitness());
+            for (double weight : candidate.getWeights()) {
+                out.append(' ').append(weight);
+            }
+            out.append('\n');
+        }
+
+        Path target = directory.resolve(fileName(generation));
+        Path temp = directory.resolve(fileName(generation) + ".tmp");
+        Files.writeString(temp, out, StandardCharsets.UTF_8);
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return target;
+    }
+
+    /**
+     * Reads a checkpoint file.
+     *
+     * @param file the file to read.
+     * @return the checkpoint.
+     * @throws IOException if the file cannot be read or is not a valid checkpoint.
+     */
+    public static TunerCheckpoint load(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (lines.size() < HEADER_LINES || !lines.get(0).equals(MAGIC + " " + VERSION)) {
+            throw new IOException("Not a version " + VERSION + " tuner checkpoint: " + file);
+        }
+        try {
+            long seed = Long.parseLong(value(lines.get(1), "seed"));
+            int generation = Integer.parseInt(value(lines.get(2), "generation"));
+            int population = Integer.parseInt(value(lines.get(3), "population"));
+            double bestFitness = Double.parseDouble(value(lines.get(4), "best"));
+            int stalled = Integer.parseInt(value(lines.get(5), "stalled"));
+            List<Candidate> ranked = new ArrayList<>();
+            for (String line : lines.subList(HEADER_LINES, lines.size())) {
+                if (line.isBlank()) continue;
+                String[] parts = value(line, "candidate").split(" ");
+                if (parts.length != Candidate.WEIGHT_COUNT + 1) {
+                    throw new IOException("Bad candidate line: " + line);
+                }
+                double[] weights = new double[Candidate.WEIGHT_COUNT];
+                for (int w = 0; w < weights.length; w++) {
+                    weights[w] = Double.parseDouble(parts[w + 1]);
+                }
+                ranked.add(new Candidate(weights, Double.parseDouble(parts[0])));
+            }
+            if (ranked.isEmpty()) {
+                throw new IOException("Checkpoint has no candidates: " + file);
+            }
+            if (ranked.size() != population) {
+                throw new IOException("Checkpoint lists " + ranked.size() + " candidates for a population of "
+                        + population + ": " + file);
+            }
+            return new TunerCheckpoint(seed, generation, ranked, bestFitness, stalled);
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed tuner checkpoint: " + file, e);
+        }
+    }
+
+    /**
+     * Reads the value of a {@code key value} line.
+     *
+     * @param line the line.
+     * @param key the expected key.
+     * @return the text after the key and its space.
+     * @throws IOException if the line does not start with the key.
+     */
+    private static String value(String line, String key) throws IOException {
+        if (!line.startsWith(key + " ")) {
+            throw new IOException("Expected '" + key + "' but found: " + line);
+        }
+        return line.substring(key.length() + 1).trim();
+    }
+
+    /**
+     * Returns the seed of the run.
+     * @return the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of the saved generation.
+     * @return the generation, counted from 0.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the evaluated population.
+     * @return an unmodifiable list, best first.
+     */
+    public List<Candidate> getRanked() {
+        return ranked;
+    }
+
+    /**
+     * Returns the population size of the run.
+     * @return the number of candidates per generation.
+     */
+    public int getPopulation() {
+        return ranked.size();
+    }
+
+    /**
+     * Returns the best fitness of any generation up to and including the saved one.
+     * @return the best fitness so far.
+     */
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    /**
+     * Returns the number of generations since the best fitness last improved.
+     * @return the stalled generation count.
+     */
+    public int getStalled() {
+        return stalled;
+    }
+}
@@ -0,0 +1,129 @@
+package com.comp2042.tuning;
+
+import com.comp2042.logic.board.BoardType;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Command-line entry point of the weight tuner. It needs no JavaFX runtime:
+ * <pre>
+ * java -cp target/classes com.comp2042.tuning.TunerMain --generations 50 --checkpoint-dir tuner
+ * </pre>
+ * Options: {@code --population N}, {@code --games N} (per candidate and generation),
+ * {@code --generations N}, {@code --max-pieces N}, {@code --threads N} (default: all cores),
+ * {@code --seed N}, {@code --board simple|bitboard}, {@code --patience N} (stop after N generations
+ * without improvement), {@code --checkpoint-dir DIR} and {@code --resume FILE}, which continues
+ * from a checkpoint with its seed, population and patience state; a {@code --population} that does
+ * not match the checkpoint's is rejected.
+ */
+public final class TunerMain {
+
+    /**
+     * Private constructor to prevent instantiation of this entry point class.
+     */
+    private TunerMain() {}
+
+    /**
+     * Parses the options, runs the tuner and prints one line per generation and the best weights.
+     *
+     * @param args the command-line options.
+     */
+    public static void main(String[] args) {
+        int population = 24;
+        boolean populationGiven = false;
+        int games = 8;
+        int generations = 30;
+        long maxPieces = 500;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        BoardType boardType = BoardType.BITBOARD;
+        int patience = 0;
+        Path checkpointDir = Path.of("tuner-checkpoints");
+        TunerCheckpoint resume = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--population" -> {
+                        population = Integer.parseInt(value);
+                        populationGiven = true;
+                    }
+                    case "--games" -> games = Integer.parseInt(value);
+                    case "--generations" -> generations = Integer.parseInt(value);
+                    case "--max-pieces" -> maxPieces = Long.parseLong(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    case "--seed" -> seed = Long.parseLong(value);
+                    case "--board" -> boardType = BoardType.valueOf(value.toUpperCase(Locale.ROOT));
+                    case "--patience" -> patience = Integer.parseInt(value);
+                    case "--checkpoint-dir" -> checkpointDir = Path.of(value);
+                    case "--resume" -> resume = loadCheckpoint(Path.of(value));
+                    default -> throw new IllegalArgumentException("Unknown option " + option);
+                }
+            }
+            if (resume != null) {
+                if (populationGiven && population != resume.getPopulation()) {
+                    throw new IllegalArgumentException("--population " + population
+                            + " does not match the checkpoint's population of " + resume.getPopulation());
+                }
+                population = resume.getPopulation();
+            }
+            if (population < 2 || games < 1 || generations < 1 || maxPieces < 1 || threads < 1 || patience < 0) {
+                throw new IllegalArgumentException(
+                        "--population must be at least 2, --patience not negative and the other counts positive");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("usage: TunerMain [--population N] [--games N] [--generations N] [--max-pieces N]"
+                    + " [--threads N] [--seed N] [--board simple|bitboard] [--patience N]"
+                    + " [--checkpoint-dir DIR] [--resume FILE]");
+            System.exit(2);
+            return;
+        }
+        if (resume != null) {
+            seed = resume.getSeed();
+        }
+
+        GeneticTuner tuner = new GeneticTuner(boardType, population, games, maxPieces, threads, seed);
+        System.out.printf(Locale.ROOT, "seed %d, population %d, %d games of up to %d pieces, %s board, %d threads%n",
+                seed, population, games, maxPieces, boardType.name().toLowerCase(Locale.ROOT), threads);
+        long start = System.nanoTime();
+        long[] totalGames = new long[1];
+        try {
+            GenerationReport last = tuner.run(resume, generations, patience, checkpointDir, report -> {
+                totalGames[0] += report.getGames();
+                System.out.println(report.format());
+            });
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf(Locale.ROOT, "%d games in %.1f s (%.1f games/sec), checkpoints in %s%n",
+                    totalGames[0], seconds, totalGames[0] / Math.max(seconds, 1e-9), checkpointDir);
+            if (last != null) {
+                System.out.println("best weights: new WeightedHeuristic(" + last.getBest() + ")");
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write checkpoint: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads the checkpoint to resume from, reporting a bad file as a usage error.
+     *
+     * @param file the checkpoint file.
+     * @return the checkpoint.
+     * @throws IllegalArgumentException if the file cannot be read.
+     */
+    private static TunerCheckpoint loadCheckpoint(Path file) {
+        try {
+            return TunerCheckpoint.load(file);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot resume: " + e.getMessage(), e);
+        }
+    }
+}
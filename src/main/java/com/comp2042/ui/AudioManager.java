@@ -2,29 +2,35 @@ package com.comp2042.ui;
 
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
 
 import java.net.URL;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Manages all audio playback within the application, including background music and sound effects.
  * Implements a singleton pattern to ensure a single point of control for audio resources.
  * This manager allows for playing, stopping, and controlling the volume of different audio tracks,
  * as well as enabling/disabling music and sound effects.
+ * <p>
+ * Every sound effect is played from a fixed pool of players, created and loaded when the effect
+ * is loaded. Playing an effect rewinds and starts the next player of its pool, so no player is
+ * created on the way to the speaker. At most {@link #VOICES_PER_EFFECT} copies of an effect play
+ * at once; when all are playing, the one started longest ago is cut off and reused.
  */
 public class AudioManager {
 
-    /** The singleton instance of the AudioManager. */
-    private static AudioManager instance;
+    /** The number of copies of one sound effect that can play at once. */
+    static final int VOICES_PER_EFFECT = 4;
+
+    /** The singleton instance of the AudioManager; volatile so it can be read without a lock. */
+    private static volatile AudioManager instance;
     /** The MediaPlayer instance for playing background music. */
     private MediaPlayer backgroundMusicPlayer;
-    /** A map to store loaded sound effects by name. */
-    private Map<String, Media> soundEffects;
-    /** A set to keep track of active sound effect MediaPlayers. */
-    private Set<MediaPlayer> activeSoundEffectPlayers;
+    /** A map to store the player pools of the loaded sound effects by name. */
+    private final Map<String, SoundEffect> soundEffects;
     /** The current volume level for background music (0.0 to 1.0). */
     private double musicVolume = 0.5;
     /** The current volume level for sound effects (0.0 to 1.0). */
@@ -57,20 +63,17 @@ public class AudioManager {
     private AudioManager(MediaPlayerFactory mediaPlayerFactory) {
         this.mediaPlayerFactory = mediaPlayerFactory;
         soundEffects = new HashMap<>();
-        activeSoundEffectPlayers = new HashSet<>();
         loadSoundEffects();
     }
 
     /**
      * Returns the singleton instance of AudioManager, creating it if it doesn't already exist
-     * with a {@code DefaultMediaPlayerFactory}.
+     * with a {@code DefaultMediaPlayerFactory}. Once the instance exists, no lock is taken.
      * @return The singleton instance of AudioManager.
      */
-    public static synchronized AudioManager getInstance() {
-        if (instance == null) {
-            instance = new AudioManager(new DefaultMediaPlayerFactory());
-        }
-        return instance;
+    public static AudioManager getInstance() {
+        AudioManager current = instance;
+        return current != null ? current : getInstance(new DefaultMediaPlayerFactory());
     }
 
     /**
@@ -80,26 +83,34 @@ public class AudioManager {
      * @param factory The {@code MediaPlayerFactory} to use for creating media players if the instance is null.
      * @return The singleton instance of AudioManager.
      */
-    public static synchronized AudioManager getInstance(MediaPlayerFactory factory) {
-        if (instance == null) {
-            instance = new AudioManager(factory);
+    public static AudioManager getInstance(MediaPlayerFactory factory) {
+        AudioManager current = instance;
+        if (current != null) {
+            return current;
+        }
+        synchronized (AudioManager.class) {
+            if (instance == null) {
+                instance = new AudioManager(factory);
+            }
+            return instance;
         }
-        return instance;
     }
 
     /**
      * Resets the singleton instance of AudioManager, stopping any active music and disposing resources.
      * This method is primarily for testing or reinitialization scenarios.
      */
-    public static synchronized void resetInstance() {
-        if (instance != null) {
-            instance.dispose();
-            instance = null;
+    public static void resetInstance() {
+        synchronized (AudioManager.class) {
+            if (instance != null) {
+                instance.dispose();
+                instance = null;
+            }
         }
     }
 
     /**
-     * Loads all predefined sound effects into the {@code soundEffects} map.
+     * Loads all predefined sound effects into the {@code soundEffects} map, with their player pools.
      */
     private void loadSoundEffects() {
         loadSoundEffect("button_click", BUTTON_CLICK);
@@ -108,7 +119,7 @@ public class AudioManager {
         loadSoundEffect("rotate", ROTATE_SOUND);
     }
     /**
-     * Loads a single sound effect from a given path and stores it with a specified name.
+     * Loads a single sound effect from a given path and stores it, with its player pool, under a specified name.
      * Error messages are printed to {@code System.err} if the file cannot be found or loaded.
      * @param name The logical name to associate with the sound effect.
      * @param path The path to the sound effect file (e.g., "/audio/button_click.wav").
@@ -118,7 +129,11 @@ public class AudioManager {
             URL resource = mediaPlayerFactory.getResource(path);
             if (resource != null) {
                 Media sound = mediaPlayerFactory.createMedia(resource.toString());
-                soundEffects.put(name, sound);
+                MediaPlayer[] voices = new MediaPlayer[VOICES_PER_EFFECT];
+                for (int i = 0; i < voices.length; i++) {
+                    voices[i] = mediaPlayerFactory.createMediaPlayer(sound);
+                }
+                soundEffects.put(name, new SoundEffect(voices));
             } else {
                 System.err.println("Could not find audio file: " + path);
             }
@@ -165,8 +180,8 @@ public class AudioManager {
     }
 
     /**
-     * Plays a specific sound effect if sound effects are enabled.
-     * The media player for the sound effect is disposed after it finishes playing.
+     * Plays a specific sound effect if sound effects are enabled, on the next player of its pool.
+     * If every player of the effect is playing, the one started longest ago is restarted.
      * Error messages are printed to {@code System.err} if the sound effect is not found.
      * @param effectName The name of the sound effect to play (e.g., "button_click").
      */
@@ -175,16 +190,9 @@ public class AudioManager {
             return;
         }
 
-        Media sound = soundEffects.get(effectName);
+        SoundEffect sound = soundEffects.get(effectName);
         if (sound != null) {
-            MediaPlayer mediaPlayer = mediaPlayerFactory.createMediaPlayer(sound);
-            mediaPlayer.setVolume(sfxVolume);
-            activeSoundEffectPlayers.add(mediaPlayer); // Add to the set of active players
-            mediaPlayer.setOnEndOfMedia(() -> {
-                mediaPlayer.dispose();
-                activeSoundEffectPlayers.remove(mediaPlayer); // Remove from the set
-            });
-            mediaPlayer.play();
+            sound.play(sfxVolume);
         } else {
             System.err.println("Sound effect not found: " + effectName);
         }
@@ -294,21 +302,20 @@ public class AudioManager {
      */
     public void dispose() {
         stopBackgroundMusic();
-        stopAllSoundEffects(); // Stop and dispose all active sound effects
+        stopAllSoundEffects();
+        for (SoundEffect sound : soundEffects.values()) {
+            sound.dispose();
+        }
         soundEffects.clear();
     }
 
     /**
-     * Stops and disposes all currently active sound effect players.
+     * Stops all playing sound effects. Their players stay loaded for the next time they are played.
      */
     public void stopAllSoundEffects() {
-        for (MediaPlayer player : new HashSet<>(activeSoundEffectPlayers)) { // Iterate over a copy to avoid ConcurrentModificationException
-            if (player.getStatus() == MediaPlayer.Status.PLAYING) {
-                player.stop();
-            }
-            player.dispose();
+        for (SoundEffect sound : soundEffects.values()) {
+            sound.stop();
         }
-        activeSoundEffectPlayers.clear();
     }
 
     /**
@@ -319,4 +326,56 @@ public class AudioManager {
     public static void setInstanceForTest(AudioManager testInstance) {
         instance = testInstance;
     }
+
+    /**
+     * The player pool of one sound effect. Players are used in turn, so the next one is always the
+     * one started longest ago; as every copy of an effect is equally long, it is also the first to
+     * be free, and it is only cut off when all of them are still playing.
+     */
+    private static final class SoundEffect {
+
+        /** The players of the effect, created and loaded up front. */
+        private final MediaPlayer[] voices;
+        /** Counts the plays; the next player is this count modulo the pool size. */
+        private final AtomicInteger next = new AtomicInteger();
+
+        /**
+         * Constructs the pool of an effect.
+         * @param voices The players of the effect.
+         */
+        SoundEffect(MediaPlayer[] voices) {
+            this.voices = voices;
+        }
+
+        /**
+         * Rewinds and starts the next player.
+         * @param volume The volume to play at (0.0 to 1.0).
+         */
+        void play(double volume) {
+            MediaPlayer voice = voices[Math.floorMod(next.getAndIncrement(), voices.length)];
+            voice.setVolume(volume);
+            voice.seek(Duration.ZERO); // A finished player stays at its end until rewound
+            voice.play();
+        }
+
+        /**
+         * Stops every player that is playing.
+         */
+        void stop() {
+            for (MediaPlayer voice : voices) {
+                if (voice.getStatus() == MediaPlayer.Status.PLAYING) {
+                    voice.stop();
+                }
+            }
+        }
+
+        /**
+         * Releases every player.
+         */
+        void dispose() {
+            for (MediaPlayer voice : voices) {
+                voice.dispose();
+            }
+        }
+    }
 }
\ No newline at end of file
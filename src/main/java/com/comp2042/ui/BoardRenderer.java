@@ -0,0 +1,45 @@
+package com.comp2042.ui;
+
+import com.comp2042.logic.board.DirtyCells;
+import com.comp2042.model.ViewData;
+
+/**
+ * Draws the main board: the locked tiles of the well, the active brick and its ghost.
+ * The game view talks to the board only through this interface, so the drawing technique
+ * can be chosen with {@link RendererType}.
+ */
+public interface BoardRenderer {
+
+    /**
+     * Builds the board display and draws the first brick.
+     * @param boardMatrix The board's cells, including the hidden rows.
+     * @param brick The view data of the first brick.
+     */
+    void initBoard(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * Redraws the board cells that changed, then clears the change set.
+     * @param boardMatrix The board's cells.
+     * @param changes The cells that changed since the last refresh.
+     */
+    void refreshBackground(int[][] boardMatrix, DirtyCells changes);
+
+    /**
+     * Moves the active brick and its ghost to their new position and shape.
+     * @param brick The view data of the active brick.
+     */
+    void refreshBrick(ViewData brick);
+
+    /**
+     * Draws the active brick part of the way towards the next row, between two gravity steps.
+     * A brick resting on the stack is never drawn below its row.
+     * @param progress The progress towards the next gravity step, from 0 to below 1.
+     */
+    void interpolateFall(double progress);
+
+    /**
+     * Shows or hides the ghost brick.
+     * @param visible Whether the ghost is drawn.
+     */
+    void setShadowVisible(boolean visible);
+}
@@ -14,6 +14,9 @@ import javafx.scene.shape.Rectangle;
  */
 public class BrickViewManager {
 
+    /** The fill of a filled ghost tile. */
+    private static final Color GHOST_FILL = new Color(1, 1, 1, Constants.GHOST_ALPHA);
+
     /** The GridPane that displays the active brick. */
     private final GridPane brickPanel;
     /** Reference to the main GridPane of the game board for layout calculations. */
@@ -32,6 +35,12 @@ public class BrickViewManager {
 
     /** Flag indicating whether the shadow (ghost piece) is currently enabled. */
     private boolean isShadowEnabled = true;
+    /** Whether the row below the active brick is free, so drawing it part of the way down is allowed. */
+    private boolean canFall;
+    /** The version of the view snapshot last drawn. */
+    private long shownVersion = ViewData.NO_VERSION;
+    /** The shape the tiles are styled with; a moved brick keeps its shape and is only repositioned. */
+    private int[][] shownShape;
 
     /**
      * Constructs a new BrickViewManager.
@@ -61,6 +70,8 @@ public class BrickViewManager {
     public void initDrawBricks(ViewData brick) {
         drawActiveBrick(brick);
         drawGhostBrick(brick);
+        shownShape = brick.getBrickData();
+        shownVersion = brick.getVersion();
     }
 
     /**
@@ -69,12 +80,13 @@ public class BrickViewManager {
      * @param brick The {@code ViewData} containing the active brick's shape and position.
      */
     private void drawActiveBrick(ViewData brick) {
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
+        int[][] shape = brick.getBrickData();
+        rectangles = new Rectangle[shape.length][shape[0].length];
         brickPanel.getChildren().clear();
 
-        for (int r = 0; r < brick.getBrickData().length; r++) {
-            for (int c = 0; c < brick.getBrickData()[r].length; c++) {
-                Rectangle rect = createTile(brick.getBrickData()[r][c], Constants.TILE_SIZE);
+        for (int r = 0; r < shape.length; r++) {
+            for (int c = 0; c < shape[r].length; c++) {
+                Rectangle rect = createTile(shape[r][c], Constants.TILE_SIZE);
                 rectangles[r][c] = rect;
                 brickPanel.add(rect, c, r);
             }
@@ -96,12 +108,13 @@ public class BrickViewManager {
         ghostPanel.setMouseTransparent(true);
         ghostPanel.getStyleClass().add("ghost-layer");
 
-        ghostRectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
+        int[][] shape = brick.getBrickData();
+        ghostRectangles = new Rectangle[shape.length][shape[0].length];
 
-        for (int r = 0; r < brick.getBrickData().length; r++) {
-            for (int c = 0; c < brick.getBrickData()[r].length; c++) {
+        for (int r = 0; r < shape.length; r++) {
+            for (int c = 0; c < shape[r].length; c++) {
                 Rectangle rect = createTile(0, Constants.TILE_SIZE);
-                rect.setFill(getGhostFillColor(brick.getBrickData()[r][c]));
+                rect.setFill(getGhostFillColor(shape[r][c]));
                 ghostRectangles[r][c] = rect;
                 ghostPanel.add(rect, c, r);
             }
@@ -139,36 +152,44 @@ public class BrickViewManager {
      */
     private Paint getGhostFillColor(int val) {
         if (val == 0) return Color.TRANSPARENT;
-        return new Color(1, 1, 1, Constants.GHOST_ALPHA);
+        return GHOST_FILL;
     }
 
     /**
      * Updates the position and appearance of the active piece and its ghost.
      * This method should be called when the brick moves or changes shape.
+     * A snapshot already drawn is skipped, and the tiles are only restyled when the shape changed.
      * @param brick The {@code ViewData} containing the updated active brick and ghost brick information.
      */
     public void refreshBrick(ViewData brick) {
         if (rectangles == null) return;
+        if (shownVersion != ViewData.NO_VERSION && brick.getVersion() == shownVersion) return;
+        shownVersion = brick.getVersion();
 
         updateBrickPanelPosition(brick);
 
-        // Update active piece tiles
-        for (int r = 0; r < brick.getBrickData().length; r++) {
-            for (int c = 0; c < brick.getBrickData()[r].length; c++) {
-                TileStyleUtility.applyTileStyle(rectangles[r][c], brick.getBrickData()[r][c]);
+        int[][] shape = brick.getBrickData();
+        boolean reshaped = shape != shownShape;
+        if (reshaped) {
+            // Update active piece tiles
+            for (int r = 0; r < shape.length; r++) {
+                for (int c = 0; c < shape[r].length; c++) {
+                    TileStyleUtility.applyTileStyle(rectangles[r][c], shape[r][c]);
+                }
             }
+            if (ghostRectangles != null) {
+                for (int r = 0; r < shape.length; r++) {
+                    for (int c = 0; c < shape[r].length; c++) {
+                        ghostRectangles[r][c].setFill(getGhostFillColor(shape[r][c]));
+                    }
+                }
+            }
+            shownShape = shape;
         }
 
         // Update ghost piece
         if (isShadowEnabled) {
             updateGhostPanelPosition(brick);
-            if (ghostRectangles != null) {
-                for (int r = 0; r < brick.getBrickData().length; r++) {
-                    for (int c = 0; c < brick.getBrickData()[r].length; c++) {
-                        ghostRectangles[r][c].setFill(getGhostFillColor(brick.getBrickData()[r][c]));
-                    }
-                }
-            }
             if (ghostPanel != null) ghostPanel.setVisible(true);
         } else {
             if (ghostPanel != null) ghostPanel.setVisible(false);
@@ -185,6 +206,21 @@ public class BrickViewManager {
         brickPanel.setLayoutX(gamePanel.getLayoutX() + brick.getxPosition() * tile);
         brickPanel.setLayoutY(gamePanel.getLayoutY() +
                 (brick.getyPosition() - Constants.HIDDEN_ROWS) * tile);
+
+        canFall = brick.getyPosition() < brick.getGhostYPosition();
+        if (!canFall) {
+            brickPanel.setTranslateY(0);
+        }
+    }
+
+    /**
+     * Draws the active brick part of the way towards the next row, between two gravity steps.
+     * A brick resting on the stack is never drawn below its row.
+     * @param progress The progress towards the next gravity step, from 0 to below 1.
+     */
+    public void interpolateFall(double progress) {
+        double tile = Constants.TILE_SIZE + Constants.GRID_GAP;
+        brickPanel.setTranslateY(canFall ? progress * tile : 0);
     }
 
     /**
@@ -215,6 +251,8 @@ public class BrickViewManager {
         if (ghostPanel != null) {
             ghostPanel.setVisible(isShadowEnabled);
         }
+        // The ghost is not moved while hidden, so the next snapshot must be drawn even if already seen
+        shownVersion = ViewData.NO_VERSION;
     }
 
     /**
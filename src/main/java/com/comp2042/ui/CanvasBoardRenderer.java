@@ -0,0 +1,256 @@
+package com.comp2042.ui;
+
+import com.comp2042.logic.Constants;
+import com.comp2042.logic.board.DirtyCells;
+import com.comp2042.model.ViewData;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.RowConstraints;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+import java.util.Arrays;
+
+/**
+ * Draws the whole board, the active brick and its ghost onto a single {@link Canvas}.
+ * <p>
+ * The scene graph holds one node for the board instead of a rectangle per tile, and no tile
+ * goes through a CSS pass: every tile value is drawn once into an image with its
+ * {@link TileStyleUtility} fill, and drawing a cell is a single image copy. Only the rows
+ * touched by a change are redrawn: changed board cells, and the rows the brick and ghost
+ * leave and enter.
+ * <p>
+ * The canvas sits in the game grid, spanning every column and visible row, and the grid's
+ * tracks are fixed to the tile size so nodes placed in the grid, such as the line clear flash,
+ * still line up with the drawn rows.
+ */
+public class CanvasBoardRenderer implements BoardRenderer {
+
+    /** The number of tile values whose images are drawn up front; larger values are drawn when first seen. */
+    private static final int PRERENDERED_VALUES = 9;
+    /** The distance from one tile to the next, in pixels. */
+    private static final double PITCH = Constants.TILE_SIZE + Constants.GRID_GAP;
+
+    /** The grid the canvas is placed in. */
+    private final GridPane gamePanel;
+    /** The image of each tile value, by value; null for the empty value and values not seen yet. */
+    private Image[] tileImages;
+    /** The image of one ghost tile. */
+    private final Image ghostImage;
+
+    /** The canvas the board is drawn on; created with the board. */
+    private Canvas canvas;
+    /** The board cells as drawn, including the hidden rows. */
+    private int[][] cells;
+    /** The rows to redraw on the next render, one bit per board row. */
+    private long dirtyRows;
+    /** The active brick as drawn, or null before the first brick. */
+    private ViewData brick;
+    /** The downward offset the active brick is drawn with, in whole pixels. */
+    private int fallOffset;
+    /** Whether the ghost brick is drawn. */
+    private boolean shadowVisible = true;
+
+    /**
+     * Constructs a new CanvasBoardRenderer and draws the tile images.
+     * Must be called on the JavaFX application thread.
+     * @param gamePanel The grid the canvas is placed in.
+     */
+    public CanvasBoardRenderer(GridPane gamePanel) {
+        this.gamePanel = gamePanel;
+        this.tileImages = new Image[PRERENDERED_VALUES];
+        for (int value = 1; value < PRERENDERED_VALUES; value++) {
+            tileImages[value] = renderTile(TileStyleUtility.getFill(value));
+        }
+        this.ghostImage = renderTile(new Color(1, 1, 1, Constants.GHOST_ALPHA));
+    }
+
+    /**
+     * Draws one rounded tile into an image.
+     * @param fill The fill of the tile.
+     * @return The tile image, transparent around the rounded corners.
+     */
+    private static Image renderTile(Paint fill) {
+        Canvas tile = new Canvas(Constants.TILE_SIZE, Constants.TILE_SIZE);
+        GraphicsContext g = tile.getGraphicsContext2D();
+        g.setFill(fill);
+        g.fillRoundRect(0, 0, Constants.TILE_SIZE, Constants.TILE_SIZE,
+                Constants.TILE_ROUNDING, Constants.TILE_ROUNDING);
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        return tile.snapshot(params, null);
+    }
+
+    /**
+     * Creates the canvas, fixes the grid tracks to the tile size and draws the whole board.
+     * @param boardMatrix The board's cells, including the hidden rows.
+     * @param brick The view data of the first brick.
+     */
+    @Override
+    public void initBoard(int[][] boardMatrix, ViewData brick) {
+        int rows = boardMatrix.length;
+        int columns = boardMatrix[0].length;
+        int visibleRows = rows - Constants.HIDDEN_ROWS;
+        cells = new int[rows][];
+        for (int r = 0; r < rows; r++) {
+            cells[r] = boardMatrix[r].clone();
+        }
+
+        for (int c = 0; c < columns; c++) {
+            gamePanel.getColumnConstraints().add(new ColumnConstraints(Constants.TILE_SIZE));
+        }
+        for (int r = 0; r < visibleRows; r++) {
+            gamePanel.getRowConstraints().add(new RowConstraints(Constants.TILE_SIZE));
+        }
+        canvas = new Canvas(columns * PITCH - Constants.GRID_GAP, visibleRows * PITCH - Constants.GRID_GAP);
+        canvas.setMouseTransparent(true);
+        gamePanel.add(canvas, 0, 0, columns, visibleRows);
+
+        this.brick = brick;
+        dirtyRows = -1L;
+        render();
+    }
+
+    /**
+     * Copies the changed cells and redraws their rows, then clears the change set.
+     * @param boardMatrix The board's cells.
+     * @param changes The cells that changed since the last refresh.
+     */
+    @Override
+    public void refreshBackground(int[][] boardMatrix, DirtyCells changes) {
+        for (int i = 0; i < changes.size(); i++) {
+            int r = changes.getRow(i);
+            int c = changes.getColumn(i);
+            if (cells[r][c] != boardMatrix[r][c]) {
+                cells[r][c] = boardMatrix[r][c];
+                dirtyRows |= 1L << r;
+            }
+        }
+        changes.clear();
+        render();
+    }
+
+    @Override
+    public void refreshBrick(ViewData brick) {
+        if (this.brick != null && brick.getVersion() == this.brick.getVersion()) return;
+        markBrickRows();
+        this.brick = brick;
+        if (!canFall()) {
+            fallOffset = 0;
+        }
+        render();
+    }
+
+    @Override
+    public void interpolateFall(double progress) {
+        int offset = canFall() ? (int) (progress * PITCH) : 0;
+        if (offset == fallOffset) return;
+        markBrickRows();
+        fallOffset = offset;
+        render();
+    }
+
+    @Override
+    public void setShadowVisible(boolean visible) {
+        if (visible == shadowVisible) return;
+        shadowVisible = visible;
+        markBrickRows();
+        render();
+    }
+
+    /**
+     * Checks if the row below the active brick is free.
+     * @return True if the brick can move down.
+     */
+    private boolean canFall() {
+        return brick != null && brick.getyPosition() < brick.getGhostYPosition();
+    }
+
+    /**
+     * Marks the rows covered by the active brick, including the row it is falling into,
+     * and by its ghost.
+     */
+    private void markBrickRows() {
+        if (brick == null) return;
+        int height = brick.getBrickData().length;
+        markRows(brick.getyPosition(), height + 1);
+        markRows(brick.getGhostYPosition(), height);
+    }
+
+    /**
+     * Marks a run of board rows for redrawing, ignoring rows outside the board.
+     * @param first The first row.
+     * @param count The number of rows.
+     */
+    private void markRows(int first, int count) {
+        for (int r = Math.max(first, 0); r < Math.min(first + count, cells.length); r++) {
+            dirtyRows |= 1L << r;
+        }
+    }
+
+    /**
+     * Redraws the marked rows from the board cells, then the ghost and the active brick over them.
+     * The rows of the brick and ghost are always redrawn, so they are never drawn twice over.
+     */
+    private void render() {
+        markBrickRows();
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        for (int r = Constants.HIDDEN_ROWS; r < cells.length; r++) {
+            if ((dirtyRows & (1L << r)) == 0) continue;
+            double y = (r - Constants.HIDDEN_ROWS) * PITCH;
+            g.clearRect(0, y, canvas.getWidth(), PITCH);
+            int[] row = cells[r];
+            for (int c = 0; c < row.length; c++) {
+                if (row[c] != 0) {
+                    g.drawImage(tile(row[c]), c * PITCH, y);
+                }
+            }
+        }
+        dirtyRows = 0;
+
+        if (brick == null) return;
+        int[][] shape = brick.getBrickData();
+        if (shadowVisible) {
+            drawShape(g, shape, brick.getGhostXPosition(), brick.getGhostYPosition(), 0, true);
+        }
+        drawShape(g, shape, brick.getxPosition(), brick.getyPosition(), fallOffset, false);
+    }
+
+    /**
+     * Draws the filled cells of a brick shape.
+     * @param g The canvas to draw on.
+     * @param shape The brick shape.
+     * @param x The board column of the shape's left edge.
+     * @param y The board row of the shape's top edge.
+     * @param offset The extra downward offset, in pixels.
+     * @param ghost Whether to draw ghost tiles instead of the shape's own tiles.
+     */
+    private void drawShape(GraphicsContext g, int[][] shape, int x, int y, double offset, boolean ghost) {
+        for (int r = 0; r < shape.length; r++) {
+            for (int c = 0; c < shape[r].length; c++) {
+                if (shape[r][c] == 0) continue;
+                g.drawImage(ghost ? ghostImage : tile(shape[r][c]),
+                        (x + c) * PITCH, (y + r - Constants.HIDDEN_ROWS) * PITCH + offset);
+            }
+        }
+    }
+
+    /**
+     * Returns the image of a tile value, drawing it the first time the value is seen.
+     * @param value The tile value, at least 1.
+     * @return The tile image.
+     */
+    private Image tile(int value) {
+        if (value >= tileImages.length) {
+            tileImages = Arrays.copyOf(tileImages, Math.max(value + 1, tileImages.length * 2));
+        }
+        if (tileImages[value] == null) {
+            tileImages[value] = renderTile(TileStyleUtility.getFill(value));
+        }
+        return tileImages[value];
+    }
+}
@@ -0,0 +1,117 @@
+package com.comp2042.ui;
+
+/**
+ * The time keeping behind the game loop: frame timestamps are added up, and every whole step
+ * interval that has passed is owed one logic step. What is left over is the progress towards the
+ * next step, which the view uses to draw between steps.
+ * <p>
+ * Changing the step interval keeps the time already gathered, so a new fall speed takes effect
+ * without losing the phase of the current step. Paused time is not counted, and after a long
+ * stall at most {@link #MAX_STEPS_PER_FRAME} steps are run in one frame so the game never tries
+ * to catch up with a burst of moves.
+ * <p>
+ * It holds no JavaFX state, so it is driven by the game loop's {@code AnimationTimer} in the
+ * game and by plain timestamps in tests.
+ */
+final class FixedStepClock {
+
+    /** The most steps run in one frame; whole steps beyond this are dropped. */
+    static final int MAX_STEPS_PER_FRAME = 4;
+    /** Marks that no frame has been seen since the clock was created, paused or reset. */
+    private static final long NO_FRAME = Long.MIN_VALUE;
+
+    /** The time between two logic steps, in nanoseconds. */
+    private long stepNanos;
+    /** The time gathered towards the next step, in nanoseconds. */
+    private long accumulated;
+    /** The timestamp of the last frame, or {@link #NO_FRAME}. */
+    private long lastFrame = NO_FRAME;
+    /** The steps already run in the current frame. */
+    private int stepsThisFrame;
+
+    /**
+     * Constructs a new FixedStepClock.
+     * @param stepNanos The time between two logic steps, in nanoseconds.
+     * @throws IllegalArgumentException if the interval is not positive.
+     */
+    FixedStepClock(long stepNanos) {
+        setStepNanos(stepNanos);
+    }
+
+    /**
+     * Adds the time since the previous frame. The first frame after the clock was created,
+     * paused or reset only sets the starting point.
+     * @param now The timestamp of this frame, in nanoseconds.
+     */
+    void advance(long now) {
+        if (lastFrame != NO_FRAME && now > lastFrame) {
+            accumulated += now - lastFrame;
+        }
+        lastFrame = now;
+        stepsThisFrame = 0;
+    }
+
+    /**
+     * Takes one owed step, if any. Called in a loop after {@link #advance(long)}; since each
+     * call compares against the current interval, a speed change made by a step applies to the
+     * steps after it in the same frame.
+     * @return Whether a step is owed and should be run now.
+     */
+    boolean takeStep() {
+        if (accumulated < stepNanos) {
+            return false;
+        }
+        if (stepsThisFrame == MAX_STEPS_PER_FRAME) {
+            accumulated %= stepNanos;
+            return false;
+        }
+        accumulated -= stepNanos;
+        stepsThisFrame++;
+        return true;
+    }
+
+    /**
+     * Changes the time between steps. The time gathered so far is kept, so a step that is
+     * already owed at the new interval runs on the next frame.
+     * @param stepNanos The new interval, in nanoseconds.
+     * @throws IllegalArgumentException if the interval is not positive.
+     */
+    void setStepNanos(long stepNanos) {
+        if (stepNanos <= 0) {
+            throw new IllegalArgumentException("Step interval must be positive: " + stepNanos);
+        }
+        this.stepNanos = stepNanos;
+    }
+
+    /**
+     * Stops counting time until the next frame, which then starts a new measurement.
+     * The progress towards the next step is kept.
+     */
+    void pause() {
+        lastFrame = NO_FRAME;
+    }
+
+    /**
+     * Forgets all gathered time, so the next step is a full interval after the next frame.
+     */
+    void reset() {
+        accumulated = 0;
+        lastFrame = NO_FRAME;
+    }
+
+    /**
+     * Returns the progress towards the next step.
+     * @return A fraction from 0 (a step just ran) up to, but not including, 1.
+     */
+    double getAlpha() {
+        return Math.min((double) accumulated / stepNanos, Math.nextDown(1.0));
+    }
+
+    /**
+     * Returns the time between two logic steps.
+     * @return The interval, in nanoseconds.
+     */
+    long getStepNanos() {
+        return stepNanos;
+    }
+}
@@ -2,19 +2,20 @@ package com.comp2042.ui;
 
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickType;
-import com.comp2042.logic.bricks.RandomBrickGenerator;
-import com.comp2042.logic.scoring.Score;
-import javafx.animation.Animation;
-import javafx.animation.FadeTransition;
-import javafx.animation.RotateTransition;
-import javafx.animation.TranslateTransition;
-import javafx.beans.value.ChangeListener;
-import javafx.beans.value.ObservableValue;
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.JBrick;
+import com.comp2042.logic.bricks.LBrick;
+import com.comp2042.logic.bricks.OBrick;
+import com.comp2042.logic.bricks.SBrick;
+import com.comp2042.logic.bricks.TBrick;
+import com.comp2042.logic.bricks.ZBrick;
+import javafx.animation.AnimationTimer;
+import javafx.beans.InvalidationListener;
+import javafx.scene.CacheHint;
 import javafx.scene.Group;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
-import javafx.util.Duration;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -24,153 +25,122 @@ import java.util.Random;
  * Manages the background animation of floating, rotating tetromino outlines.
  * These animations are designed to be chill, minimal, and run on both the main menu and game screens.
  * The tetrominos drift diagonally, rotate slowly, and subtly fade in and out.
- * The animation dynamically adjusts to the container's size changes.
+ * <p>
+ * All tetrominos are moved by one {@link AnimationTimer}, which computes every tetromino's drift,
+ * spin and fade from the elapsed time, instead of three transitions per tetromino. The tetromino
+ * nodes are built once, cached as bitmaps and only ever transformed. Positions are kept as
+ * fractions of the container, so a resize moves the tetrominos to their place in the new size
+ * once the size has settled, without rebuilding them.
  */
 public class FloatingTetrominos {
 
-    /** The JavaFX Pane that contains the floating tetrominos. */
-    private Pane container;
-    /** A list to hold all active tetromino animations. */
-    private List<TetrominoAnimation> tetrominoAnimations = new ArrayList<>();
-    /** Random number generator for various animation properties. */
-    private Random random = new Random();
-    /** Generates random brick types for the tetrominos. */
-    private RandomBrickGenerator brickGenerator = new RandomBrickGenerator(new Score());
-
+    /** The bricks the tetrominos are drawn from; their shape tables are shared, read-only. */
+    private static final Brick[] BRICKS = {
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()
+    };
     /** Scaling factor for the size of individual tetromino blocks. */
-    private final double TETROMINO_SCALE = 0.5;
+    private static final double TETROMINO_SCALE = 0.5;
     /** The number of tetrominos to display simultaneously. */
-    private final int TETROMINO_COUNT = 10;
+    static final int TETROMINO_COUNT = 10;
+    /** The opacity a tetromino starts at and fades back to. */
+    static final double BASE_OPACITY = 0.5;
+    /** How long the container size must stay unchanged before the tetrominos follow it, in nanoseconds. */
+    static final long RESIZE_DEBOUNCE_NANOS = 150_000_000L;
+    /** The longest frame gap the animation advances by, so a stall does not make the tetrominos jump. */
+    private static final double MAX_FRAME_SECONDS = 0.1;
+    /** Marks that no resize is waiting to be applied. */
+    private static final long NO_RESIZE = Long.MIN_VALUE;
+    /** Marks that no frame has been drawn since the animation was started. */
+    private static final long NO_FRAME = Long.MIN_VALUE;
+
+    /** The JavaFX Pane that contains the floating tetrominos. */
+    private final Pane container;
+    /** The tetrominos, built once and reused for the life of this instance. */
+    private final List<Particle> particles = new ArrayList<>();
+    /** Notes that the container changed size; removed again by {@link #dispose()}. */
+    private final InvalidationListener sizeListener = observable -> resizeChanged = true;
+
+    /** The timer driving the animation; created when first started. */
+    private AnimationTimer timer;
+    /** The animation time, in seconds; it does not advance while stopped. */
+    private double elapsed;
+    /** The timestamp of the last frame, or {@link #NO_FRAME}. */
+    private long lastFrame = NO_FRAME;
+    /** The container width the tetrominos are placed in. */
+    private double width;
+    /** The container height the tetrominos are placed in. */
+    private double height;
+    /** Whether the container size changed since the last frame. */
+    private boolean resizeChanged;
+    /** When the waiting resize is applied, or {@link #NO_RESIZE}. */
+    private long resizeDue = NO_RESIZE;
 
     /**
      * Constructs a new FloatingTetrominos animation manager.
-     * Initializes the container and sets up listeners for dynamic resizing.
+     * Builds the tetrominos, adds them to the container and listens for size changes.
      *
      * @param container The Pane where the tetrominos will be displayed and animated.
      */
     public FloatingTetrominos(Pane container) {
-        this.container = container;
-        
-        // Add listeners to resize tetrominos when container dimensions change
-        this.container.widthProperty().addListener(new ChangeListener<Number>() {
-            @Override
-            public void changed(ObservableValue<? extends Number> observable, Number oldValue, Number newValue) {
-                resizeTetrominos();
-            }
-        });
-        this.container.heightProperty().addListener(new ChangeListener<Number>() {
-            @Override
-            public void changed(ObservableValue<? extends Number> observable, Number oldValue, Number newValue) {
-                resizeTetrominos();
-            }
-        });
-
-        generateTetrominos(TETROMINO_COUNT); // Generate initial tetrominos
+        this(container, new Random());
     }
 
     /**
-     * Generates a specified number of tetrominos, positions them randomly,
-     * starts their animations, and adds them to the container.
+     * Constructs a new FloatingTetrominos animation manager with a given random source.
      *
-     * @param count The number of tetrominos to generate.
+     * @param container The Pane where the tetrominos will be displayed and animated.
+     * @param random The source of the tetrominos' shapes and motion.
      */
-    private void generateTetrominos(int count) {
-        for (int i = 0; i < count; i++) {
-            Group tetrominoGroup = createTetromino();
-            if (tetrominoGroup != null) {
-                positionTetromino(tetrominoGroup);
-                TetrominoAnimation anim = animateTetromino(tetrominoGroup);
-                tetrominoAnimations.add(anim);
-                container.getChildren().add(tetrominoGroup);
-            }
+    FloatingTetrominos(Pane container, Random random) {
+        this.container = container;
+        this.width = container.getWidth();
+        this.height = container.getHeight();
+
+        for (int i = 0; i < TETROMINO_COUNT; i++) {
+            Particle particle = new Particle(createTetromino(BRICKS[random.nextInt(BRICKS.length)]), random);
+            particles.add(particle);
+            container.getChildren().add(particle.group);
+            particle.update(0, width, height);
         }
-    }
 
-    /**
-     * Resizes the existing tetrominos. This stops all current animations,
-     * clears the container, and regenerates new tetrominos based on the new dimensions.
-     */
-    private void resizeTetrominos() {
-        stopAnimations();
-        container.getChildren().clear();
-        tetrominoAnimations.clear();
-        generateTetrominos(TETROMINO_COUNT);
-        startAnimations();
+        container.widthProperty().addListener(sizeListener);
+        container.heightProperty().addListener(sizeListener);
     }
 
     /**
-     * Creates a single tetromino visual representation (Group of Rectangles) based on a random brick type.
-     * The tetromino is rendered as an outline with a semi-transparent fill.
+     * Creates a single tetromino visual representation (Group of Rectangles) for a brick.
+     * The tetromino is rendered as an outline with a semi-transparent fill, and cached as a bitmap
+     * since it is only ever moved, rotated and faded.
      *
+     * @param brick The brick whose spawn shape is drawn.
      * @return A Group object representing the tetromino.
      */
-    private Group createTetromino() {
-        Brick brick = brickGenerator.getNextBrick();
-        int[][] shape = brick.getShapeMatrix().get(0); // Get the first rotation shape
-        BrickType type = brick.getBrickType();
+    private Group createTetromino(Brick brick) {
+        int[][] shape = brick.getShapes().getRotation(0).getCells(); // Shared first rotation, read-only
+        Color color = getColorForBrickType(brick.getBrickType());
+        Color fill = color.deriveColor(1, 1, 1, 0.4); // More vibrant fill
+        Color stroke = color.deriveColor(1, 1, 1, 0.6); // More visible outline
+        double size = 20 * TETROMINO_SCALE;
 
         Group tetrominoGroup = new Group();
-        Color color = getColorForBrickType(type);
-
         for (int row = 0; row < shape.length; row++) {
             for (int col = 0; col < shape[row].length; col++) {
                 if (shape[row][col] != 0) {
-                    Rectangle rect = new Rectangle(col * 20 * TETROMINO_SCALE, row * 20 * TETROMINO_SCALE, 20 * TETROMINO_SCALE, 20 * TETROMINO_SCALE);
-                    rect.setFill(color.deriveColor(1, 1, 1, 0.4)); // More vibrant fill
-                    rect.setStroke(color.deriveColor(1, 1, 1, 0.6)); // More visible outline
+                    Rectangle rect = new Rectangle(col * size, row * size, size, size);
+                    rect.setFill(fill);
+                    rect.setStroke(stroke);
                     rect.setStrokeWidth(2);
                     tetrominoGroup.getChildren().add(rect);
                 }
             }
         }
-        tetrominoGroup.setOpacity(0.5); // Increased overall group opacity
+        tetrominoGroup.setCache(true);
+        tetrominoGroup.setCacheHint(CacheHint.SPEED);
+        tetrominoGroup.setManaged(false); // Moving it must not lay out the container
+        tetrominoGroup.setMouseTransparent(true);
         return tetrominoGroup;
     }
 
-    /**
-     * Randomly positions a given tetromino Group within the container bounds
-     * and sets its initial rotation.
-     *
-     * @param tetromino The Group representing the tetromino to position.
-     */
-    private void positionTetromino(Group tetromino) {
-        tetromino.setLayoutX(random.nextDouble() * container.getWidth());
-        tetromino.setLayoutY(random.nextDouble() * container.getHeight());
-        tetromino.setRotate(random.nextDouble() * 360);
-    }
-
-    /**
-     * Applies and starts the translation, rotation, and fade animations for a tetromino.
-     *
-     * @param tetromino The Group representing the tetromino to animate.
-     * @return A TetrominoAnimation object containing the tetromino and its associated transitions.
-     */
-    private TetrominoAnimation animateTetromino(Group tetromino) {
-        // Translate animation (drift diagonally)
-        TranslateTransition translateTransition = new TranslateTransition(Duration.seconds(random.nextInt(30) + 60), tetromino); // 60-90 seconds
-        translateTransition.setByX((random.nextBoolean() ? 1 : -1) * (container.getWidth() / 2 + random.nextDouble() * container.getWidth() / 2));
-        translateTransition.setByY((random.nextBoolean() ? 1 : -1) * (container.getHeight() / 2 + random.nextDouble() * container.getHeight() / 2));
-        translateTransition.setCycleCount(Animation.INDEFINITE); 
-        translateTransition.setAutoReverse(true);
-        translateTransition.play();
-
-        // Rotate animation
-        RotateTransition rotateTransition = new RotateTransition(Duration.seconds(random.nextInt(40) + 80), tetromino); // 80-120 seconds
-        rotateTransition.setByAngle(random.nextBoolean() ? 360 : -360);
-        rotateTransition.setCycleCount(Animation.INDEFINITE); 
-        rotateTransition.play();
-
-        // Fade in/out slightly
-        FadeTransition fadeTransition = new FadeTransition(Duration.seconds(random.nextInt(10) + 20), tetromino);
-        fadeTransition.setFromValue(tetromino.getOpacity());
-        fadeTransition.setToValue(random.nextDouble() * 0.1 + 0.15); 
-        fadeTransition.setCycleCount(Animation.INDEFINITE); 
-        fadeTransition.setAutoReverse(true);
-        fadeTransition.play();
-
-        return new TetrominoAnimation(tetromino, translateTransition, rotateTransition, fadeTransition);
-    }
-
     /**
      * Returns the JavaFX Color associated with a given BrickType.
      *
@@ -192,67 +162,147 @@ public class FloatingTetrominos {
     }
 
     /**
-     * Starts all animations for all floating tetrominos.
+     * Starts, or resumes, the animation of all floating tetrominos.
      */
     public void startAnimations() {
-        for (TetrominoAnimation anim : tetrominoAnimations) {
-            anim.play();
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    onFrame(now);
+                }
+            };
         }
+        lastFrame = NO_FRAME;
+        timer.start();
     }
 
     /**
-     * Stops all animations for all floating tetrominos.
+     * Stops the animation of all floating tetrominos; they keep their place until started again.
      */
     public void stopAnimations() {
-        for (TetrominoAnimation anim : tetrominoAnimations) {
-            anim.stop();
+        if (timer != null) {
+            timer.stop();
         }
     }
 
     /**
-     * Helper class to store a tetromino Group and its associated JavaFX Animations.
+     * Stops the animation for good: removes the size listeners and the tetrominos from the container.
+     * Call this when the container is being discarded.
      */
-    private static class TetrominoAnimation {
-        /** The visual Group of the tetromino. */
+    public void dispose() {
+        stopAnimations();
+        container.widthProperty().removeListener(sizeListener);
+        container.heightProperty().removeListener(sizeListener);
+        for (Particle particle : particles) {
+            container.getChildren().remove(particle.group);
+        }
+        particles.clear();
+    }
+
+    /**
+     * Advances the animation to a frame: applies a settled resize, then moves every tetromino.
+     *
+     * @param now The frame timestamp, in nanoseconds.
+     */
+    void onFrame(long now) {
+        if (resizeChanged) {
+            resizeChanged = false;
+            // Nothing is on screen yet at a zero size, so there is nothing to wait for
+            resizeDue = width <= 0 || height <= 0 ? now : now + RESIZE_DEBOUNCE_NANOS;
+        }
+        if (resizeDue != NO_RESIZE && now >= resizeDue) {
+            width = container.getWidth();
+            height = container.getHeight();
+            resizeDue = NO_RESIZE;
+        }
+
+        if (lastFrame != NO_FRAME) {
+            elapsed += Math.min((now - lastFrame) / 1e9, MAX_FRAME_SECONDS);
+        }
+        lastFrame = now;
+        for (Particle particle : particles) {
+            particle.update(elapsed, width, height);
+        }
+    }
+
+    /**
+     * Returns the tetromino nodes, for tests.
+     *
+     * @return The nodes, in creation order.
+     */
+    List<Group> getTetrominoNodes() {
+        List<Group> nodes = new ArrayList<>(particles.size());
+        for (Particle particle : particles) {
+            nodes.add(particle.group);
+        }
+        return nodes;
+    }
+
+    /**
+     * Eases from 0 to 1 and back over two periods, slowing at both ends like an auto-reversing transition.
+     *
+     * @param cycles The elapsed time in periods.
+     * @return The eased progress, from 0 to 1.
+     */
+    private static double pingPong(double cycles) {
+        return (1 - Math.cos(Math.PI * cycles)) / 2;
+    }
+
+    /**
+     * One floating tetromino: its node and the random parameters of its motion.
+     */
+    private static final class Particle {
+
+        /** The tetromino node. */
         final Group group;
-        /** The TranslateTransition for the tetromino's drifting movement. */
-        final TranslateTransition translate;
-        /** The RotateTransition for the tetromino's rotation. */
-        final RotateTransition rotate;
-        /** The FadeTransition for the tetromino's fading in/out effect. */
-        final FadeTransition fade;
+        /** The start position, as fractions of the container width and height. */
+        private final double startX, startY;
+        /** How far the tetromino drifts before turning back, as fractions of the container size. */
+        private final double driftX, driftY;
+        /** The time one drift leg takes, in seconds. */
+        private final double driftSeconds;
+        /** The start angle, in degrees. */
+        private final double startAngle;
+        /** The turning speed, in degrees per second. */
+        private final double spinPerSecond;
+        /** The opacity the tetromino fades to before fading back. */
+        private final double fadeTo;
+        /** The time one fade leg takes, in seconds. */
+        private final double fadeSeconds;
 
         /**
-         * Constructs a TetrominoAnimation instance.
+         * Creates a tetromino with random motion, matching the ranges of the former transitions.
          *
-         * @param group The visual Group of the tetromino.
-         * @param translate The TranslateTransition for drifting.
-         * @param rotate The RotateTransition for rotation.
-         * @param fade The FadeTransition for fading.
+         * @param group The tetromino node.
+         * @param random The source of the motion parameters.
          */
-        public TetrominoAnimation(Group group, TranslateTransition translate, RotateTransition rotate, FadeTransition fade) {
+        Particle(Group group, Random random) {
             this.group = group;
-            this.translate = translate;
-            this.rotate = rotate;
-            this.fade = fade;
-        }
-
-        /**
-         * Plays all associated animations.
-         */
-        public void play() {
-            translate.play();
-            rotate.play();
-            fade.play();
+            this.startX = random.nextDouble();
+            this.startY = random.nextDouble();
+            this.driftX = (random.nextBoolean() ? 1 : -1) * (0.5 + random.nextDouble() * 0.5);
+            this.driftY = (random.nextBoolean() ? 1 : -1) * (0.5 + random.nextDouble() * 0.5);
+            this.driftSeconds = random.nextInt(30) + 60; // 60-90 seconds
+            this.startAngle = random.nextDouble() * 360;
+            this.spinPerSecond = (random.nextBoolean() ? 360 : -360) / (double) (random.nextInt(40) + 80); // 80-120 seconds a turn
+            this.fadeTo = random.nextDouble() * 0.1 + 0.15;
+            this.fadeSeconds = random.nextInt(10) + 20;
         }
 
         /**
-         * Stops all associated animations.
+         * Places the tetromino for a point in the animation.
+         *
+         * @param seconds The animation time.
+         * @param width The container width.
+         * @param height The container height.
          */
-        public void stop() {
-            translate.stop();
-            rotate.stop();
-            fade.stop();
+        void update(double seconds, double width, double height) {
+            double drift = pingPong(seconds / driftSeconds);
+            group.setTranslateX((startX + driftX * drift) * width);
+            group.setTranslateY((startY + driftY * drift) * height);
+            group.setRotate((startAngle + spinPerSecond * seconds) % 360);
+            group.setOpacity(BASE_OPACITY + (fadeTo - BASE_OPACITY) * pingPong(seconds / fadeSeconds));
         }
     }
-}
\ No newline at end of file
+}
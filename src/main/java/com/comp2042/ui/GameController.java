@@ -1,22 +1,52 @@
 package com.comp2042.ui;
 
+import com.comp2042.ai.BeamSearchPlayer;
+import com.comp2042.ai.TranspositionCache;
+import com.comp2042.ai.WeightedHeuristic;
+import com.comp2042.logic.engine.GameEngine;
+import com.comp2042.logic.engine.GameListener;
 import com.comp2042.logic.movement.InputEventListener;
 import com.comp2042.logic.board.Board;
 import com.comp2042.logic.bricks.BrickType;
 import com.comp2042.logic.movement.ClearRow;
 import com.comp2042.logic.movement.DownData;
+import com.comp2042.logic.movement.EventType;
 import com.comp2042.logic.movement.MoveEvent;
+import com.comp2042.logic.replay.ReplayRecorder;
 import com.comp2042.model.ViewData;
 
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
 /**
- * Handles game logic and acts as an intermediary between the GUI and the game board.
+ * Connects the GUI to the headless {@link GameEngine}: it turns input events into engine steps,
+ * listens to the engine for sound effects and slow mode, and pushes the results to the view.
  */
-public class GameController implements InputEventListener {
+public class GameController implements InputEventListener, GameListener {
 
     /** The game board instance that manages the game state. */
     private final Board board;
+    /** The engine that applies the game rules to the board. */
+    private final GameEngine engine;
     /** The GUI controller responsible for updating the view. */
     private final GuiController viewGuiController;
+    /** The number of boards the autoplay search keeps at each level. */
+    private static final int BOT_BEAM_WIDTH = 32;
+    /** The number of preview bricks the autoplay search looks at. */
+    private static final int BOT_PREVIEW_COUNT = 3;
+    /** The time the autoplay search may spend on one brick, well under one autoplay step. */
+    private static final long BOT_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    /** The number of scores the autoplay search remembers between bricks. */
+    private static final int BOT_CACHE_CAPACITY = 1 << 18;
+    /** The bot that plans the inputs when autoplay is on. */
+    private final BeamSearchPlayer autoPlayer = new BeamSearchPlayer(WeightedHeuristic.DEFAULT,
+            BOT_BEAM_WIDTH, BOT_PREVIEW_COUNT, BOT_BUDGET_NANOS, ForkJoinPool.commonPool(),
+            new TranspositionCache(BOT_CACHE_CAPACITY));
+    /** Records every input of the game for replay, or null when recording is off. */
+    private ReplayRecorder recorder;
 
     /**
      * Constructs a new GameController.
@@ -26,17 +56,66 @@ public class GameController implements InputEventListener {
     public GameController(GuiController c, Board board) {
         this.viewGuiController = c;
         this.board = board;
-
-        board.createNewBrick();
+        this.engine = new GameEngine(board);
+        engine.addListener(this);
 
         viewGuiController.setEventListener(this);
+        viewGuiController.setBotPlanner(this::planBot);
+        board.setPreviewCount(viewGuiController.getPreviewCount());
         viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
-        viewGuiController.bindScore(board.getScore().scoreProperty());
-        viewGuiController.bindLevel(board.getScore().levelProperty());
+        ScoreProperties scoreProperties = new ScoreProperties(board.getScore());
+        viewGuiController.bindScore(scoreProperties.scoreProperty());
+        viewGuiController.bindLevel(scoreProperties.levelProperty());
 
         viewGuiController.setScoreTracker(board.getScore());
     }
 
+    /**
+     * Starts planning the autoplay inputs for the current brick. The board is copied here,
+     * on the FX thread, and the search runs on the common pool.
+     * @return The inputs that place the current brick, once the search is done.
+     */
+    private CompletableFuture<List<EventType>> planBot() {
+        BeamSearchPlayer.Snapshot snapshot = autoPlayer.snapshot(board);
+        return CompletableFuture.supplyAsync(() -> autoPlayer.search(snapshot).toMoves(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Starts recording every input of this game and of the games restarted from it. The recording
+     * is flushed at every game over and finished with the checksum of the final state by
+     * {@link #dispose()}.
+     * @param recorder The recorder to write to, already holding the game's seed.
+     */
+    void setRecorder(ReplayRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Finishes the replay recording, if any, with the checksum of the current state and closes
+     * its file. Call this when the game is abandoned: a new game started from the menu, or the
+     * application exiting.
+     */
+    public void dispose() {
+        if (recorder == null) return;
+        try {
+            recorder.finish(engine);
+        } catch (UncheckedIOException e) {
+            System.err.println("Could not finish replay recording: " + e.getMessage());
+        }
+        recorder = null;
+    }
+
+    /**
+     * Passes an input to the recorder, if one is set.
+     * @param type The type of the input.
+     * @param event The event carrying the input's source; null for command-based input.
+     */
+    private void record(EventType type, MoveEvent event) {
+        if (recorder != null) {
+            recorder.record(type, event == null ? null : event.getEventSource());
+        }
+    }
+
     /**
      * Handles the event when a brick moves down.
      * @param event The MoveEvent triggering the down movement.
@@ -44,34 +123,11 @@ public class GameController implements InputEventListener {
      */
     @Override
     public DownData onDownEvent(MoveEvent event) {
-        boolean canMove = board.moveBrickDown();
-        ClearRow clearRow = null;
-        BrickType mergedBrickType = null;
-
-        if (!canMove) {
-            mergedBrickType = board.mergeBrickToBackground();
-            AudioManager.getInstance().playDrop();
-
-            clearRow = board.clearRows();
-            if (clearRow.getLinesRemoved() > 0) {
-                AudioManager.getInstance().playLineClear();
-                board.getScore().add(clearRow.getScoreBonus());
-                board.getScore().addClearedRows(clearRow.getLinesRemoved());
-            }
-
-            if (mergedBrickType == BrickType.SLOW) {
-                viewGuiController.activateSlowMode();
-            }
-
-            viewGuiController.updateGameSpeed(board.getScore().getLevel());
-
-            if (board.createNewBrick()) {
-                viewGuiController.gameOver();
-            }
-
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        record(EventType.DOWN, event);
+        ClearRow clearRow = engine.tick();
+        if (clearRow != null) {
+            afterLock();
         }
-
         return new DownData(clearRow, board.getViewData());
     }
 
@@ -82,39 +138,57 @@ public class GameController implements InputEventListener {
      */
     @Override
     public DownData onHardDropEvent(MoveEvent event) {
-        int dropDistance = 0;
-        boolean canMove;
-        ClearRow clearRow = null;
-        BrickType mergedBrickType = null;
-
-        do {
-            canMove = board.moveBrickDown();
-            if (canMove) dropDistance++;
-        } while (canMove);
-
-        mergedBrickType = board.mergeBrickToBackground();
-        AudioManager.getInstance().playDrop();
+        record(EventType.HARD_DROP, event);
+        ClearRow clearRow = engine.hardDrop();
+        afterLock();
+        return new DownData(clearRow, board.getViewData());
+    }
 
-        clearRow = board.clearRows();
-        if (clearRow.getLinesRemoved() > 0) {
-            AudioManager.getInstance().playLineClear();
-            board.getScore().add(clearRow.getScoreBonus());
-            board.getScore().addClearedRows(clearRow.getLinesRemoved());
-        }
+    /**
+     * Updates the view after the engine locked a brick: adjusts the fall speed,
+     * flushes the recording and shows the game over panel if the next brick could not spawn,
+     * and redraws the changed cells. The recording stays open, so a restart is recorded too.
+     */
+    private void afterLock() {
+        viewGuiController.updateGameSpeed(board.getScore().getLevel());
 
-        if (mergedBrickType == BrickType.SLOW) {
-            viewGuiController.activateSlowMode();
+        if (engine.isGameOver()) {
+            if (recorder != null) {
+                recorder.flush();
+            }
+            viewGuiController.gameOver();
         }
 
-        viewGuiController.updateGameSpeed(board.getScore().getLevel());
+        viewGuiController.refreshGameBackground(board.getBoardMatrix(), board.getChangedCells());
+    }
 
-        if (board.createNewBrick()) {
-            viewGuiController.gameOver();
+    /**
+     * Plays the drop sound and starts slow mode when a slow brick locks.
+     * @param type The type of the locked brick.
+     */
+    @Override
+    public void onBrickLocked(BrickType type) {
+        AudioManager.getInstance().playDrop();
+        if (type == BrickType.SLOW) {
+            viewGuiController.activateSlowMode();
         }
+    }
 
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+    /**
+     * Plays the line clear sound.
+     * @param clearRow The result of the clear.
+     */
+    @Override
+    public void onLinesCleared(ClearRow clearRow) {
+        AudioManager.getInstance().playLineClear();
+    }
 
-        return new DownData(clearRow, board.getViewData());
+    /**
+     * Plays the rotate sound.
+     */
+    @Override
+    public void onRotated() {
+        AudioManager.getInstance().playRotate();
     }
 
     /**
@@ -124,7 +198,8 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
+        record(EventType.LEFT, event);
+        engine.step(EventType.LEFT);
         return board.getViewData();
     }
 
@@ -135,7 +210,30 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
+        record(EventType.RIGHT, event);
+        engine.step(EventType.RIGHT);
+        return board.getViewData();
+    }
+
+    /**
+     * Handles several shifts in one direction at once, stopping at the first that is blocked.
+     * Only the shifts that moved the brick are recorded: a blocked shift changes nothing, and
+     * holding a shift against a wall would otherwise record one input every frame.
+     * @param event The MoveEvent whose type gives the direction.
+     * @param columns The most columns to shift.
+     * @return {@code ViewData} representing the updated game state.
+     * @throws IllegalArgumentException if the event is not a left or right move.
+     */
+    @Override
+    public ViewData onShiftEvent(MoveEvent event, int columns) {
+        EventType type = event.getEventType();
+        if (type != EventType.LEFT && type != EventType.RIGHT) {
+            throw new IllegalArgumentException("Not a shift: " + type);
+        }
+        for (int i = 0; i < columns; i++) {
+            if (!engine.step(type)) break;
+            record(type, event);
+        }
         return board.getViewData();
     }
 
@@ -146,8 +244,8 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
-        AudioManager.getInstance().playRotate();
+        record(EventType.ROTATE, event);
+        engine.step(EventType.ROTATE);
         return board.getViewData();
     }
 
@@ -158,7 +256,8 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onHoldEvent(MoveEvent event) {
-        board.holdCurrentBrick();
+        record(EventType.HOLD, event);
+        engine.step(EventType.HOLD);
         return board.getViewData();
     }
 
@@ -167,8 +266,11 @@ public class GameController implements InputEventListener {
      */
     @Override
     public void createNewGame() {
-        board.newGame();
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        if (recorder != null) {
+            recorder.recordNewGame();
+        }
+        engine.newGame();
+        viewGuiController.refreshGameBackground(board.getBoardMatrix(), board.getChangedCells());
         viewGuiController.updateGameSpeed(1);
     }
 
@@ -2,6 +2,7 @@ package com.comp2042.ui;
 
 import com.comp2042.logic.movement.InputEventListener;
 import com.comp2042.logic.Constants;
+import com.comp2042.logic.board.DirtyCells;
 import com.comp2042.logic.movement.*;
 import com.comp2042.model.ViewData;
 import javafx.animation.*;
@@ -30,9 +31,15 @@ import com.comp2042.logic.scoring.LeaderboardManager;
 
 import java.io.IOException;
 import java.net.URL;
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Controller for the main game GUI, handling user input, game display, and interactions.
@@ -108,22 +115,26 @@ public class GuiController implements Initializable {
     private FloatingTetrominos floatingTetrominos; // Instance of the FloatingTetrominos
 
 
-    /**
-     * A 2D array of Rectangles representing the individual tiles of the static game board background.
-     */
-    private Rectangle[][] displayMatrix;
+    /** The way the main board is drawn; set before the game view is built. */
+    private RendererType rendererType = RendererType.NODES;
+    /** Draws the main board, the active brick and its ghost; created with the game view. */
+    private BoardRenderer boardRenderer;
     /** The listener for game input events, typically the {@code GameController}. */
     private InputEventListener eventListener;
-    /** The JavaFX Timeline responsible for the automatic downward movement of bricks. */
-    private Timeline timeline;
+    /** Runs once per frame: moves the brick down when gravity is owed a step and draws the fall between steps. */
+    private AnimationTimer gameLoop;
+    /** Keeps the gravity time of the game loop; its step interval is the current fall delay. */
+    private final FixedStepClock gravity = new FixedStepClock(TimeUnit.MILLISECONDS.toNanos(Constants.FALL_DELAY_MS));
 
-    /** A BooleanProperty to track if a UI animation (e.g., line clear) is currently running. */
-    private final BooleanProperty isAnimating = new SimpleBooleanProperty(false);
     /** A BooleanProperty to track if the game is currently paused. */
     private final BooleanProperty isPause = new SimpleBooleanProperty(false);
     /** A BooleanProperty to track if the game is currently in a game-over state. */
     private final BooleanProperty isGameOver = new SimpleBooleanProperty(false);
 
+    /** Flashes cleared rows above the board while the game carries on. */
+    private final LineClearOverlay lineClearOverlay = new LineClearOverlay();
+    /** Shows the score popups of line clears; created with the view. */
+    private ScorePopupOverlay scorePopups;
     /** Manages the visual display and updates of the active brick and its ghost. */
     private BrickViewManager brickViewManager;
     /** Manages the display of upcoming bricks and the held brick in their respective preview panels. */
@@ -142,6 +153,39 @@ public class GuiController implements Initializable {
      */
     private static final double SLOW_MODE_SPEED_MULTIPLIER = 3.0; // Half speed (i.e., 2x delay)
 
+    // Autoplay fields
+    /** The delay between two autoplay inputs, short enough to place a brick well inside the fastest fall delay. */
+    private static final int BOT_STEP_MS = 20;
+    /** Starts planning the autoplay inputs for the current brick off the FX thread; set by the {@code GameController}. */
+    private Supplier<CompletableFuture<List<EventType>>> botPlanner;
+    /** The plan being searched for the current brick, or null when none is running; dropped when the brick locks. */
+    private CompletableFuture<List<EventType>> pendingPlan;
+    /** The planned autoplay inputs not yet sent for the current brick; dropped when the brick locks. */
+    private final Deque<EventType> botMoves = new ArrayDeque<>();
+    /** Sends the autoplay inputs while autoplay is on; null when it is off. */
+    private Timeline botTimeline;
+    /** Whether autoplay played any part of the current game, which keeps its score off the leaderboard. */
+    private boolean botPlayed = false;
+
+    // Input fields
+    /** The repeat state of the left shift keys. */
+    private final KeyRepeat leftKey = new KeyRepeat(millisToNanos(Constants.DAS_MS), millisToNanos(Constants.ARR_MS));
+    /** The repeat state of the right shift keys. */
+    private final KeyRepeat rightKey = new KeyRepeat(millisToNanos(Constants.DAS_MS), millisToNanos(Constants.ARR_MS));
+    /** The repeat state of the soft drop keys, which repeat at the soft drop rate from the start. */
+    private final KeyRepeat softDropKey =
+            new KeyRepeat(millisToNanos(Constants.SOFT_DROP_MS), millisToNanos(Constants.SOFT_DROP_MS));
+    /** The shift direction pressed last, which wins while both directions are held. */
+    private EventType shiftDirection = EventType.LEFT;
+    /** Rotate, hold and hard drop presses waiting for the next frame, in the order they were made. */
+    private final Deque<EventType> pressedActions = new ArrayDeque<>();
+    /** The one-shot keys held down, so the operating system's key repeat does not trigger them again. */
+    private final Set<KeyCode> heldKeys = EnumSet.noneOf(KeyCode.class);
+    /** The newest view data not drawn yet, or null when the brick display is up to date. */
+    private ViewData pendingView;
+    /** Whether the preview and hold panels need redrawing along with {@link #pendingView}. */
+    private boolean previewsStale;
+
     /**
      * Sets the player name.
      * @param name The name of the player.
@@ -172,10 +216,15 @@ public class GuiController implements Initializable {
         gamePanel.setFocusTraversable(true);
         gamePanel.requestFocus();
         gamePanel.setOnKeyPressed(this::handleKeyPress);
+        gamePanel.setOnKeyReleased(this::handleKeyRelease);
+        gamePanel.focusedProperty().addListener((obs, wasFocused, focused) -> {
+            if (!focused) clearInput();
+        });
 
         Pane brickPanelContainer = (Pane) brickPanel.getParent();
         brickViewManager = new BrickViewManager(brickPanel, gamePanel, shadowButton, brickPanelContainer);
         previewPanelManager = new PreviewPanelManager(nextPanel1, nextPanel2, nextPanel3, holdPanel);
+        scorePopups = new ScorePopupOverlay(groupNotification);
 
         gameOverPanel.setVisible(false);
         setupOverlay();
@@ -234,27 +283,36 @@ public class GuiController implements Initializable {
 
     /**
      * Handles keyboard key press events for game controls.
-     * Delegates actions to the appropriate event listener methods based on the key pressed.
-     * Ignores input if the game is paused, animating, or over, except for the 'N' key to start a new game
+     * Game keys only record key state here; the moves are made by the game loop on the next frame,
+     * so their timing does not depend on the operating system's key repeat.
+     * Ignores input if the game is paused or over, except for the 'N' key to start a new game
      * and 'BACK_SPACE' to pause/resume.
      * @param keyEvent The {@code KeyEvent} generated by a key press.
      */
     private void handleKeyPress(KeyEvent keyEvent) {
 
-        if(isAnimating.get()) return;
-
         if (!isPause.get() && !isGameOver.get()) {
 
-            switch (keyEvent.getCode()) {
-                case LEFT, A -> handleMove(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
-                case RIGHT, D -> handleMove(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
-                case UP, W -> handleMove(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
-                case DOWN, S -> moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
-                case SPACE -> hardDrop(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
-                case C -> handleMove(eventListener.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.USER)));
+            KeyCode code = keyEvent.getCode();
+            switch (code) {
+                case LEFT, A -> {
+                    if (leftKey.press()) shiftDirection = EventType.LEFT;
+                }
+                case RIGHT, D -> {
+                    if (rightKey.press()) shiftDirection = EventType.RIGHT;
+                }
+                case DOWN, S -> softDropKey.press();
+                case UP, W -> pressAction(code, EventType.ROTATE);
+                case SPACE -> pressAction(code, EventType.HARD_DROP);
+                case C -> pressAction(code, EventType.HOLD);
                 case H -> {
-                    AudioManager.getInstance().playButtonClick();
-                    brickViewManager.toggleShadow(null);
+                    if (heldKeys.add(code)) {
+                        AudioManager.getInstance().playButtonClick();
+                        toggleShadowLayer(null);
+                    }
+                }
+                case B -> {
+                    if (heldKeys.add(code)) toggleAutoPlay();
                 }
             }
         }
@@ -269,84 +327,314 @@ public class GuiController implements Initializable {
     }
 
     /**
-     * Handles brick movement events, refreshing the brick display and previews.
+     * Handles keyboard key release events, ending the repeat of a held game key.
+     * @param keyEvent The {@code KeyEvent} generated by a key release.
+     */
+    private void handleKeyRelease(KeyEvent keyEvent) {
+        KeyCode code = keyEvent.getCode();
+        heldKeys.remove(code);
+        switch (code) {
+            case LEFT, A -> {
+                leftKey.release();
+                if (rightKey.isHeld()) shiftDirection = EventType.RIGHT;
+            }
+            case RIGHT, D -> {
+                rightKey.release();
+                if (leftKey.isHeld()) shiftDirection = EventType.LEFT;
+            }
+            case DOWN, S -> softDropKey.release();
+        }
+    }
+
+    /**
+     * Queues a one-shot action for the next frame, unless its key is already held down.
+     * @param code The key that was pressed.
+     * @param action The action the key triggers.
+     */
+    private void pressAction(KeyCode code, EventType action) {
+        if (heldKeys.add(code)) {
+            pressedActions.add(action);
+        }
+    }
+
+    /**
+     * Applies the player's input for one frame: the one-shot actions pressed since the last
+     * frame in order, then all shifts owed by the held shift key as a single move, then the
+     * soft drop. A line clear flash does not hold input back: presses made during it are applied
+     * on the next frame like any other.
+     * @param now The frame time, in nanoseconds.
+     */
+    private void pollInput(long now) {
+        while (!pressedActions.isEmpty() && !isGameOver.get()) {
+            MoveEvent event = new MoveEvent(pressedActions.poll(), EventSource.USER);
+            switch (event.getEventType()) {
+                case ROTATE -> handleMove(eventListener.onRotateEvent(event));
+                case HOLD -> handleHold(event);
+                case HARD_DROP -> hardDrop(event);
+                default -> { }
+            }
+        }
+
+        int left = leftKey.poll(now);
+        int right = rightKey.poll(now);
+        int columns = shiftDirection == EventType.LEFT ? left : right;
+        if (columns > 0 && !isGameOver.get()) {
+            handleMove(eventListener.onShiftEvent(new MoveEvent(shiftDirection, EventSource.USER), columns));
+        }
+
+        int rows = softDropKey.poll(now);
+        for (int i = 0; i < rows && !isGameOver.get(); i++) {
+            moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
+        }
+    }
+
+    /**
+     * Forgets every held key and queued press, so no key stays stuck down after the game
+     * loses focus, pauses or restarts.
+     */
+    private void clearInput() {
+        leftKey.clear();
+        rightKey.clear();
+        softDropKey.clear();
+        heldKeys.clear();
+        pressedActions.clear();
+    }
+
+    /**
+     * Sets the delayed auto shift and auto repeat rate of the shift keys.
+     * @param dasMs How long a shift key is held before the brick starts repeating, in milliseconds.
+     * @param arrMs The delay between repeated shifts, in milliseconds; 0 slides the brick to the wall.
+     * @throws IllegalArgumentException if either delay is negative.
+     */
+    void setAutoShift(int dasMs, int arrMs) {
+        leftKey.setTiming(millisToNanos(dasMs), millisToNanos(arrMs));
+        rightKey.setTiming(millisToNanos(dasMs), millisToNanos(arrMs));
+    }
+
+    /**
+     * Converts a delay in milliseconds to nanoseconds.
+     * @param millis The delay in milliseconds.
+     * @return The delay in nanoseconds.
+     */
+    private static long millisToNanos(int millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * Turns autoplay on or off. While it is on, the bot's inputs are sent every {@link #BOT_STEP_MS}
+     * milliseconds as {@code MoveEvent}s from {@link EventSource#BOT}, alongside gravity and any keys
+     * the player still presses.
+     */
+    void toggleAutoPlay() {
+        if (botTimeline != null) {
+            botTimeline.stop();
+            botTimeline = null;
+            discardBotPlan();
+            return;
+        }
+        if (botPlanner == null) return;
+
+        botPlayed = true;
+        botTimeline = new Timeline(new KeyFrame(Duration.millis(BOT_STEP_MS), e -> botStep()));
+        botTimeline.setCycleCount(Timeline.INDEFINITE);
+        botTimeline.play();
+    }
+
+    /**
+     * Sends the next autoplay input. When none are left, a search for the current brick is
+     * started and later steps wait for it, so the FX thread never blocks on the search.
+     * Nothing is sent while the game is paused or over.
+     */
+    private void botStep() {
+        if (isPause.get() || isGameOver.get()) return;
+
+        if (botMoves.isEmpty()) {
+            if (pendingPlan == null) {
+                pendingPlan = botPlanner.get();
+            }
+            if (!pendingPlan.isDone()) return;
+            CompletableFuture<List<EventType>> plan = pendingPlan;
+            pendingPlan = null;
+            botMoves.addAll(plan.getNow(List.of()));
+        }
+        EventType move = botMoves.poll();
+        if (move == null) return;
+
+        MoveEvent event = new MoveEvent(move, EventSource.BOT);
+        switch (move) {
+            case LEFT -> handleMove(eventListener.onLeftEvent(event));
+            case RIGHT -> handleMove(eventListener.onRightEvent(event));
+            case ROTATE -> handleMove(eventListener.onRotateEvent(event));
+            case HOLD -> handleHold(event);
+            case DOWN -> moveDown(event);
+            case HARD_DROP -> hardDrop(event);
+        }
+    }
+
+    /**
+     * Drops the autoplay inputs planned for the current brick and the plan being searched, if any.
+     * Called whenever a brick locks: a plan only fits the brick it was searched for, so moves left
+     * over after gravity locked that brick, or a search still running, must not reach the next one.
+     */
+    private void discardBotPlan() {
+        botMoves.clear();
+        cancelPendingPlan();
+    }
+
+    /**
+     * Drops the plan being searched, if any; its result is ignored when it arrives.
+     */
+    private void cancelPendingPlan() {
+        if (pendingPlan != null) {
+            pendingPlan.cancel(false);
+            pendingPlan = null;
+        }
+    }
+
+    /**
+     * Sets the planner the autoplay bot takes its inputs from.
+     * @param planner Starts a search on the FX thread and completes with the inputs that place
+     *                the current brick, ending with a hard drop.
+     */
+    void setBotPlanner(Supplier<CompletableFuture<List<EventType>>> planner) {
+        this.botPlanner = planner;
+    }
+
+    /**
+     * Handles brick movement events. The brick is drawn once at the end of the frame, however
+     * many moves were made during it.
      * @param brick The ViewData object containing information about the brick's new position.
      */
     private void handleMove(ViewData brick) {
         if (isPause.get()) return;
-        brickViewManager.refreshBrick(brick);
-        previewPanelManager.renderAllPreviews(brick);
+        pendingView = brick;
+    }
+
+    /**
+     * Holds the current brick; the hold and preview panels are redrawn with the brick.
+     * @param event The {@code MoveEvent} triggering the hold.
+     */
+    private void handleHold(MoveEvent event) {
+        handleMove(eventListener.onHoldEvent(event));
+        previewsStale = true;
+    }
+
+    /**
+     * Draws the newest view data, if any moves were made since the last draw.
+     * The preview panels are only redrawn when a lock or hold changed them.
+     */
+    private void flushView() {
+        if (pendingView == null) return;
+        boardRenderer.refreshBrick(pendingView);
+        if (previewsStale) {
+            previewPanelManager.renderAllPreviews(pendingView);
+        }
+        pendingView = null;
+        previewsStale = false;
+    }
+
+    /**
+     * Sets how the main board is drawn. Must be called before the game view is built.
+     * @param type The renderer to use.
+     */
+    void setRendererType(RendererType type) {
+        this.rendererType = type;
+    }
+
+    /**
+     * Sets how many upcoming bricks the preview column shows, adding or hiding panels as needed.
+     * @param count The number of next brick previews.
+     */
+    void setPreviewCount(int count) {
+        previewPanelManager.setPreviewCount(count);
+    }
+
+    /**
+     * Returns how many upcoming bricks the preview column shows.
+     * @return The number of next brick previews.
+     */
+    int getPreviewCount() {
+        return previewPanelManager.getPreviewCount();
     }
 
     /**
-     * Initializes the game view by setting up the display matrix for the game board background,
+     * Initializes the game view by building the board display with the selected renderer,
      * drawing the initial active brick and ghost brick, and rendering the preview panels.
-     * Also initializes and starts the game timeline for automatic brick movement.
+     * Also starts the game loop that moves the brick down.
      * @param boardMatrix The initial 2D integer array representing the game board's fixed background tiles.
      * @param brick The {@code ViewData} object for the initial active brick.
      */
     void initGameView(int[][] boardMatrix, ViewData brick) {
 
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        boardRenderer = rendererType.create(gamePanel, brickViewManager);
+        boardRenderer.initBoard(boardMatrix, brick);
+        lineClearOverlay.attach(gamePanel);
 
-        for (int row = Constants.HIDDEN_ROWS; row < boardMatrix.length; row++) {
-            for (int col = 0; col < boardMatrix[row].length; col++) {
-
-                Rectangle rect = new Rectangle(Constants.TILE_SIZE, Constants.TILE_SIZE);
-                rect.setArcHeight(Constants.TILE_ROUNDING);
-                rect.setArcWidth(Constants.TILE_ROUNDING);
-                TileStyleUtility.applyTileStyle(rect, 0);
+        previewPanelManager.renderAllPreviews(brick);
 
-                displayMatrix[row][col] = rect;
-                gamePanel.add(rect, col, row - Constants.HIDDEN_ROWS);
+        gameLoop = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onFrame(now);
             }
-        }
-
-        brickViewManager.initDrawBricks(brick);
+        };
+        gameLoop.start();
+    }
 
-        previewPanelManager.renderAllPreviews(brick);
+    /**
+     * Runs one frame of the game loop: applies the player's input, adds the time since the last
+     * frame to the gravity clock and moves the brick down once for every step owed, then draws
+     * the result once, with the brick part of the way to the next row. Line clear flashes play
+     * on their own layer, so gravity keeps its pace through them.
+     * @param now The timestamp of the frame, in nanoseconds.
+     */
+    private void onFrame(long now) {
+        if (isPause.get() || isGameOver.get()) return;
 
-        timeline = new Timeline(new KeyFrame(
-                Duration.millis(Constants.FALL_DELAY_MS),
-                e -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeline.setCycleCount(Timeline.INDEFINITE);
-        timeline.play();
+        pollInput(now);
+        if (!isGameOver.get()) {
+            gravity.advance(now);
+            while (gravity.takeStep()) {
+                moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+                if (isGameOver.get()) break;
+            }
+        }
+        flushView();
+        boardRenderer.interpolateFall(gravity.getAlpha());
     }
 
     /**
      * Refreshes the visual representation of the game board background based on the provided matrix.
-     * This updates the colors of the static tiles on the board.
+     * Only the cells the board reports as changed are redrawn, and the change set is cleared once drawn.
+     * This is called after every lock and restart, so the autoplay plan for the old brick is dropped here.
      * @param board The 2D integer array representing the updated game board background.
+     * @param changes The cells that changed since the last refresh.
      */
-    void refreshGameBackground(int[][] board) {
-        for (int r = Constants.HIDDEN_ROWS; r < board.length; r++) {
-            for (int c = 0; c < board[r].length; c++) {
-                TileStyleUtility.applyTileStyle(displayMatrix[r][c], board[r][c]);
-            }
-        }
+    void refreshGameBackground(int[][] board, DirtyCells changes) {
+        discardBotPlan();
+        boardRenderer.refreshBackground(board, changes);
     }
 
     /**
      * Attempts to move the current brick down one step.
-     * If the game is paused or animating, the movement is ignored.
+     * If the game is paused, the movement is ignored.
      * After the movement, {@code handlePostDropUpdates} is called.
      * @param e The {@code MoveEvent} triggering the down movement (can be null for automatic moves).
      */
     private void moveDown(MoveEvent e) {
-        if (isPause.get() || isAnimating.get()) return;
+        if (isPause.get()) return;
         DownData data = eventListener.onDownEvent(e);
         handlePostDropUpdates(data);
     }
 
     /**
      * Performs a hard drop of the current brick, moving it instantly to the lowest possible position.
-     * If the game is paused or animating, the hard drop is ignored.
+     * If the game is paused, the hard drop is ignored.
      * After the hard drop, {@code handlePostDropUpdates} is called.
      * @param e The {@code MoveEvent} triggering the hard drop (can be null for command-based drops).
      */
     private void hardDrop(MoveEvent e) {
-        if (isPause.get() || isAnimating.get()) return;
+        if (isPause.get()) return;
         DownData data = eventListener.onHardDropEvent(e);
         handlePostDropUpdates(data);
     }
@@ -360,48 +648,20 @@ public class GuiController implements Initializable {
     private void handlePostDropUpdates(DownData data) {
         if (data.getClearRow() != null && data.getClearRow().getLinesRemoved() > 0) {
             ClearRow clearRow = data.getClearRow();
-            animateLineClear(clearRow);
-            NotificationPanel np = new NotificationPanel("+" + clearRow.getScoreBonus());
-            np.setManaged(false);
-            groupNotification.getChildren().add(np);
-            np.showScore(groupNotification.getChildren());
+            lineClearOverlay.flash(clearRow.getClearedRows());
+            scorePopups.show("+" + clearRow.getScoreBonus());
         }
 
-        ViewData brick = data.getViewData();
-        brickViewManager.refreshBrick(brick);
-        previewPanelManager.renderAllPreviews(brick);
-
-        gamePanel.requestFocus();
-    }
-
-    /**
-     * Animates the clearing of full lines from the game board by flashing white rectangles
-     * over the cleared rows before removing them and refreshing the background.
-     * Sets {@code isAnimating} to true during the animation.
-     * @param clearRow The {@code ClearRow} object containing information about the cleared lines.
-     */
-    private void animateLineClear(ClearRow clearRow) {
-        isAnimating.set(true);
-
-        List<Rectangle> whiteRects = new ArrayList<>();
-        for (int row : clearRow.getClearedRows()) {
-            Rectangle whiteRect = new Rectangle(
-                    gamePanel.getWidth(),
-                    Constants.TILE_SIZE
-            );
-            whiteRect.setStyle("-fx-fill: white;");
-            gamePanel.add(whiteRect, 0, row - Constants.HIDDEN_ROWS);
-            GridPane.setColumnSpan(whiteRect, Constants.BOARD_WIDTH);
-            whiteRects.add(whiteRect);
+        pendingView = data.getViewData();
+        if (data.getClearRow() != null) {
+            previewsStale = true;
+        }
+        if (isGameOver.get()) {
+            // The loop has stopped, so the final board is drawn now
+            flushView();
         }
 
-        PauseTransition pause = new PauseTransition(Duration.millis(100));
-        pause.setOnFinished(event -> {
-            gamePanel.getChildren().removeAll(whiteRects);
-            refreshGameBackground(clearRow.getNewBoard());
-            isAnimating.set(false);
-        });
-        pause.play();
+        gamePanel.requestFocus();
     }
 
     /**
@@ -441,14 +701,13 @@ public class GuiController implements Initializable {
 
     /**
      * Updates the game speed based on the current level and slow mode status.
-     * Stops the current game timeline and creates a new one with an adjusted fall delay.
+     * Only the step interval of the gravity clock changes, so the brick keeps the progress it
+     * made towards its next row and the game loop keeps running.
      * Checks if slow mode has expired and deactivates it if necessary, updating the indicator.
      * @param level The current game level, which influences the base fall speed.
      */
     void updateGameSpeed(int level) {
-        if (timeline != null) {
-            timeline.stop();
-
+        if (gameLoop != null) {
             // Check if slow mode has expired
             if (slowModeActive && System.currentTimeMillis() > slowModeEndTime) {
                 slowModeActive = false;
@@ -468,25 +727,19 @@ public class GuiController implements Initializable {
                 newSpeed = (int)(currentCalculatedSpeed * SLOW_MODE_SPEED_MULTIPLIER); // Make it slower (increase delay)
             }
 
-            timeline = new Timeline(new KeyFrame(
-                    Duration.millis(newSpeed),
-                    e -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-            ));
-            timeline.setCycleCount(Timeline.INDEFINITE);
-
-            if (!isPause.get() && !isGameOver.get()) {
-                timeline.play();
-            }
+            gravity.setStepNanos(TimeUnit.MILLISECONDS.toNanos(newSpeed));
         }
     }
 
     /**
-     * Handles the game over state: stops the game timeline, sets the game over flag,
+     * Handles the game over state: stops the game loop, sets the game over flag,
      * saves the player's score to the leaderboard, clears the active game instance,
      * and animates the display of the {@code gameOverPanel} and a translucent overlay.
      */
     void gameOver() {
-        timeline.stop();
+        gameLoop.stop();
+        clearInput();
+        if (botTimeline != null) botTimeline.pause();
         isGameOver.set(true);
 
         // Stop FloatingTetrominos animation when game is over
@@ -496,10 +749,10 @@ public class GuiController implements Initializable {
 
         AudioManager.getInstance().stopAllSoundEffects(); // Stop all sound effects on game over
 
-        if (scoreTracker != null) {
+        if (scoreTracker != null && !botPlayed) {
             LeaderboardManager.saveScore(
                     playerName,
-                    scoreTracker.scoreProperty().get(),
+                    scoreTracker.getScore(),
                     scoreTracker.getLevel(),
                     scoreTracker.getRowsCleared()
             );
@@ -534,7 +787,7 @@ public class GuiController implements Initializable {
 
     /**
      * Starts a new game, resetting the board, score, and UI elements.
-     * Stops the current game timeline, clears any active game instance, hides the game over panel
+     * Stops the game loop, clears any active game instance, hides the game over panel
      * and overlay, and resets game state flags (pause, game over, slow mode).
      * @param evt The {@code ActionEvent} triggering the new game (e.g., button click).
      */
@@ -542,15 +795,15 @@ public class GuiController implements Initializable {
             AudioManager.getInstance().playButtonClick();
             AudioManager.getInstance().stopAllSoundEffects(); // Stop all sound effects on new game start
 
-            timeline.stop();
+            gameLoop.stop();
+            clearInput();
+            pendingView = null;
+            lineClearOverlay.clear();
+            scorePopups.clear();
 
-            // Stop and restart FloatingTetrominos animation for new game
+            // Restart the FloatingTetrominos animation stopped by a game over; the tetrominos
+            // follow the container size themselves, so they are not rebuilt
             if (floatingTetrominos != null) {
-                floatingTetrominos.stopAnimations();
-                // Since the scene isn't reloaded, we need to regenerate tetrominos
-                // to ensure they are positioned correctly within the current container size.
-                // This will also restart animations.
-                floatingTetrominos = new FloatingTetrominos(tetrominoGameBackgroundContainer);
                 floatingTetrominos.startAnimations();
             }
 
@@ -575,6 +828,8 @@ public class GuiController implements Initializable {
             isGameOver.set(false);
             slowModeActive = false; // Reset slow mode on new game
             slowModeEndTime = 0L;
+            discardBotPlan();
+            botPlayed = botTimeline != null;
 
             if (slowModeIndicator != null) { // Ensure slowModeIndicator is hidden
                 slowModeIndicator.setText("SLOW MODE UNACTIVE");
@@ -584,12 +839,14 @@ public class GuiController implements Initializable {
 
             pauseButton.setText("Pause");
 
-            timeline.play();
+            gravity.reset();
+            gameLoop.start();
+            if (botTimeline != null) botTimeline.play();
             gamePanel.requestFocus();
         }
     /**
      * Navigates back to the main menu.
-     * Stops the current game timeline and disposes of the AudioManager instance.
+     * Stops the game loop and disposes of the AudioManager instance.
      * @param evt The {@code ActionEvent} triggering the menu navigation.
      * @throws IOException If there is an error loading the main menu FXML.
      */
@@ -608,7 +865,7 @@ public class GuiController implements Initializable {
             MainMenu.returnToMainMenu(primaryStage); // Correctly return to main menu
         }
     /**
-     * Toggles the game's pause state. When paused, the game timeline stops, and the pause button text changes.
+     * Toggles the game's pause state. When paused, the game loop stops, and the pause button text changes.
      * If the game is already over, this method does nothing.
      * @param evt The {@code ActionEvent} triggering the pause/resume action.
      */
@@ -619,12 +876,16 @@ public class GuiController implements Initializable {
 
             if (isPause.get()) { // Resuming
                 if (floatingTetrominos != null) floatingTetrominos.startAnimations();
-                timeline.play();
+                gameLoop.start();
+                if (botTimeline != null) botTimeline.play();
                 pauseButton.setText("Pause");
                 isPause.set(false);
             } else { // Pausing
                 if (floatingTetrominos != null) floatingTetrominos.stopAnimations();
-                timeline.pause();
+                gameLoop.stop();
+                gravity.pause();
+                clearInput();
+                if (botTimeline != null) botTimeline.pause();
                 pauseButton.setText("Resume");
                 isPause.set(true);
             }
@@ -632,13 +893,14 @@ public class GuiController implements Initializable {
         }
     /**
      * Resumes the game from a paused state, typically when returning from a menu.
-     * Starts the game timeline, updates the pause button text, and sets focus back to the game panel.
+     * Starts the game loop, updates the pause button text, and sets focus back to the game panel.
      * This method only acts if the game is currently paused and not in a game over state.
      */
     public void resumeFromMenu() {
             if (isPause.get() && !isGameOver.get()) {
                 if (floatingTetrominos != null) floatingTetrominos.startAnimations(); // Restart animations
-                timeline.play();
+                gameLoop.start();
+                if (botTimeline != null) botTimeline.play();
                 pauseButton.setText("Pause");
                 isPause.set(false);
             }
@@ -651,9 +913,20 @@ public class GuiController implements Initializable {
      */
     public void toggleShadow(ActionEvent evt) {
             AudioManager.getInstance().playButtonClick();
-            brickViewManager.toggleShadow(evt);
+            toggleShadowLayer(evt);
             gamePanel.requestFocus();
         }
+
+    /**
+     * Toggles the shadow setting and shows or hides the ghost on the board.
+     * @param evt The {@code ActionEvent} triggering the toggle, or null for the keyboard shortcut.
+     */
+    private void toggleShadowLayer(ActionEvent evt) {
+            brickViewManager.toggleShadow(evt);
+            if (boardRenderer != null) {
+                boardRenderer.setShadowVisible(brickViewManager.isShadowEnabled());
+            }
+        }
     /**
      * Sets the event listener for game input events.
      * This listener (typically the {@code GameController}) will be notified of user actions.
@@ -0,0 +1,118 @@
+package com.comp2042.ui;
+
+/**
+ * The repeat state of one held key, timed by the game loop instead of the operating system.
+ * <p>
+ * A press owes one move on the next frame, even when the key was already released again by
+ * then. While the key stays held, nothing more is owed until the delayed auto shift (DAS) has
+ * passed; after that one move is owed every auto repeat rate (ARR) interval. An interval of 0
+ * repeats without limit, which the caller stops at the first move that fails. Repeated press
+ * events sent by the operating system's own key repeat are ignored, so the result does not
+ * depend on its settings.
+ */
+final class KeyRepeat {
+
+    /** The number of moves owed at once when the repeat interval is 0. */
+    static final int UNLIMITED = Integer.MAX_VALUE;
+
+    /** The time between the first move and the first repeat, in nanoseconds. */
+    private long dasNanos;
+    /** The time between two repeats, in nanoseconds; 0 repeats without limit. */
+    private long arrNanos;
+    /** Whether the key is held down. */
+    private boolean held;
+    /** Whether a press has not been answered with its first move yet. */
+    private boolean pending;
+    /** The frame time of the first move of the current press, in nanoseconds. */
+    private long start;
+    /** The repeats already owed for the current press. */
+    private long repeats;
+
+    /**
+     * Constructs a new KeyRepeat.
+     * @param dasNanos The time between the first move and the first repeat, in nanoseconds.
+     * @param arrNanos The time between two repeats, in nanoseconds; 0 repeats without limit.
+     * @throws IllegalArgumentException if either time is negative.
+     */
+    KeyRepeat(long dasNanos, long arrNanos) {
+        setTiming(dasNanos, arrNanos);
+    }
+
+    /**
+     * Changes the repeat timing; a press in progress keeps the moves it already made.
+     * @param dasNanos The time between the first move and the first repeat, in nanoseconds.
+     * @param arrNanos The time between two repeats, in nanoseconds; 0 repeats without limit.
+     * @throws IllegalArgumentException if either time is negative.
+     */
+    void setTiming(long dasNanos, long arrNanos) {
+        if (dasNanos < 0 || arrNanos < 0) {
+            throw new IllegalArgumentException("Repeat times must not be negative.");
+        }
+        this.dasNanos = dasNanos;
+        this.arrNanos = arrNanos;
+    }
+
+    /**
+     * Records that the key went down. Ignored while the key is already held.
+     * @return Whether this was a new press rather than a repeat sent by the operating system.
+     */
+    boolean press() {
+        if (held) {
+            return false;
+        }
+        held = true;
+        pending = true;
+        repeats = 0;
+        return true;
+    }
+
+    /**
+     * Records that the key went up. A press not yet answered still owes its first move.
+     */
+    void release() {
+        held = false;
+    }
+
+    /**
+     * Returns the moves owed since the last poll, called once per frame.
+     * @param now The frame time, in nanoseconds.
+     * @return The number of moves to make this frame, or {@link #UNLIMITED}.
+     */
+    int poll(long now) {
+        if (pending) {
+            pending = false;
+            start = now;
+            return 1;
+        }
+        if (!held) {
+            return 0;
+        }
+        long elapsed = now - start;
+        if (elapsed < dasNanos) {
+            return 0;
+        }
+        if (arrNanos == 0) {
+            return UNLIMITED;
+        }
+        long owed = (elapsed - dasNanos) / arrNanos + 1;
+        long due = owed - repeats;
+        repeats = owed;
+        return (int) Math.min(due, UNLIMITED);
+    }
+
+    /**
+     * Forgets the press, as if the key had been released before its first move.
+     */
+    void clear() {
+        held = false;
+        pending = false;
+    }
+
+    /**
+     * Checks if the key is held down.
+     * @return True while the key is held.
+     */
+    boolean isHeld() {
+        return held;
+    }
+}
@@ -0,0 +1,185 @@
+package com.comp2042.ui;
+
+import com.comp2042.logic.Constants;
+import javafx.animation.AnimationTimer;
+import javafx.scene.Group;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Flashes cleared rows on a layer of their own above the board.
+ * <p>
+ * The flash is purely visual: the board has already been compacted when it starts, and the game
+ * keeps running while it plays. The layer is an unmanaged group placed over the game grid, so
+ * showing or hiding a flash never lays out the board. Flash bars are pooled and reused across
+ * clears, and one timer fades them out, running only while a flash is showing.
+ */
+class LineClearOverlay {
+
+    /** How long a flash takes to fade out, in nanoseconds. */
+    static final long FLASH_NANOS = 100_000_000L;
+    /** Marks a flash that has not seen a frame yet. */
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+    /** The distance from one row to the next, in pixels. */
+    private static final double PITCH = Constants.TILE_SIZE + Constants.GRID_GAP;
+
+    /** The layer the flash bars are drawn on. */
+    private final Group layer = new Group();
+    /** Every flash bar created so far; the first {@link #active} are showing. */
+    private final List<Rectangle> bars = new ArrayList<>();
+    /** When each showing bar started fading, by bar index, or {@link #NOT_STARTED}. */
+    private long[] startedAt = new long[Constants.BOARD_HEIGHT];
+    /** The number of bars showing. */
+    private int active;
+    /** Fades the showing bars; created on the first flash. */
+    private AnimationTimer timer;
+
+    /**
+     * Constructs a new LineClearOverlay. The layer is empty until {@link #attach} places it.
+     */
+    LineClearOverlay() {
+        layer.setManaged(false);
+        layer.setMouseTransparent(true);
+    }
+
+    /**
+     * Places the layer over a grid, above everything already in it, with its origin at the
+     * top-left corner of the grid's first visible row.
+     * @param grid The game grid.
+     */
+    void attach(GridPane grid) {
+        layer.setLayoutX(grid.getPadding().getLeft());
+        layer.setLayoutY(grid.getPadding().getTop());
+        grid.getChildren().remove(layer);
+        grid.getChildren().add(layer);
+    }
+
+    /**
+     * Starts flashing the given board rows. Rows already flashing keep fading as they were.
+     * @param rows The cleared board rows, counting the hidden rows.
+     */
+    void flash(int[] rows) {
+        for (int row : rows) {
+            if (row < Constants.HIDDEN_ROWS) continue;
+            Rectangle bar = obtainBar();
+            bar.setY((row - Constants.HIDDEN_ROWS) * PITCH);
+            bar.setOpacity(1);
+            bar.setVisible(true);
+        }
+        if (active > 0) {
+            startTimer();
+        }
+    }
+
+    /**
+     * Starts the timer that fades the bars, creating it on first use.
+     * Tests without a JavaFX toolkit replace this and drive {@link #onFrame} themselves.
+     */
+    void startTimer() {
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    onFrame(now);
+                }
+            };
+        }
+        timer.start();
+    }
+
+    /**
+     * Returns an unused bar, creating one only when every pooled bar is showing.
+     * @return The bar, now counted as showing.
+     */
+    private Rectangle obtainBar() {
+        if (active == bars.size()) {
+            Rectangle bar = new Rectangle(Constants.BOARD_WIDTH * PITCH - Constants.GRID_GAP, Constants.TILE_SIZE);
+            bar.setFill(Color.WHITE);
+            bar.setVisible(false);
+            bars.add(bar);
+            layer.getChildren().add(bar);
+            if (startedAt.length < bars.size()) {
+                startedAt = Arrays.copyOf(startedAt, bars.size() * 2);
+            }
+        }
+        startedAt[active] = NOT_STARTED;
+        return bars.get(active++);
+    }
+
+    /**
+     * Fades the showing bars for a frame and hides the ones that are done. The timer stops once
+     * nothing is showing.
+     * @param now The frame timestamp, in nanoseconds.
+     */
+    void onFrame(long now) {
+        for (int i = 0; i < active; ) {
+            if (startedAt[i] == NOT_STARTED) {
+                startedAt[i] = now;
+            }
+            long age = now - startedAt[i];
+            if (age >= FLASH_NANOS) {
+                release(i);
+                continue; // The last showing bar now sits at i
+            }
+            bars.get(i).setOpacity(1 - (double) age / FLASH_NANOS);
+            i++;
+        }
+        if (active == 0 && timer != null) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Hides every flash at once, for a new game.
+     */
+    void clear() {
+        while (active > 0) {
+            release(active - 1);
+        }
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Hides a showing bar and returns it to the pool by swapping it with the last showing bar.
+     * @param index The index of the bar.
+     */
+    private void release(int index) {
+        int last = --active;
+        Rectangle bar = bars.get(index);
+        bar.setVisible(false);
+        bars.set(index, bars.get(last));
+        bars.set(last, bar);
+        startedAt[index] = startedAt[last];
+    }
+
+    /**
+     * Returns the number of flash bars showing.
+     * @return The number of showing bars.
+     */
+    int getActiveCount() {
+        return active;
+    }
+
+    /**
+     * Returns the number of flash bars created so far.
+     * @return The pool size.
+     */
+    int getPoolSize() {
+        return bars.size();
+    }
+
+    /**
+     * Returns the layer node the bars are drawn on.
+     * @return The layer.
+     */
+    Group getLayer() {
+        return layer;
+    }
+}
@@ -1,6 +1,9 @@
 package com.comp2042.ui;
 
 
+import com.comp2042.logic.Constants;
+import com.comp2042.logic.board.BoardType;
+import com.comp2042.logic.replay.ReplayRecorder;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXMLLoader;
@@ -15,7 +18,10 @@ import javafx.scene.layout.Pane; // Import for Pane
 
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Path;
+import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.SplittableRandom;
 
 /**
  * Controller for the main menu of the Tetris JFX application.
@@ -43,8 +49,27 @@ public class MainMenu implements Initializable {
 
     private FloatingTetrominos floatingTetrominos; // Instance of the FloatingTetrominos
 
+    /**
+     * The system property naming a directory to record replays into, e.g.
+     * {@code -Dtetris.replayDir=replays}. Games are not recorded when it is unset.
+     */
+    public static final String REPLAY_DIR_PROPERTY = "tetris.replayDir";
+    /**
+     * The system property selecting how the board is drawn, {@code nodes} or {@code canvas}, e.g.
+     * {@code -Dtetris.renderer=canvas}. The node-based renderer is used when it is unset.
+     */
+    public static final String RENDERER_PROPERTY = "tetris.renderer";
+
+    /**
+     * The system property setting how many upcoming bricks are previewed, e.g.
+     * {@code -Dtetris.previewCount=5}. {@link Constants#PREVIEW_COUNT} are shown when it is unset.
+     */
+    public static final String PREVIEW_COUNT_PROPERTY = "tetris.previewCount";
+
     /** Stores the {@code Scene} of the active game, allowing it to be resumed. */
     private static Scene activeGameScene = null;
+    /** The controller of the last game started, kept until it is replaced or the application exits. */
+    private static GameController activeGameController = null;
     /** The AudioManager instance for handling sound effects and music. */
     private AudioManager audioManager;
 
@@ -83,9 +108,9 @@ public class MainMenu implements Initializable {
     public void startGame(ActionEvent event) throws Exception {
         audioManager.playButtonClick();
 
-        // Stop FloatingTetrominos animation before leaving menu
+        // The menu is rebuilt when it is shown again, so its animation is disposed of
         if (floatingTetrominos != null) {
-            floatingTetrominos.stopAnimations();
+            floatingTetrominos.dispose();
         }
 
         String playerName = nameField.getText().trim();
@@ -102,6 +127,8 @@ public class MainMenu implements Initializable {
         GuiController c = fxmlLoader.getController();
 
         c.setPlayerName(playerName);
+        c.setRendererType(rendererType());
+        c.setPreviewCount(previewCount());
 
         Scene gameScene = new Scene(root, 700, 520);
         primaryStage.setScene(gameScene);
@@ -113,7 +140,59 @@ public class MainMenu implements Initializable {
         // Switch to game music
         audioManager.playBackgroundMusic("game");
 
-        new GameController(c, new com.comp2042.logic.board.SimpleBoard());
+        BoardType boardType = BoardType.SIMPLE;
+        long seed = new SplittableRandom().nextLong();
+        disposeActiveGame(); // The previous game, if any, is abandoned
+        GameController gameController = new GameController(c, boardType.create(seed));
+        activeGameController = gameController;
+
+        String replayDir = System.getProperty(REPLAY_DIR_PROPERTY);
+        if (replayDir != null) {
+            Path replayFile = Path.of(replayDir, "replay-" + System.currentTimeMillis() + ".trpl");
+            try {
+                gameController.setRecorder(ReplayRecorder.create(replayFile, boardType, seed));
+            } catch (IOException e) {
+                System.err.println("Could not start replay recording " + replayFile + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Reads the renderer selected with {@link #RENDERER_PROPERTY}.
+     * @return The selected renderer, or the node-based one if none or an unknown one is named.
+     */
+    private static RendererType rendererType() {
+        String name = System.getProperty(RENDERER_PROPERTY);
+        if (name == null) {
+            return RendererType.NODES;
+        }
+        try {
+            return RendererType.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown renderer " + name + ", using nodes");
+            return RendererType.NODES;
+        }
+    }
+
+    /**
+     * Reads the preview count selected with {@link #PREVIEW_COUNT_PROPERTY}.
+     * @return The selected count, or {@link Constants#PREVIEW_COUNT} if none or an invalid one is given.
+     */
+    private static int previewCount() {
+        String value = System.getProperty(PREVIEW_COUNT_PROPERTY);
+        if (value == null) {
+            return Constants.PREVIEW_COUNT;
+        }
+        try {
+            int count = Integer.parseInt(value.trim());
+            if (count >= 0) {
+                return count;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        System.err.println("Invalid preview count " + value + ", using " + Constants.PREVIEW_COUNT);
+        return Constants.PREVIEW_COUNT;
     }
 
     /**
@@ -125,9 +204,9 @@ public class MainMenu implements Initializable {
     public void resumeGame(ActionEvent event) {
         audioManager.playButtonClick();
 
-        // Stop FloatingTetrominos animation before leaving menu
+        // The menu is rebuilt when it is shown again, so its animation is disposed of
         if (floatingTetrominos != null) {
-            floatingTetrominos.stopAnimations();
+            floatingTetrominos.dispose();
         }
 
         if (activeGameScene != null) {
@@ -157,9 +236,9 @@ public class MainMenu implements Initializable {
     public void showLeaderboard(ActionEvent event) throws IOException {
         audioManager.playButtonClick();
 
-        // Stop FloatingTetrominos animation before leaving menu
+        // The menu is rebuilt when it is shown again, so its animation is disposed of
         if (floatingTetrominos != null) {
-            floatingTetrominos.stopAnimations();
+            floatingTetrominos.dispose();
         }
 
         Stage stage = (Stage) ((javafx.scene.Node) event.getSource()).getScene().getWindow();
@@ -182,9 +261,9 @@ public class MainMenu implements Initializable {
     public void showSettings(ActionEvent event) throws IOException {
         audioManager.playButtonClick();
 
-        // Stop FloatingTetrominos animation before leaving menu
+        // The menu is rebuilt when it is shown again, so its animation is disposed of
         if (floatingTetrominos != null) {
-            floatingTetrominos.stopAnimations();
+            floatingTetrominos.dispose();
         }
 
         Stage stage = (Stage) ((javafx.scene.Node) event.getSource()).getScene().getWindow();
@@ -206,13 +285,25 @@ public class MainMenu implements Initializable {
     public void exitGame(ActionEvent event) {
         audioManager.playButtonClick();
         audioManager.dispose();
+        disposeActiveGame();
         // Stop FloatingTetrominos animation when exiting
         if (floatingTetrominos != null) {
-            floatingTetrominos.stopAnimations();
+            floatingTetrominos.dispose();
         }
         Platform.exit();
     }
 
+    /**
+     * Disposes of the controller of the last game started, finishing its replay recording.
+     * Called when a new game replaces it and when the application exits.
+     */
+    public static void disposeActiveGame() {
+        if (activeGameController != null) {
+            activeGameController.dispose();
+            activeGameController = null;
+        }
+    }
+
     /**
      * Clears the reference to the active game scene, effectively making it un-resumable.
      * This is typically called when a game ends or a new game is started.
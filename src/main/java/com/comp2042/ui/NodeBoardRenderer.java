@@ -0,0 +1,104 @@
+package com.comp2042.ui;
+
+import com.comp2042.logic.Constants;
+import com.comp2042.logic.board.DirtyCells;
+import com.comp2042.model.ViewData;
+import javafx.scene.layout.GridPane;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Draws the board with one CSS-styled {@code Rectangle} per visible tile in the game grid,
+ * and the active brick and ghost as the node layers of a {@link BrickViewManager}.
+ */
+public class NodeBoardRenderer implements BoardRenderer {
+
+    /** The grid the background tiles are placed in. */
+    private final GridPane gamePanel;
+    /** Manages the node layers of the active brick and its ghost. */
+    private final BrickViewManager brickViewManager;
+
+    /**
+     * A 2D array of Rectangles representing the individual tiles of the static game board background.
+     */
+    private Rectangle[][] displayMatrix;
+    /** The cell values the background tiles are currently styled with, so unchanged tiles are never restyled. */
+    private int[][] shownMatrix;
+
+    /**
+     * Constructs a new NodeBoardRenderer.
+     * @param gamePanel The grid the background tiles are placed in.
+     * @param brickViewManager The manager of the active brick and ghost layers.
+     */
+    public NodeBoardRenderer(GridPane gamePanel, BrickViewManager brickViewManager) {
+        this.gamePanel = gamePanel;
+        this.brickViewManager = brickViewManager;
+    }
+
+    /**
+     * Adds a rectangle for every visible tile to the grid and draws the first brick.
+     * @param boardMatrix The board's cells, including the hidden rows.
+     * @param brick The view data of the first brick.
+     */
+    @Override
+    public void initBoard(int[][] boardMatrix, ViewData brick) {
+        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        shownMatrix = new int[boardMatrix.length][boardMatrix[0].length];
+
+        for (int row = Constants.HIDDEN_ROWS; row < boardMatrix.length; row++) {
+            for (int col = 0; col < boardMatrix[row].length; col++) {
+
+                Rectangle rect = new Rectangle(Constants.TILE_SIZE, Constants.TILE_SIZE);
+                rect.setArcHeight(Constants.TILE_ROUNDING);
+                rect.setArcWidth(Constants.TILE_ROUNDING);
+                TileStyleUtility.applyTileStyle(rect, 0);
+
+                displayMatrix[row][col] = rect;
+                gamePanel.add(rect, col, row - Constants.HIDDEN_ROWS);
+            }
+        }
+
+        brickViewManager.initDrawBricks(brick);
+    }
+
+    /**
+     * Refreshes the background tiles. Only the cells the board reports as changed are visited,
+     * and a tile is restyled only when its value differs from the one it is showing, so a lock
+     * costs a handful of style updates instead of a pass over every tile.
+     * @param boardMatrix The board's cells.
+     * @param changes The cells that changed since the last refresh.
+     */
+    @Override
+    public void refreshBackground(int[][] boardMatrix, DirtyCells changes) {
+        for (int i = 0; i < changes.size(); i++) {
+            int r = changes.getRow(i);
+            if (r < Constants.HIDDEN_ROWS) continue;
+
+            int c = changes.getColumn(i);
+            if (shownMatrix[r][c] != boardMatrix[r][c]) {
+                TileStyleUtility.applyTileStyle(displayMatrix[r][c], boardMatrix[r][c]);
+                shownMatrix[r][c] = boardMatrix[r][c];
+            }
+        }
+        changes.clear();
+    }
+
+    @Override
+    public void refreshBrick(ViewData brick) {
+        brickViewManager.refreshBrick(brick);
+    }
+
+    @Override
+    public void interpolateFall(double progress) {
+        brickViewManager.interpolateFall(progress);
+    }
+
+    /**
+     * Does nothing: the {@link BrickViewManager} shows and hides its own ghost layer when the
+     * shadow is toggled.
+     * @param visible Whether the ghost is drawn.
+     */
+    @Override
+    public void setShadowVisible(boolean visible) {
+        // The ghost layer follows BrickViewManager.toggleShadow
+    }
+}
@@ -2,22 +2,43 @@ package com.comp2042.ui;
 
 import com.comp2042.logic.Constants;
 import com.comp2042.model.ViewData;
+import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
 import javafx.scene.shape.Rectangle;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Manages the display of next brick previews and the held brick in the UI.
+ * <p>
+ * Every panel keeps a fixed pool of tile nodes, added to its grid once. Showing a brick
+ * restyles the pooled tiles and shows only the filled ones, and a panel whose brick has not
+ * changed is not touched at all, so redrawing the previews after a lock changes a few tiles
+ * instead of rebuilding every panel.
+ * <p>
+ * The number of next panels follows {@link #setPreviewCount(int)}; panels beyond the ones in the
+ * layout are added below the last one, styled like it.
  */
 public class PreviewPanelManager {
 
-    /** The GridPane for displaying the first upcoming brick preview. */
-    private final GridPane nextPanel1;
-    /** The GridPane for displaying the second upcoming brick preview. */
-    private final GridPane nextPanel2;
-    /** The GridPane for displaying the third upcoming brick preview. */
-    private final GridPane nextPanel3;
+    /** The side of the largest brick shape, in cells; each panel pools this many tiles squared. */
+    static final int POOL_SIDE = 4;
+
+    /** The GridPanes for displaying the upcoming brick previews, nearest first. */
+    private final List<GridPane> nextPanels = new ArrayList<>();
     /** The GridPane for displaying the currently held brick preview. */
     private final GridPane holdPanel;
+    /** The tile pool and shown brick of every panel. */
+    private final Map<GridPane, PreviewSlot> slots = new IdentityHashMap<>();
+    /** The number of next panels in use. */
+    private int previewCount;
 
     /**
      * Constructs a new PreviewPanelManager.
@@ -28,10 +49,50 @@ public class PreviewPanelManager {
      * @param holdPanel The GridPane for the held brick preview.
      */
     public PreviewPanelManager(GridPane nextPanel1, GridPane nextPanel2, GridPane nextPanel3, GridPane holdPanel) {
-        this.nextPanel1 = nextPanel1;
-        this.nextPanel2 = nextPanel2;
-        this.nextPanel3 = nextPanel3;
+        this(Arrays.asList(nextPanel1, nextPanel2, nextPanel3), holdPanel);
+    }
+
+    /**
+     * Constructs a new PreviewPanelManager for any number of next panels.
+     *
+     * @param nextPanels The GridPanes for the next brick previews, nearest first.
+     * @param holdPanel The GridPane for the held brick preview.
+     */
+    public PreviewPanelManager(List<GridPane> nextPanels, GridPane holdPanel) {
+        this.nextPanels.addAll(nextPanels);
         this.holdPanel = holdPanel;
+        this.previewCount = nextPanels.size();
+    }
+
+    /**
+     * Sets the number of next panels shown. Missing panels are added after the last one in
+     * the same column, and panels beyond the count are hidden.
+     *
+     * @param count The number of next panels.
+     * @throws IllegalArgumentException if the count is negative.
+     * @throws IllegalStateException if panels must be added but the last one is not laid out
+     *         in a preview box inside a pane.
+     */
+    public void setPreviewCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Preview count must not be negative: " + count);
+        }
+        while (nextPanels.size() < count) {
+            nextPanels.add(addPanelAfter(nextPanels.get(nextPanels.size() - 1)));
+        }
+        for (int i = 0; i < nextPanels.size(); i++) {
+            setPanelShown(nextPanels.get(i), i < count);
+        }
+        previewCount = count;
+    }
+
+    /**
+     * Returns the number of next panels shown.
+     *
+     * @return The preview count.
+     */
+    public int getPreviewCount() {
+        return previewCount;
     }
 
     /**
@@ -39,73 +100,180 @@ public class PreviewPanelManager {
      *
      * @param data The ViewData object containing the current game state information.
      */
-
     public void renderAllPreviews(ViewData data) {
         renderNextPreviews(data);
         renderHoldPreview(data);
     }
 
     /**
-     * Renders the next brick preview panels.
+     * Renders the next brick preview panels; a panel without an upcoming brick is emptied.
      *
      * @param data The ViewData object containing the current game state information.
      */
-
     void renderNextPreviews(ViewData data) {
         int[][][] previews = data.getNextBricksData();
-        renderPreview(nextPanel1, previews != null && previews.length > 0 ? previews[0] : null);
-        renderPreview(nextPanel2, previews != null && previews.length > 1 ? previews[1] : null);
-        renderPreview(nextPanel3, previews != null && previews.length > 2 ? previews[2] : null);
+        for (int i = 0; i < previewCount; i++) {
+            renderPreview(nextPanels.get(i), previews != null && previews.length > i ? previews[i] : null);
+        }
     }
 
     /**
      * Renders the held brick preview panel.
-     *
-     * @param data The ViewData object containing the current game state information.
-     */
-    /**
-     * Renders the held brick preview panel.
-     * Clears existing content and draws the held brick's shape from the {@code ViewData}.
-     * If no brick is held, the panel will remain empty.
+     * If no brick is held, the panel is emptied.
      * @param data The {@code ViewData} object containing the current game state information, specifically held brick data.
      */
     void renderHoldPreview(ViewData data) {
-        if (holdPanel == null) return;
         int[][] held = data.getHeldBrickData();
-        holdPanel.getChildren().clear();
-        if (held == null || held.length == 0) {
-            return;
-        }
-        renderPreview(holdPanel, held);
+        renderPreview(holdPanel, held == null || held.length == 0 ? null : held);
     }
 
     /**
-     * Renders a single brick shape onto a given GridPane.
-     *
-     * @param panel The GridPane to render the shape onto.
-     * @param shape The 2D integer array representing the brick's shape.
+     * Shows a brick shape in a panel using the panel's pooled tiles. Nothing is changed when
+     * the panel already shows an equal shape.
+     * @param panel The {@code GridPane} to render the shape onto; ignored if null.
+     * @param shape The 2D integer array representing the brick's shape, or null to empty the panel.
+     * @return Whether the panel changed.
      */
+    boolean renderPreview(GridPane panel, int[][] shape) {
+        if (panel == null) return false;
+        return slots.computeIfAbsent(panel, PreviewSlot::new).show(shape);
+    }
+
     /**
-     * Renders a single brick shape onto a given {@code GridPane}.
-     * Clears the panel and then adds {@code Rectangle} nodes for each non-zero cell in the shape matrix.
-     * @param panel The {@code GridPane} to render the shape onto.
-     * @param shape The 2D integer array representing the brick's shape to be rendered.
+     * Adds a new next panel below an existing one, in a box styled like the existing one's.
+     * @param template The panel to copy and add after.
+     * @return The new panel.
+     * @throws IllegalStateException if the template is not inside a preview box in a pane.
      */
-    void renderPreview(GridPane panel, int[][] shape) {
+    private static GridPane addPanelAfter(GridPane template) {
+        Parent parent = template == null ? null : template.getParent();
+        if (!(parent instanceof StackPane box) || !(box.getParent() instanceof Pane column)) {
+            throw new IllegalStateException("Preview panels can only be added next to one in a preview box.");
+        }
+        GridPane panel = new GridPane();
+        panel.setHgap(template.getHgap());
+        panel.setVgap(template.getVgap());
+        panel.setAlignment(template.getAlignment());
+
+        StackPane newBox = new StackPane(panel);
+        newBox.getStyleClass().setAll(box.getStyleClass());
+        newBox.setAlignment(box.getAlignment());
+        newBox.setPrefSize(box.getPrefWidth(), box.getPrefHeight());
+        column.getChildren().add(column.getChildren().indexOf(box) + 1, newBox);
+        return panel;
+    }
+
+    /**
+     * Shows or hides a next panel together with the box around it.
+     * @param panel The panel.
+     * @param shown Whether the panel is shown.
+     */
+    private static void setPanelShown(GridPane panel, boolean shown) {
         if (panel == null) return;
-        panel.getChildren().clear();
-        if (shape == null) return;
-
-        for (int r = 0; r < shape.length; r++) {
-            for (int c = 0; c < shape[r].length; c++) {
-                if (shape[r][c] != 0) { // Only add if it's not an empty tile
-                    Rectangle rect = new Rectangle(Constants.PREVIEW_TILE_SIZE, Constants.PREVIEW_TILE_SIZE);
-                    rect.setArcHeight(Constants.TILE_ROUNDING);
-                    rect.setArcWidth(Constants.TILE_ROUNDING);
-                    TileStyleUtility.applyTileStyle(rect, shape[r][c]);
-                    panel.add(rect, c, r);
+        Node box = panel.getParent() instanceof StackPane ? panel.getParent() : panel;
+        box.setVisible(shown);
+        box.setManaged(shown);
+    }
+
+    /**
+     * The tile pool of one panel and the shape it shows. Empty cells are hidden and left out of
+     * the layout, so the grid shrinks to the brick and stays centred in its box.
+     */
+    private static final class PreviewSlot {
+
+        /** The panel the tiles are placed in. */
+        private final GridPane panel;
+        /** The pooled tiles by row and column; created on the first shape shown. */
+        private Rectangle[][] tiles;
+        /** A copy of the shape shown, or null when the panel is empty. */
+        private int[][] shown;
+
+        /**
+         * Constructs the slot of a panel.
+         * @param panel The panel the tiles are placed in.
+         */
+        PreviewSlot(GridPane panel) {
+            this.panel = panel;
+        }
+
+        /**
+         * Shows a shape, unless an equal one is already shown.
+         * @param shape The shape, or null to empty the panel.
+         * @return Whether the panel changed.
+         */
+        boolean show(int[][] shape) {
+            if (Arrays.deepEquals(shape, shown)) {
+                return false;
+            }
+            if (shape != null) {
+                ensurePool(shape);
+            }
+            if (tiles != null) {
+                for (int r = 0; r < tiles.length; r++) {
+                    for (int c = 0; c < tiles[r].length; c++) {
+                        int value = shape != null && r < shape.length && c < shape[r].length ? shape[r][c] : 0;
+                        Rectangle tile = tiles[r][c];
+                        boolean filled = value != 0;
+                        if (filled) {
+                            TileStyleUtility.applyTileStyle(tile, value);
+                        }
+                        if (tile.isVisible() != filled) {
+                            tile.setVisible(filled);
+                            tile.setManaged(filled);
+                        }
+                    }
+                }
+            }
+            shown = copyOf(shape);
+            return true;
+        }
+
+        /**
+         * Copies a shape, so a caller reusing its arrays cannot change what the panel thinks it shows.
+         * @param shape The shape, or null.
+         * @return The copy, or null.
+         */
+        private static int[][] copyOf(int[][] shape) {
+            if (shape == null) return null;
+            int[][] copy = new int[shape.length][];
+            for (int r = 0; r < shape.length; r++) {
+                copy[r] = shape[r].clone();
+            }
+            return copy;
+        }
+
+        /**
+         * Creates the tile pool on first use, and grows it for a shape larger than the pool.
+         * @param shape The shape about to be shown.
+         */
+        private void ensurePool(int[][] shape) {
+            int rows = POOL_SIDE;
+            int columns = POOL_SIDE;
+            for (int[] row : shape) {
+                columns = Math.max(columns, row.length);
+            }
+            rows = Math.max(rows, shape.length);
+            if (tiles != null && tiles.length >= rows && tiles[0].length >= columns) {
+                return;
+            }
+
+            Rectangle[][] grown = new Rectangle[rows][columns];
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < columns; c++) {
+                    if (tiles != null && r < tiles.length && c < tiles[r].length) {
+                        grown[r][c] = tiles[r][c];
+                        continue;
+                    }
+                    Rectangle tile = new Rectangle(Constants.PREVIEW_TILE_SIZE, Constants.PREVIEW_TILE_SIZE);
+                    tile.setArcHeight(Constants.TILE_ROUNDING);
+                    tile.setArcWidth(Constants.TILE_ROUNDING);
+                    tile.setVisible(false);
+                    tile.setManaged(false);
+                    panel.add(tile, c, r);
+                    grown[r][c] = tile;
                 }
             }
+            tiles = grown;
         }
     }
-}
\ No newline at end of file
+}
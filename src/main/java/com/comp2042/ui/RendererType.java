@@ -0,0 +1,28 @@
+package com.comp2042.ui;
+
+import javafx.scene.layout.GridPane;
+
+/**
+ * Enumerates the available {@link BoardRenderer} implementations so the drawing technique
+ * can be selected when the game view is built.
+ */
+public enum RendererType {
+    /** The node-based {@link NodeBoardRenderer}: one styled {@code Rectangle} per tile. */
+    NODES,
+    /** The {@link CanvasBoardRenderer}, which draws the whole board onto one canvas. */
+    CANVAS;
+
+    /**
+     * Creates a renderer of this type for the main board.
+     *
+     * @param gamePanel the grid the board is shown in.
+     * @param brickViewManager the manager of the node-based active brick and ghost layers.
+     * @return a new renderer instance.
+     */
+    public BoardRenderer create(GridPane gamePanel, BrickViewManager brickViewManager) {
+        return switch (this) {
+            case NODES -> new NodeBoardRenderer(gamePanel, brickViewManager);
+            case CANVAS -> new CanvasBoardRenderer(gamePanel);
+        };
+    }
+}
@@ -0,0 +1,169 @@
+package com.comp2042.ui;
+
+import com.comp2042.logic.movement.NotificationPanel;
+import javafx.animation.AnimationTimer;
+import javafx.scene.Group;
+
+import java.util.Arrays;
+
+/**
+ * Shows the score popups of line clears from a fixed pool of {@link NotificationPanel}s.
+ * <p>
+ * The panels are built once and added to the notification group up front; showing a score
+ * changes the text of the next panel and restarts its rise and fade. One timer moves every
+ * showing popup and runs only while one is showing. When clears come faster than popups finish,
+ * the oldest popup is reused, so the cost stays the same however fast lines are cleared.
+ */
+class ScorePopupOverlay {
+
+    /** The number of popups that can show at once. */
+    static final int POOL_SIZE = 4;
+    /** How long a popup takes to fade out, in nanoseconds. */
+    static final long FADE_NANOS = 2_000_000_000L;
+    /** How long a popup takes to rise, in nanoseconds. */
+    static final long RISE_NANOS = 2_500_000_000L;
+    /** How far a popup rises, in pixels. */
+    static final double RISE_DISTANCE = 40;
+    /** Marks a popup that has not seen a frame yet. */
+    private static final long NOT_STARTED = Long.MIN_VALUE;
+    /** Marks a popup that is not showing. */
+    private static final long IDLE = Long.MAX_VALUE;
+
+    /** The pooled popups. */
+    private final NotificationPanel[] popups = new NotificationPanel[POOL_SIZE];
+    /** When each popup started, {@link #NOT_STARTED}, or {@link #IDLE}. */
+    private final long[] startedAt = new long[POOL_SIZE];
+    /** The popup to use next; popups are used in turn, so it is always the oldest. */
+    private int next;
+    /** The number of popups showing. */
+    private int active;
+    /** Moves the showing popups; created on the first popup. */
+    private AnimationTimer timer;
+
+    /**
+     * Constructs a new ScorePopupOverlay and adds its popups, hidden, to a group.
+     * @param container The group the popups are shown in.
+     */
+    ScorePopupOverlay(Group container) {
+        Arrays.fill(startedAt, IDLE);
+        for (int i = 0; i < POOL_SIZE; i++) {
+            NotificationPanel popup = new NotificationPanel("");
+            popup.setManaged(false);
+            popup.setMouseTransparent(true);
+            popup.setVisible(false);
+            popups[i] = popup;
+            container.getChildren().add(popup);
+        }
+    }
+
+    /**
+     * Shows a popup with the given text, reusing the oldest one if all are showing.
+     * @param text The text to show.
+     */
+    void show(String text) {
+        int i = next;
+        next = (next + 1) % POOL_SIZE;
+        NotificationPanel popup = popups[i];
+        popup.setText(text);
+        popup.setTranslateY(0);
+        popup.setOpacity(1);
+        popup.setVisible(true);
+        popup.toFront();
+        if (startedAt[i] == IDLE) {
+            active++;
+        }
+        startedAt[i] = NOT_STARTED;
+        startTimer();
+    }
+
+    /**
+     * Starts the timer that moves the popups, creating it on first use.
+     * Tests replace this and drive {@link #onFrame} themselves.
+     */
+    void startTimer() {
+        if (timer == null) {
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    onFrame(now);
+                }
+            };
+        }
+        timer.start();
+    }
+
+    /**
+     * Moves and fades the showing popups for a frame and hides the ones that have faded out.
+     * The timer stops once nothing is showing.
+     * @param now The frame timestamp, in nanoseconds.
+     */
+    void onFrame(long now) {
+        for (int i = 0; i < POOL_SIZE; i++) {
+            if (startedAt[i] == IDLE) continue;
+            if (startedAt[i] == NOT_STARTED) {
+                startedAt[i] = now;
+            }
+            long age = now - startedAt[i];
+            NotificationPanel popup = popups[i];
+            if (age >= FADE_NANOS) {
+                hide(i);
+                continue;
+            }
+            popup.setOpacity(1 - ease((double) age / FADE_NANOS));
+            popup.setTranslateY(-RISE_DISTANCE * ease((double) age / RISE_NANOS));
+        }
+        if (active == 0 && timer != null) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Hides every popup at once, for a new game.
+     */
+    void clear() {
+        for (int i = 0; i < POOL_SIZE; i++) {
+            if (startedAt[i] != IDLE) {
+                hide(i);
+            }
+        }
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Hides a showing popup.
+     * @param index The index of the popup.
+     */
+    private void hide(int index) {
+        popups[index].setVisible(false);
+        startedAt[index] = IDLE;
+        active--;
+    }
+
+    /**
+     * Eases in and out, like the default interpolator of a transition.
+     * @param t The progress, from 0 to 1.
+     * @return The eased progress.
+     */
+    private static double ease(double t) {
+        return t * t * (3 - 2 * t);
+    }
+
+    /**
+     * Returns the number of popups showing.
+     * @return The number of showing popups.
+     */
+    int getActiveCount() {
+        return active;
+    }
+
+    /**
+     * Returns a pooled popup, for tests.
+     * @param index The index of the popup.
+     * @return The popup.
+     */
+    NotificationPanel getPopup(int index) {
+        return popups[index];
+    }
+}
@@ -0,0 +1,64 @@
+package com.comp2042.ui;
+
+import com.comp2042.logic.scoring.Score;
+import com.comp2042.logic.scoring.ScoreListener;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+
+/**
+ * Mirrors a {@link Score} into JavaFX properties so labels can bind to it.
+ * The score itself stays free of JavaFX; this adapter listens to it and copies every change.
+ */
+public final class ScoreProperties implements ScoreListener {
+
+    /** The observable score. */
+    private final ReadOnlyIntegerWrapper score = new ReadOnlyIntegerWrapper();
+    /** The observable level. */
+    private final ReadOnlyIntegerWrapper level = new ReadOnlyIntegerWrapper();
+    /** The observable number of rows cleared. */
+    private final ReadOnlyIntegerWrapper rowsCleared = new ReadOnlyIntegerWrapper();
+
+    /**
+     * Creates the properties and subscribes them to the given score.
+     * @param source The score to mirror.
+     */
+    public ScoreProperties(Score source) {
+        scoreChanged(source);
+        source.addListener(this);
+    }
+
+    /**
+     * Copies the current values of the score into the properties.
+     * @param source The score that changed.
+     */
+    @Override
+    public void scoreChanged(Score source) {
+        score.set(source.getScore());
+        level.set(source.getLevel());
+        rowsCleared.set(source.getRowsCleared());
+    }
+
+    /**
+     * Returns the read-only integer property for the score.
+     * @return The {@code ReadOnlyIntegerProperty} for the score.
+     */
+    public ReadOnlyIntegerProperty scoreProperty() {
+        return score.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the read-only integer property for the level.
+     * @return The {@code ReadOnlyIntegerProperty} for the level.
+     */
+    public ReadOnlyIntegerProperty levelProperty() {
+        return level.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the read-only integer property for the number of rows cleared.
+     * @return The {@code ReadOnlyIntegerProperty} for the rows cleared.
+     */
+    public ReadOnlyIntegerProperty rowsClearedProperty() {
+        return rowsCleared.getReadOnlyProperty();
+    }
+}
@@ -1,14 +1,46 @@
 package com.comp2042.ui;
 
-import com.comp2042.logic.Constants;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.Stop;
 import javafx.scene.shape.Rectangle;
 
 /**
- * Utility class for applying CSS styles to {@code Rectangle} objects representing game tiles.
+ * Utility class for styling the {@code Rectangle} objects representing game tiles.
+ * <p>
+ * The fill of every tile value is resolved once and set on the tile directly, instead of
+ * swapping {@code tile-N} style classes, which made JavaFX re-resolve the tile's CSS on every
+ * change. A tile already showing the fill of its value is not touched at all. Values beyond the
+ * built-in colours get a colour of their own the first time they are seen.
+ * <p>
+ * Tiles are only styled on the JavaFX application thread, so the cache is not synchronized.
  * This class cannot be instantiated.
  */
 public class TileStyleUtility {
 
+    /**
+     * The top and bottom gradient colours of the built-in tile values; value 0, an empty cell,
+     * is transparent. Value 8 is the slow brick.
+     */
+    private static final String[][] TILE_COLORS = {
+            {},
+            {"#5ff8ff", "#00bcd4"},
+            {"#b085f5", "#7e57c2"},
+            {"#6bdc6b", "#2e7d32"},
+            {"#fff176", "#fbc02d"},
+            {"#ff8a80", "#e53935"},
+            {"#ffe0b2", "#ffb74d"},
+            {"#d7ccc8", "#a1887f"},
+            {"#b39ddb", "#673ab7"},
+    };
+    /** The hue step between generated colours, in degrees; the golden angle keeps neighbours apart. */
+    private static final double GENERATED_HUE_STEP = 137.508;
+
+    /** The resolved fill of each tile value, by value; grown when a larger value is first styled. */
+    private static Paint[] fills = initialFills();
+
     /**
      * Private constructor to prevent instantiation of this utility class.
      */
@@ -17,22 +49,63 @@ public class TileStyleUtility {
     }
 
     /**
-     * Applies CSS styles to a given {@code Rectangle} based on an integer value.
-     * The method first removes any existing "tile-" styles, adds a generic "tile" style,
-     * and then adds a specific "tile-[value]" style. The value is clamped between 0 and 7.
-     * If the value is 0 (representing an empty tile), its opacity is reset to 1.0.
-     * @param rect The {@code Rectangle} to which styles will be applied.
-     * @param val The integer value determining the specific tile style (e.g., brick type).
+     * Applies the style of a tile value to a given {@code Rectangle}.
+     * Nothing is changed when the rectangle already shows that value's fill.
+     * If the value is 0 or less (an empty tile), its opacity is also reset to 1.0.
+     * @param rect The {@code Rectangle} to which the style will be applied.
+     * @param val The integer value determining the tile style (e.g., brick type).
      */
     public static void applyTileStyle(Rectangle rect, int val) {
-        rect.getStyleClass().removeIf(s -> s.startsWith("tile-"));
-        if (!rect.getStyleClass().contains("tile")) {
-            rect.getStyleClass().add("tile");
-        }
-        // Ensure val is clamped between 0 and 7 for valid tile styling
-        rect.getStyleClass().add("tile-" + Math.max(0, Math.min(7, val)));
-        if (val == 0) {
+        if (val <= 0) {
             rect.setOpacity(1.0); // Reset opacity for empty tiles
         }
+        Paint fill = getFill(val);
+        if (rect.getFill() != fill) {
+            rect.setFill(fill);
+        }
+    }
+
+    /**
+     * Returns the fill of a tile value. The same instance is returned for the same value.
+     * @param val The tile value; 0 or less is an empty tile.
+     * @return The fill, transparent for an empty tile.
+     */
+    public static Paint getFill(int val) {
+        if (val <= 0) {
+            return fills[0];
+        }
+        if (val >= fills.length) {
+            Paint[] grown = new Paint[Math.max(val + 1, fills.length * 2)];
+            System.arraycopy(fills, 0, grown, 0, fills.length);
+            fills = grown;
+        }
+        if (fills[val] == null) {
+            double hue = (val * GENERATED_HUE_STEP) % 360;
+            fills[val] = gradient(Color.hsb(hue, 0.45, 1.0), Color.hsb(hue, 0.8, 0.75));
+        }
+        return fills[val];
+    }
+
+    /**
+     * Resolves the fills of the built-in tile values.
+     * @return The fills, by value.
+     */
+    private static Paint[] initialFills() {
+        Paint[] resolved = new Paint[TILE_COLORS.length];
+        resolved[0] = Color.TRANSPARENT;
+        for (int val = 1; val < TILE_COLORS.length; val++) {
+            resolved[val] = gradient(Color.web(TILE_COLORS[val][0]), Color.web(TILE_COLORS[val][1]));
+        }
+        return resolved;
+    }
+
+    /**
+     * Creates a top-to-bottom gradient over the whole tile.
+     * @param top The colour at the top edge.
+     * @param bottom The colour at the bottom edge.
+     * @return The gradient.
+     */
+    private static Paint gradient(Color top, Color bottom) {
+        return new LinearGradient(0, 0, 0, 1, true, CycleMethod.NO_CYCLE, new Stop(0, top), new Stop(1, bottom));
     }
-}
\ No newline at end of file
+}
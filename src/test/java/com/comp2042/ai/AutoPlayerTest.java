@@ -0,0 +1,75 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.board.Board;
+import com.comp2042.logic.board.BoardType;
+import com.comp2042.logic.engine.GameEngine;
+import com.comp2042.logic.movement.EventType;
+import com.comp2042.simulation.BatchSimulator;
+import com.comp2042.simulation.GameResult;
+import com.comp2042.simulation.PolicyType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class AutoPlayerTest {
+
+    @Test
+    void testParallelAndSequentialChooseTheSamePlacement() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            AutoPlayer parallel = new AutoPlayer(WeightedHeuristic.DEFAULT, pool);
+            AutoPlayer sequential = new AutoPlayer(WeightedHeuristic.DEFAULT, null);
+            GameEngine engine = new GameEngine(BoardType.SIMPLE.create(8L));
+
+            for (int piece = 0; piece < 200 && !engine.isGameOver(); piece++) {
+                Placement a = parallel.choose(engine.getBoard());
+                Placement b = sequential.choose(engine.getBoard());
+                assertEquals(a.getRotationIndex(), b.getRotationIndex());
+                assertEquals(a.getX(), b.getX());
+                assertEquals(a.getY(), b.getY());
+
+                for (EventType move : parallel.plan(engine.getBoard())) {
+                    if (move == EventType.HARD_DROP) engine.hardDrop(); else engine.step(move);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testBotSurvivesAndClearsLines() {
+        BatchSimulator simulator = new BatchSimulator(BoardType.BITBOARD, () -> PolicyType.BOT.create(null), 1000);
+        GameResult result = simulator.playGame(42L);
+
+        assertFalse(result.isToppedOut());
+        assertEquals(1000, result.getPieces());
+        assertTrue(result.getLines() > 300, "cleared " + result.getLines() + " lines");
+    }
+
+    @Test
+    void testHeuristicDecidesThePlacement() {
+        // A heuristic that only wants the right wall filled sends the brick there
+        AutoPlayer player = new AutoPlayer(board -> board.getColumnHeight(board.getWidth() - 1), null);
+        Board board = BoardType.SIMPLE.create(3L);
+        board.createNewBrick();
+
+        List<EventType> moves = player.plan(board);
+        assertTrue(moves.contains(EventType.RIGHT));
+        assertFalse(moves.contains(EventType.LEFT));
+        assertEquals(EventType.HARD_DROP, moves.get(moves.size() - 1));
+    }
+
+    @Test
+    void testNothingToPlanWithoutABrick() {
+        Board board = mock(Board.class);
+        when(board.getCurrentBrick()).thenReturn(null);
+
+        assertNull(new AutoPlayer(WeightedHeuristic.DEFAULT).choose(board));
+        assertTrue(new AutoPlayer(WeightedHeuristic.DEFAULT).plan(board).isEmpty());
+    }
+}
@@ -0,0 +1,107 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.board.Board;
+import com.comp2042.logic.board.BoardType;
+import com.comp2042.logic.engine.GameEngine;
+import com.comp2042.logic.movement.EventType;
+import com.comp2042.simulation.BatchSimulator;
+import com.comp2042.simulation.GameResult;
+import com.comp2042.simulation.PolicyType;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class BeamSearchPlayerTest {
+
+    private static void play(GameEngine engine, Plan plan) {
+        for (EventType move : plan.toMoves()) {
+            if (move == EventType.HARD_DROP) engine.hardDrop(); else engine.step(move);
+        }
+    }
+
+    @Test
+    void testParallelAndSequentialChooseTheSamePlan() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BeamSearchPlayer parallel = new BeamSearchPlayer(WeightedHeuristic.DEFAULT, 8, 3, BeamSearchPlayer.NO_BUDGET, pool);
+            BeamSearchPlayer sequential = new BeamSearchPlayer(WeightedHeuristic.DEFAULT, 8, 3, BeamSearchPlayer.NO_BUDGET, null);
+            GameEngine engine = new GameEngine(BoardType.SIMPLE.create(8L));
+
+            for (int piece = 0; piece < 100 && !engine.isGameOver(); piece++) {
+                Plan a = parallel.plan(engine.getBoard());
+                Plan b = sequential.plan(engine.getBoard());
+                assertEquals(a.isHold(), b.isHold());
+                assertEquals(a.getPlacement().getRotationIndex(), b.getPlacement().getRotationIndex());
+                assertEquals(a.getPlacement().getX(), b.getPlacement().getX());
+                assertEquals(a.getScore(), b.getScore());
+                assertEquals(a.getNodes(), b.getNodes());
+                assertEquals(4, a.getDepth());
+                assertFalse(a.isTimedOut());
+                play(engine, a);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testExpiredBudgetStillReturnsAPlacement() {
+        BeamSearchPlayer player = new BeamSearchPlayer(WeightedHeuristic.DEFAULT, 64, 3, 0L, null);
+        Board board = BoardType.SIMPLE.create(5L);
+        board.createNewBrick();
+
+        Plan plan = player.plan(board);
+        assertTrue(plan.isTimedOut());
+        assertEquals(1, plan.getDepth());
+        assertNotNull(plan.getPlacement());
+        assertEquals(EventType.HARD_DROP, plan.toMoves().get(plan.toMoves().size() - 1));
+    }
+
+    @Test
+    void testHoldPlansLandWhereTheSearchPredicted() {
+        BeamSearchPlayer player = new BeamSearchPlayer(WeightedHeuristic.DEFAULT, 8, 3, BeamSearchPlayer.NO_BUDGET, null);
+        for (BoardType type : BoardType.values()) {
+            GameEngine engine = new GameEngine(type.create(21L));
+            Board board = engine.getBoard();
+            int holds = 0;
+
+            for (int piece = 0; piece < 200 && !engine.isGameOver(); piece++) {
+                Plan plan = player.plan(board);
+                Placement placement = plan.getPlacement();
+                SearchBoard predicted = SearchBoard.of(board.getBoardMatrix())
+                        .place(placement.getRotation(), placement.getX(), placement.getY());
+                play(engine, plan);
+
+                assertEquals(predicted, SearchBoard.of(board.getBoardMatrix()), type + " piece " + piece);
+                if (plan.isHold()) {
+                    assertEquals(EventType.HOLD, plan.toMoves().get(0));
+                    holds++;
+                }
+            }
+            assertTrue(holds > 0, type + " never held");
+        }
+    }
+
+    @Test
+    void testLookaheadSurvivesAndClearsLines() {
+        BatchSimulator simulator = new BatchSimulator(BoardType.BITBOARD, () -> PolicyType.BEAM.create(null), 500);
+        GameResult result = simulator.playGame(42L);
+
+        assertFalse(result.isToppedOut());
+        assertEquals(500, result.getPieces());
+        assertTrue(result.getLines() > 150, "cleared " + result.getLines() + " lines");
+    }
+
+    @Test
+    void testNothingToPlanWithoutABrick() {
+        Board board = mock(Board.class);
+        when(board.getCurrentBrick()).thenReturn(null);
+
+        Plan plan = new BeamSearchPlayer(WeightedHeuristic.DEFAULT, 8, 3, BeamSearchPlayer.NO_BUDGET, null).plan(board);
+        assertNull(plan.getPlacement());
+        assertTrue(plan.toMoves().isEmpty());
+    }
+}
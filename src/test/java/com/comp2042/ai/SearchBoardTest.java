@@ -0,0 +1,140 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.Constants;
+import com.comp2042.logic.board.Board;
+import com.comp2042.logic.board.BoardType;
+import com.comp2042.logic.board.Zobrist;
+import com.comp2042.logic.bricks.OBrick;
+import com.comp2042.logic.bricks.TBrick;
+import com.comp2042.logic.movement.EventType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SearchBoardTest {
+
+    private static int[][] emptyMatrix() {
+        return new int[Constants.BOARD_HEIGHT][Constants.BOARD_WIDTH];
+    }
+
+    @Test
+    void testFeaturesOfKnownBoard() {
+        int[][] matrix = emptyMatrix();
+        int bottom = Constants.BOARD_HEIGHT - 1;
+        matrix[bottom - 2][0] = 1;  // column 0 is 3 high with two holes under it
+        matrix[bottom][1] = 1;      // column 1 is 1 high
+        matrix[bottom][2] = 1;
+        matrix[bottom - 1][2] = 1;  // column 2 is 2 high
+
+        SearchBoard board = SearchBoard.of(matrix);
+
+        assertEquals(3, board.getColumnHeight(0));
+        assertEquals(1, board.getColumnHeight(1));
+        assertEquals(2, board.getColumnHeight(2));
+        assertEquals(0, board.getColumnHeight(3));
+        assertEquals(6, board.getAggregateHeight());
+        assertEquals(3, board.getMaxHeight());
+        assertEquals(2, board.getHoles());
+        assertEquals(2 + 1 + 2, board.getBumpiness());
+        assertEquals(0, board.getLinesCleared());
+    }
+
+    @Test
+    void testPlaceClearsCompletedRows() {
+        int[][] matrix = emptyMatrix();
+        int bottom = Constants.BOARD_HEIGHT - 1;
+        for (int c = 0; c < Constants.BOARD_WIDTH - 2; c++) {
+            matrix[bottom][c] = 1;
+            matrix[bottom - 1][c] = 1;
+        }
+        matrix[bottom - 2][0] = 1;
+
+        SearchBoard board = SearchBoard.of(matrix);
+        OBrick brick = new OBrick();
+        // The O brick's cells sit in matrix columns 1-2 and rows 1-2
+        int x = Constants.BOARD_WIDTH - 3;
+        int y = board.dropRow(brick.getShapes().getRotation(0), x, 0);
+        assertEquals(bottom - 2, y);
+
+        SearchBoard after = board.place(brick.getShapes().getRotation(0), x, y);
+        assertEquals(2, after.getLinesCleared());
+        assertTrue(after.isOccupied(bottom, 0), "the block above the cleared rows falls to the floor");
+        assertEquals(1, after.getAggregateHeight());
+        assertEquals(0, after.getHoles());
+
+        int[][] expected = emptyMatrix();
+        expected[bottom][0] = 1;
+        assertEquals(Zobrist.of(expected), after.getHash());
+        assertEquals(SearchBoard.of(expected), after);
+    }
+
+    @Test
+    void testPlacementsCoverEveryColumnOnce() {
+        SearchBoard board = SearchBoard.of(emptyMatrix());
+        OBrick brick = new OBrick();
+        List<Placement> placements = board.placements(brick.getShapes(), 0, Constants.BOARD_WIDTH / 2 - 1,
+                Constants.HIDDEN_ROWS);
+
+        // Every rotation of the O brick is the same, so only one set of columns is listed
+        assertEquals(Constants.BOARD_WIDTH - 1, placements.size());
+        for (Placement placement : placements) {
+            assertEquals(0, placement.getTurns());
+            assertEquals(Constants.BOARD_HEIGHT - 3, placement.getY());
+        }
+    }
+
+    @Test
+    void testPlacementMovesEndWithHardDrop() {
+        SearchBoard board = SearchBoard.of(emptyMatrix());
+        TBrick brick = new TBrick();
+        for (Placement placement : board.placements(brick.getShapes(), 0, 4, Constants.HIDDEN_ROWS)) {
+            List<EventType> moves = placement.toMoves();
+            assertEquals(EventType.HARD_DROP, moves.get(moves.size() - 1));
+            assertEquals(placement.getTurns() + Math.abs(placement.getShift()) + 1, moves.size());
+        }
+    }
+
+    @Test
+    void testPredictedBoardMatchesTheRealBoard() {
+        for (BoardType type : BoardType.values()) {
+            Board board = type.create(31L);
+            board.createNewBrick();
+            Random random = new Random(3);
+
+            for (int piece = 0; piece < 400; piece++) {
+                SearchBoard before = SearchBoard.of(board.getBoardMatrix());
+                List<Placement> placements = before.placements(board.getCurrentBrick().getShapes(),
+                        board.getCurrentRotationIndex(), board.getViewData().getxPosition(),
+                        board.getViewData().getyPosition());
+                Placement placement = placements.get(random.nextInt(placements.size()));
+
+                for (int i = 0; i < placement.getTurns(); i++) assertTrue(board.rotateLeftBrick());
+                for (int i = 0; i < Math.abs(placement.getShift()); i++) {
+                    assertTrue(placement.getShift() < 0 ? board.moveBrickLeft() : board.moveBrickRight());
+                }
+                board.hardDropBrick();
+                assertEquals(placement.getY(), board.getViewData().getyPosition());
+                board.mergeBrickToBackground();
+                int cleared = board.clearRows().getLinesRemoved();
+
+                SearchBoard predicted = before.place(placement.getRotation(), placement.getX(), placement.getY());
+                assertEquals(cleared, predicted.getLinesCleared());
+                assertEquals(board.getBoardHash(), predicted.getHash());
+                assertEquals(Zobrist.of(board.getBoardMatrix()), board.getBoardHash());
+                int[][] matrix = board.getBoardMatrix();
+                for (int r = 0; r < matrix.length; r++) {
+                    for (int c = 0; c < matrix[r].length; c++) {
+                        assertEquals(matrix[r][c] != 0, predicted.isOccupied(r, c), type + " piece " + piece);
+                    }
+                }
+
+                if (board.createNewBrick()) {
+                    board.newGame();
+                }
+            }
+        }
+    }
+}
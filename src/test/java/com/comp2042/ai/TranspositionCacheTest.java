@@ -0,0 +1,142 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.board.BoardType;
+import com.comp2042.logic.engine.GameEngine;
+import com.comp2042.logic.movement.EventType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TranspositionCacheTest {
+
+    @Test
+    void testStoredScoreIsFound() {
+        TranspositionCache cache = new TranspositionCache(64);
+        long key = TranspositionCache.key(0x1234_5678_9ABCL, 3, 0);
+
+        assertTrue(Double.isNaN(cache.get(key)));
+        cache.put(key, -12.5);
+        assertEquals(-12.5, cache.get(key));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void testKeyDependsOnPieceAndHold() {
+        long hash = 0xDEAD_BEEFL;
+        long key = TranspositionCache.key(hash, 1, 2);
+        assertNotEquals(key, TranspositionCache.key(hash, 2, 2));
+        assertNotEquals(key, TranspositionCache.key(hash, 1, 3));
+        assertNotEquals(key, TranspositionCache.key(hash, 2, 1));
+        assertNotEquals(0L, TranspositionCache.key(0L, 0, 0));
+    }
+
+    @Test
+    void testCapacityIsRoundedUpToAPowerOfTwo() {
+        assertEquals(1, new TranspositionCache(1).getCapacity());
+        assertEquals(128, new TranspositionCache(100).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionCache(0));
+    }
+
+    @Test
+    void testNewEntryReplacesTheOneInItsSlot() {
+        TranspositionCache cache = new TranspositionCache(16);
+        long first = 0x100L << 1 | 1;
+        long second = 0x200L << 1 | 1; // same low bits above bit 0, same slot
+        cache.put(first, 1.0);
+        cache.put(second, 2.0);
+
+        assertTrue(Double.isNaN(cache.get(first)));
+        assertEquals(2.0, cache.get(second));
+
+        cache.clear();
+        assertTrue(Double.isNaN(cache.get(second)));
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    void testEverySlotIsUsed() {
+        TranspositionCache cache = new TranspositionCache(16);
+        int capacity = cache.getCapacity();
+        for (int i = 0; i < capacity; i++) {
+            cache.put((long) i << 1 | 1, i);
+        }
+        for (int i = 0; i < capacity; i++) {
+            assertEquals(i, cache.get((long) i << 1 | 1), "key " + i + " was evicted");
+        }
+
+        SplittableRandom random = new SplittableRandom(9);
+        boolean[] parities = new boolean[2];
+        for (int i = 0; i < capacity; i++) {
+            parities[cache.slotOf(TranspositionCache.key(random.nextLong(), i % 7, 0)) & 1] = true;
+        }
+        assertTrue(parities[0], "no key landed in an even slot");
+        assertTrue(parities[1], "no key landed in an odd slot");
+    }
+
+    @Test
+    void testConcurrentWritersNeverReturnAnotherKeysScore() throws Exception {
+        // Every score is derived from its key, so a torn or mixed-up slot would show as a mismatch
+        TranspositionCache cache = new TranspositionCache(256);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                long seed = t;
+                futures.add(executor.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(seed);
+                    for (int i = 0; i < 200_000; i++) {
+                        long key = TranspositionCache.key(random.nextLong(1 << 12), 0, 0);
+                        double score = cache.get(key);
+                        if (Double.isNaN(score)) {
+                            cache.put(key, key % 1000);
+                        } else {
+                            assertEquals(key % 1000, score);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testCacheDoesNotChangeTheBeamSearchPlan() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            TranspositionCache cache = new TranspositionCache(1 << 14);
+            BeamSearchPlayer cached = new BeamSearchPlayer(WeightedHeuristic.DEFAULT, 8, 3,
+                    BeamSearchPlayer.NO_BUDGET, pool, cache);
+            BeamSearchPlayer plain = new BeamSearchPlayer(WeightedHeuristic.DEFAULT, 8, 3,
+                    BeamSearchPlayer.NO_BUDGET, null);
+            GameEngine engine = new GameEngine(BoardType.BITBOARD.create(4L));
+
+            for (int piece = 0; piece < 100 && !engine.isGameOver(); piece++) {
+                Plan a = cached.plan(engine.getBoard());
+                Plan b = plain.plan(engine.getBoard());
+                assertEquals(b.isHold(), a.isHold());
+                assertEquals(b.getPlacement().getX(), a.getPlacement().getX());
+                assertEquals(b.getPlacement().getRotationIndex(), a.getPlacement().getRotationIndex());
+                assertEquals(b.getScore(), a.getScore());
+                for (EventType move : a.toMoves()) {
+                    if (move == EventType.HARD_DROP) engine.hardDrop(); else engine.step(move);
+                }
+            }
+            assertTrue(cache.getHits() > 0, "a game revisits boards");
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
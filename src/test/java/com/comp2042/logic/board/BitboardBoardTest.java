@@ -0,0 +1,222 @@
+package com.comp2042.logic.board;
+
+import com.comp2042.logic.Constants;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.JBrick;
+import com.comp2042.logic.bricks.LBrick;
+import com.comp2042.logic.bricks.OBrick;
+import com.comp2042.logic.bricks.SBrick;
+import com.comp2042.logic.bricks.SlowBrick;
+import com.comp2042.logic.bricks.TBrick;
+import com.comp2042.logic.bricks.ZBrick;
+import com.comp2042.logic.movement.ClearRow;
+import com.comp2042.logic.scoring.Score;
+import com.comp2042.model.ViewData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BitboardBoardTest {
+
+    /**
+     * Replays a fixed brick sequence so two boards see exactly the same pieces.
+     */
+    private static final class ScriptedGenerator implements BrickGenerator {
+        private final List<Brick> bricks;
+        private int index;
+
+        ScriptedGenerator(List<Brick> bricks) {
+            this.bricks = bricks;
+        }
+
+        @Override
+        public Brick getBrick() {
+            return bricks.get(index++ % bricks.size());
+        }
+
+        @Override
+        public Brick getNextBrick() {
+            return bricks.get(index % bricks.size());
+        }
+
+        @Override
+        public List<Brick> peekNext(int count) {
+            List<Brick> result = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                result.add(bricks.get((index + i) % bricks.size()));
+            }
+            return result;
+        }
+    }
+
+    private static List<Brick> randomSequence(long seed, int length) {
+        List<Supplier<Brick>> factories = List.of(IBrick::new, JBrick::new, LBrick::new, OBrick::new,
+                SBrick::new, TBrick::new, ZBrick::new, SlowBrick::new);
+        Random random = new Random(seed);
+        List<Brick> bricks = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            bricks.add(factories.get(random.nextInt(factories.size())).get());
+        }
+        return bricks;
+    }
+
+    private static void assertSameView(ViewData expected, ViewData actual) {
+        assertArrayEquals(expected.getBrickData(), actual.getBrickData());
+        assertEquals(expected.getxPosition(), actual.getxPosition());
+        assertEquals(expected.getyPosition(), actual.getyPosition());
+        assertEquals(expected.getGhostXPosition(), actual.getGhostXPosition());
+        assertEquals(expected.getGhostYPosition(), actual.getGhostYPosition());
+        assertArrayEquals(expected.getNextBricksData(), actual.getNextBricksData());
+        assertArrayEquals(expected.getHeldBrickData(), actual.getHeldBrickData());
+    }
+
+    @Test
+    void testInitialBoardIsEmpty() {
+        BitboardBoard board = new BitboardBoard();
+        int[][] matrix = board.getBoardMatrix();
+        assertEquals(Constants.BOARD_HEIGHT, matrix.length);
+        assertEquals(Constants.BOARD_WIDTH, matrix[0].length);
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                assertEquals(0, cell);
+            }
+        }
+    }
+
+    @Test
+    void testWallsStopHorizontalMovement() {
+        BitboardBoard board = new BitboardBoard(new ScriptedGenerator(List.of(new IBrick())), new Score());
+        board.createNewBrick();
+
+        int moves = 0;
+        while (board.moveBrickLeft()) moves++;
+        assertEquals(Constants.BOARD_WIDTH / 2 - 1, moves, "I brick spans columns 0-3 of its matrix");
+
+        moves = 0;
+        while (board.moveBrickRight()) moves++;
+        assertEquals(Constants.BOARD_WIDTH - 4, moves);
+    }
+
+    @Test
+    void testFullRowIsCleared() {
+        BitboardBoard board = new BitboardBoard(new ScriptedGenerator(List.of(new IBrick(), new IBrick(), new OBrick())), new Score());
+
+        board.createNewBrick();
+        while (board.moveBrickLeft()) ;
+        while (board.moveBrickDown()) ;
+        board.mergeBrickToBackground();
+        assertEquals(0, board.clearRows().getLinesRemoved());
+
+        board.createNewBrick();
+        while (board.moveBrickRight()) ;
+        board.moveBrickLeft();
+        board.moveBrickLeft();
+        while (board.moveBrickDown()) ;
+        board.mergeBrickToBackground();
+        assertEquals(0, board.clearRows().getLinesRemoved());
+
+        board.createNewBrick();
+        while (board.moveBrickRight()) ;
+        while (board.moveBrickDown()) ;
+        board.mergeBrickToBackground();
+
+        ClearRow clearRow = board.clearRows();
+        assertEquals(1, clearRow.getLinesRemoved());
+        assertArrayEquals(new int[]{Constants.BOARD_HEIGHT - 1}, clearRow.getClearedRows());
+        assertEquals(50, clearRow.getScoreBonus());
+
+        int[][] matrix = board.getBoardMatrix();
+        assertArrayEquals(new int[]{0, 0, 0, 0, 0, 0, 0, 0, 4, 4}, matrix[Constants.BOARD_HEIGHT - 1]);
+        assertArrayEquals(matrix, clearRow.getNewBoard());
+    }
+
+    @Test
+    void testMatchesSimpleBoardOnRandomGames() {
+        for (long seed = 1; seed <= 20; seed++) {
+            List<Brick> bricks = randomSequence(seed, 400);
+            SimpleBoard simple = new SimpleBoard(new ScriptedGenerator(bricks), new Score());
+            BitboardBoard bitboard = new BitboardBoard(new ScriptedGenerator(bricks), new Score());
+
+            assertEquals(simple.createNewBrick(), bitboard.createNewBrick());
+            Random moves = new Random(seed * 31);
+
+            for (int step = 0; step < 3000; step++) {
+                switch (moves.nextInt(6)) {
+                    case 0 -> assertEquals(simple.moveBrickLeft(), bitboard.moveBrickLeft());
+                    case 1 -> assertEquals(simple.moveBrickRight(), bitboard.moveBrickRight());
+                    case 2 -> assertEquals(simple.rotateLeftBrick(), bitboard.rotateLeftBrick());
+                    case 3 -> {
+                        if (moves.nextInt(8) == 0) {
+                            simple.holdCurrentBrick();
+                            bitboard.holdCurrentBrick();
+                        }
+                    }
+                    default -> {
+                        boolean moved = simple.moveBrickDown();
+                        assertEquals(moved, bitboard.moveBrickDown());
+                        if (!moved) {
+                            assertEquals(simple.mergeBrickToBackground(), bitboard.mergeBrickToBackground());
+                            ClearRow expected = simple.clearRows();
+                            ClearRow actual = bitboard.clearRows();
+                            assertEquals(expected.getLinesRemoved(), actual.getLinesRemoved());
+                            assertArrayEquals(expected.getClearedRows(), actual.getClearedRows());
+                            assertEquals(expected.getScoreBonus(), actual.getScoreBonus());
+
+                            boolean simpleOver = simple.createNewBrick();
+                            assertEquals(simpleOver, bitboard.createNewBrick());
+                            if (simpleOver) {
+                                simple.newGame();
+                                bitboard.newGame();
+                            }
+                        }
+                    }
+                }
+                assertArrayEquals(simple.getBoardMatrix(), bitboard.getBoardMatrix(), "seed " + seed + " step " + step);
+                assertSameView(simple.getViewData(), bitboard.getViewData());
+                assertEquals(Zobrist.of(simple.getBoardMatrix()), simple.getBoardHash());
+                assertEquals(simple.getBoardHash(), bitboard.getBoardHash());
+            }
+        }
+    }
+
+    @Test
+    void testPreviewCountMatchesSimpleBoard() {
+        List<Brick> bricks = randomSequence(7, 12);
+        SimpleBoard simple = new SimpleBoard(new ScriptedGenerator(bricks), new Score());
+        BitboardBoard bitboard = new BitboardBoard(new ScriptedGenerator(bricks), new Score());
+        simple.createNewBrick();
+        bitboard.createNewBrick();
+
+        assertEquals(Constants.PREVIEW_COUNT, bitboard.getViewData().getNextBricksData().length);
+        simple.setPreviewCount(5);
+        bitboard.setPreviewCount(5);
+        assertEquals(5, bitboard.getViewData().getNextBricksData().length);
+        assertSameView(simple.getViewData(), bitboard.getViewData());
+        assertThrows(IllegalArgumentException.class, () -> bitboard.setPreviewCount(-1));
+        assertThrows(IllegalArgumentException.class, () -> simple.setPreviewCount(-1));
+    }
+
+    @Test
+    void testViewDataIsReusedUntilTheStateChanges() {
+        List<Brick> bricks = randomSequence(11, 12);
+        for (Board board : List.of(new SimpleBoard(new ScriptedGenerator(bricks), new Score()),
+                new BitboardBoard(new ScriptedGenerator(bricks), new Score()))) {
+            board.createNewBrick();
+            ViewData first = board.getViewData();
+            assertSame(first, board.getViewData());
+
+            assertTrue(board.moveBrickDown());
+            ViewData moved = board.getViewData();
+            assertNotSame(first, moved);
+            assertTrue(moved.getVersion() > first.getVersion());
+            assertSame(first.getBrickData(), moved.getBrickData());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.comp2042.logic.board;
 
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.ShapeTable;
 import com.comp2042.model.NextShapeInfo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,6 +36,7 @@ public class BrickRotatorTest {
 
         // Configure the mock brick to return these shapes
         when(mockBrick.getShapeMatrix()).thenReturn(mockRotations);
+        when(mockBrick.getShapes()).thenReturn(ShapeTable.of(mockRotations));
 
         // Set the brick on the rotator
         brickRotator.setBrick(mockBrick);
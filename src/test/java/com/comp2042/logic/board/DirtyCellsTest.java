@@ -0,0 +1,44 @@
+package com.comp2042.logic.board;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DirtyCellsTest {
+
+    @Test
+    void testMarkRecordsEachCellOnce() {
+        DirtyCells cells = new DirtyCells(4, 3);
+        cells.mark(1, 2);
+        cells.mark(3, 0);
+        cells.mark(1, 2);
+
+        assertEquals(2, cells.size());
+        assertEquals(1, cells.getRow(0));
+        assertEquals(2, cells.getColumn(0));
+        assertEquals(3, cells.getRow(1));
+        assertEquals(0, cells.getColumn(1));
+    }
+
+    @Test
+    void testMarkRowsAndAll() {
+        DirtyCells cells = new DirtyCells(4, 3);
+        cells.mark(2, 1);
+        cells.markRows(2, 3);
+        assertEquals(6, cells.size());
+
+        cells.markAll();
+        assertEquals(12, cells.size());
+    }
+
+    @Test
+    void testClearEmptiesTheSet() {
+        DirtyCells cells = new DirtyCells(4, 3);
+        cells.markAll();
+        cells.clear();
+        assertTrue(cells.isEmpty());
+
+        cells.mark(0, 0);
+        assertEquals(1, cells.size(), "Cleared cells can be marked again");
+    }
+}
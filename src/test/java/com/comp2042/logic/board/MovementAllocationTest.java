@@ -0,0 +1,65 @@
+package com.comp2042.logic.board;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class MovementAllocationTest {
+
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURED_ROUNDS = 50_000;
+
+    private static int exercise(Board board, int rounds) {
+        int moved = 0;
+        for (int i = 0; i < rounds; i++) {
+            if (board.moveBrickLeft()) moved++;
+            if (board.moveBrickRight()) moved++;
+            if (board.rotateLeftBrick()) moved++;
+            if (board.moveBrickDown()) moved++;
+        }
+        return moved;
+    }
+
+    private static long allocatedBytesForMoves(Board board) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(),
+                "Thread allocation counting is not supported by this JVM");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        board.createNewBrick();
+        exercise(board, WARMUP_ROUNDS);
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        exercise(board, MEASURED_ROUNDS);
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    @Test
+    void testSimpleBoardMovesDoNotAllocate() {
+        long allocated = allocatedBytesForMoves(new SimpleBoard());
+        // Anything allocated per move would cost at least 16 bytes per call, 200,000 calls in total.
+        assertTrue(allocated < MEASURED_ROUNDS,
+                "SimpleBoard movement allocated " + allocated + " bytes over " + (4 * MEASURED_ROUNDS) + " moves");
+    }
+
+    @Test
+    void testBitboardBoardMovesDoNotAllocate() {
+        long allocated = allocatedBytesForMoves(new BitboardBoard());
+        assertTrue(allocated < MEASURED_ROUNDS,
+                "BitboardBoard movement allocated " + allocated + " bytes over " + (4 * MEASURED_ROUNDS) + " moves");
+    }
+
+    @Test
+    void testPackedOffsetRoundTrip() {
+        int[][] positions = {{0, 0}, {4, 2}, {-3, 24}, {-1, -2}, {9, 0}};
+        for (int[] position : positions) {
+            int packed = SimpleBoard.pack(position[0], position[1]);
+            assertEquals(position[0], SimpleBoard.unpackX(packed));
+            assertEquals(position[1], SimpleBoard.unpackY(packed));
+        }
+    }
+}
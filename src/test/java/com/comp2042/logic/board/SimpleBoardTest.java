@@ -5,15 +5,16 @@ import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
 import com.comp2042.logic.bricks.BrickType;
 import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.OBrick;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
 import com.comp2042.logic.movement.ClearRow;
-import com.comp2042.model.NextShapeInfo;
+import com.comp2042.logic.scoring.Score;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.awt.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -74,13 +75,13 @@ public class SimpleBoardTest {
         try {
             java.lang.reflect.Field currentOffsetField = SimpleBoard.class.getDeclaredField("currentOffset");
             currentOffsetField.setAccessible(true);
-            Point currentOffset = (Point) currentOffsetField.get(simpleBoard);
+            int currentOffset = (int) currentOffsetField.get(simpleBoard);
 
             int expectedSpawnX = Constants.BOARD_WIDTH / 2 - 1;
             int expectedSpawnY = Constants.HIDDEN_ROWS;
 
-            assertEquals(expectedSpawnX, currentOffset.x);
-            assertEquals(expectedSpawnY, currentOffset.y);
+            assertEquals(expectedSpawnX, SimpleBoard.unpackX(currentOffset));
+            assertEquals(expectedSpawnY, SimpleBoard.unpackY(currentOffset));
         } catch (NoSuchFieldException | IllegalAccessException e) {
             fail("Failed to access currentOffset field: " + e.getMessage());
         }
@@ -98,8 +99,8 @@ public class SimpleBoardTest {
         try {
             java.lang.reflect.Field currentOffsetField = SimpleBoard.class.getDeclaredField("currentOffset");
             currentOffsetField.setAccessible(true);
-            Point initialOffset = (Point) currentOffsetField.get(simpleBoard);
-            assertEquals(Constants.HIDDEN_ROWS, initialOffset.y);
+            int initialOffset = (int) currentOffsetField.get(simpleBoard);
+            assertEquals(Constants.HIDDEN_ROWS, SimpleBoard.unpackY(initialOffset));
         } catch (NoSuchFieldException | IllegalAccessException e) {
             fail("Failed to access currentOffset field: " + e.getMessage());
         }
@@ -111,8 +112,8 @@ public class SimpleBoardTest {
         try {
             java.lang.reflect.Field currentOffsetField = SimpleBoard.class.getDeclaredField("currentOffset");
             currentOffsetField.setAccessible(true);
-            Point afterMoveOffset = (Point) currentOffsetField.get(simpleBoard);
-            assertEquals(Constants.HIDDEN_ROWS + 1, afterMoveOffset.y);
+            int afterMoveOffset = (int) currentOffsetField.get(simpleBoard);
+            assertEquals(Constants.HIDDEN_ROWS + 1, SimpleBoard.unpackY(afterMoveOffset));
         } catch (NoSuchFieldException | IllegalAccessException e) {
             fail("Failed to access currentOffset field: " + e.getMessage());
         }
@@ -269,4 +270,199 @@ public class SimpleBoardTest {
             fail("Failed to access fields: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testClearRowsKeepsStackAboveClearedRow() {
+        when(mockBrickGenerator.getBrick()).thenReturn(new IBrick(), new IBrick(), new OBrick());
+        SimpleBoard board = new SimpleBoard(mockBrickGenerator, new Score());
+
+        board.createNewBrick();
+        while (board.moveBrickLeft()) ;
+        while (board.moveBrickDown()) ;
+        board.mergeBrickToBackground();
+        assertEquals(0, board.clearRows().getLinesRemoved());
+
+        board.createNewBrick();
+        while (board.moveBrickRight()) ;
+        board.moveBrickLeft();
+        board.moveBrickLeft();
+        while (board.moveBrickDown()) ;
+        board.mergeBrickToBackground();
+        assertEquals(0, board.clearRows().getLinesRemoved());
+
+        board.createNewBrick();
+        while (board.moveBrickRight()) ;
+        while (board.moveBrickDown()) ;
+        board.mergeBrickToBackground();
+
+        ClearRow clearRow = board.clearRows();
+        assertEquals(1, clearRow.getLinesRemoved());
+        assertArrayEquals(new int[]{Constants.BOARD_HEIGHT - 1}, clearRow.getClearedRows());
+        assertEquals(50, clearRow.getScoreBonus());
+
+        int[][] matrix = board.getBoardMatrix();
+        assertArrayEquals(new int[]{0, 0, 0, 0, 0, 0, 0, 0, 4, 4}, matrix[Constants.BOARD_HEIGHT - 1]);
+        assertArrayEquals(new int[Constants.BOARD_WIDTH], matrix[Constants.BOARD_HEIGHT - 2]);
+        assertArrayEquals(matrix, clearRow.getNewBoard());
+    }
+
+    @Test
+    void testIncrementalClearMatchesFullScan() throws ReflectiveOperationException {
+        SimpleBoard board = new SimpleBoard();
+        java.lang.reflect.Field rowFillField = SimpleBoard.class.getDeclaredField("rowFill");
+        rowFillField.setAccessible(true);
+        int[] rowFill = (int[]) rowFillField.get(board);
+
+        Random random = new Random(42);
+        int linesSeen = 0;
+        board.createNewBrick();
+        for (int piece = 0; piece < 3000; piece++) {
+            for (int r = random.nextInt(4); r > 0; r--) board.rotateLeftBrick();
+            int shift = random.nextInt(11) - 5;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) board.moveBrickLeft(); else board.moveBrickRight();
+            }
+            while (board.moveBrickDown()) ;
+            board.mergeBrickToBackground();
+
+            ClearRow expected = MatrixOperations.checkRemoving(MatrixOperations.copy(board.getBoardMatrix()));
+            ClearRow actual = board.clearRows();
+            assertEquals(expected.getLinesRemoved(), actual.getLinesRemoved());
+            assertArrayEquals(expected.getClearedRows(), actual.getClearedRows());
+            assertArrayEquals(expected.getNewBoard(), board.getBoardMatrix(), "piece " + piece);
+            linesSeen += actual.getLinesRemoved();
+
+            int[][] matrix = board.getBoardMatrix();
+            for (int r = 0; r < matrix.length; r++) {
+                int filled = 0;
+                for (int cell : matrix[r]) if (cell != 0) filled++;
+                assertEquals(filled, rowFill[r], "row " + r + " after piece " + piece);
+            }
+
+            if (board.createNewBrick()) {
+                board.newGame();
+            }
+        }
+        assertTrue(linesSeen > 0, "The random games should clear some lines");
+    }
+
+    @Test
+    void testGhostAndHardDropMatchStepwiseDrop() throws ReflectiveOperationException {
+        SimpleBoard board = new SimpleBoard();
+        java.lang.reflect.Field columnTopField = SimpleBoard.class.getDeclaredField("columnTop");
+        columnTopField.setAccessible(true);
+        int[] columnTop = (int[]) columnTopField.get(board);
+
+        Random random = new Random(7);
+        board.createNewBrick();
+        for (int piece = 0; piece < 3000; piece++) {
+            for (int r = random.nextInt(4); r > 0; r--) board.rotateLeftBrick();
+            int shift = random.nextInt(11) - 5;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) board.moveBrickLeft(); else board.moveBrickRight();
+            }
+            // Sometimes drop part of the way and slide, to tuck the brick under overhangs
+            for (int i = random.nextInt(25); i > 0; i--) board.moveBrickDown();
+            if (random.nextBoolean()) board.moveBrickLeft(); else board.moveBrickRight();
+
+            int ghostY = board.getViewData().getGhostYPosition();
+            int startY = board.getViewData().getyPosition();
+            if (random.nextBoolean()) {
+                assertEquals(ghostY - startY, board.hardDropBrick());
+            } else {
+                while (board.moveBrickDown()) ;
+            }
+            assertEquals(ghostY, board.getViewData().getyPosition(), "piece " + piece);
+            assertFalse(board.moveBrickDown());
+
+            board.mergeBrickToBackground();
+            board.clearRows();
+
+            int[][] matrix = board.getBoardMatrix();
+            for (int c = 0; c < Constants.BOARD_WIDTH; c++) {
+                int top = 0;
+                while (top < matrix.length && matrix[top][c] == 0) top++;
+                assertEquals(top, columnTop[c], "column " + c + " after piece " + piece);
+            }
+
+            if (board.createNewBrick()) {
+                board.newGame();
+            }
+        }
+    }
+
+    @Test
+    void testChangedCellsReproduceTheBoard() {
+        SimpleBoard board = new SimpleBoard();
+        int[][] shown = new int[Constants.BOARD_HEIGHT][Constants.BOARD_WIDTH];
+
+        Random random = new Random(11);
+        board.createNewBrick();
+        for (int piece = 0; piece < 2000; piece++) {
+            for (int r = random.nextInt(4); r > 0; r--) board.rotateLeftBrick();
+            int shift = random.nextInt(11) - 5;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) board.moveBrickLeft(); else board.moveBrickRight();
+            }
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            if (board.createNewBrick()) {
+                board.newGame();
+            }
+
+            int[][] matrix = board.getBoardMatrix();
+            DirtyCells changes = board.getChangedCells();
+            for (int i = 0; i < changes.size(); i++) {
+                shown[changes.getRow(i)][changes.getColumn(i)] = matrix[changes.getRow(i)][changes.getColumn(i)];
+            }
+            changes.clear();
+            assertArrayEquals(matrix, shown, "piece " + piece);
+        }
+    }
+
+    @Test
+    void testSameSeedPlaysTheSameGame() {
+        SimpleBoard first = new SimpleBoard(77L);
+        SimpleBoard second = new SimpleBoard(77L);
+
+        for (int piece = 0; piece < 100; piece++) {
+            assertEquals(first.createNewBrick(), second.createNewBrick());
+            assertArrayEquals(first.getViewData().getBrickData(), second.getViewData().getBrickData());
+            assertArrayEquals(first.getViewData().getNextBricksData(), second.getViewData().getNextBricksData());
+            first.hardDropBrick();
+            second.hardDropBrick();
+            assertEquals(first.mergeBrickToBackground(), second.mergeBrickToBackground());
+            first.clearRows();
+            second.clearRows();
+            assertArrayEquals(first.getBoardMatrix(), second.getBoardMatrix());
+        }
+    }
+
+    @Test
+    void testLoadedBackgroundPlaysLikeABuiltOne() {
+        SimpleBoard built = new SimpleBoard(5L);
+        for (int piece = 0; piece < 12; piece++) {
+            built.createNewBrick();
+            for (int i = piece % 5; i > 0; i--) built.moveBrickLeft();
+            built.hardDropBrick();
+            built.mergeBrickToBackground();
+            built.clearRows();
+        }
+
+        SimpleBoard loaded = new SimpleBoard(9L);
+        loaded.loadBackground(built.getBoardMatrix());
+        assertArrayEquals(built.getBoardMatrix(), loaded.getBoardMatrix());
+        assertNotSame(built.getBoardMatrix()[0], loaded.getBoardMatrix()[0]);
+        assertEquals(Constants.BOARD_WIDTH * Constants.BOARD_HEIGHT, loaded.getChangedCells().size());
+
+        // The ghost comes from the rebuilt skyline; it must agree with dropping row by row
+        for (int piece = 0; piece < 20 && !loaded.createNewBrick(); piece++) {
+            int ghostY = loaded.computeGhostY();
+            while (loaded.moveBrickDown()) ;
+            assertEquals(ghostY, loaded.getViewData().getyPosition(), "piece " + piece);
+            loaded.mergeBrickToBackground();
+            loaded.clearRows();
+        }
+    }
+}
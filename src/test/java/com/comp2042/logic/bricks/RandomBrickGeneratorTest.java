@@ -7,6 +7,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import com.comp2042.logic.bricks.BrickType;
 import com.comp2042.logic.scoring.Score;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -143,4 +144,49 @@ public class RandomBrickGeneratorTest {
 
         assertEquals(0, slowBrickCount, "No SlowBricks should be generated when level is below 3.");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSameSeedGivesSameSequence() {
+        when(mockScore.getLevel()).thenReturn(3); // Slow brick rolls are part of the sequence
+        RandomBrickGenerator first = new RandomBrickGenerator(mockScore, 2025L);
+        RandomBrickGenerator second = new RandomBrickGenerator(mockScore, 2025L);
+
+        for (int i = 0; i < 200; i++) {
+            assertEquals(first.getBrick().getBrickType(), second.getBrick().getBrickType(), "brick " + i);
+        }
+    }
+
+    @Test
+    void testDifferentSeedsGiveDifferentSequences() {
+        RandomBrickGenerator first = new RandomBrickGenerator(mockScore, 1L);
+        RandomBrickGenerator second = new RandomBrickGenerator(mockScore, 2L);
+
+        boolean differs = false;
+        for (int i = 0; i < 50 && !differs; i++) {
+            differs = first.getBrick().getBrickType() != second.getBrick().getBrickType();
+        }
+        assertTrue(differs, "Different seeds should not produce the same 50 bricks");
+    }
+
+    @Test
+    void testPreviewDepthDoesNotChangeTheSequence() {
+        int[] handedOut = new int[1];
+        when(mockScore.getLevel()).thenAnswer(invocation -> 1 + handedOut[0] / 20); // Reaches level 3 mid-game
+        List<List<BrickType>> sequences = new ArrayList<>();
+        for (int previewCount : new int[]{1, 3, 7}) {
+            handedOut[0] = 0;
+            RandomBrickGenerator seeded = new RandomBrickGenerator(mockScore, 99L);
+            List<BrickType> sequence = new ArrayList<>();
+            for (int i = 0; i < 300; i++) {
+                assertEquals(previewCount, seeded.peekNext(previewCount).size());
+                sequence.add(seeded.getBrick().getBrickType());
+                handedOut[0]++;
+            }
+            sequences.add(sequence);
+        }
+
+        assertTrue(sequences.get(0).contains(BrickType.SLOW), "the run should reach the slow brick levels");
+        assertEquals(sequences.get(1), sequences.get(0), "preview count 1 changed the sequence");
+        assertEquals(sequences.get(1), sequences.get(2), "preview count 7 changed the sequence");
+    }
+}
@@ -0,0 +1,57 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShapeTableTest {
+
+    @Test
+    void testStandardBricksShareOneTable() {
+        assertSame(new TBrick().getShapes(), new TBrick().getShapes(),
+                "Every TBrick instance must share the table built at class load.");
+        assertSame(new TBrick().getShapes().getRotation(0).getCells(), new TBrick().getShapes().getRotation(0).getCells());
+    }
+
+    @Test
+    void testTableMatchesShapeMatrix() {
+        Brick[] bricks = {new IBrick(), new JBrick(), new LBrick(), new OBrick(),
+                new SBrick(), new TBrick(), new ZBrick(), new SlowBrick()};
+        for (Brick brick : bricks) {
+            List<int[][]> matrices = brick.getShapeMatrix();
+            ShapeTable table = brick.getShapes();
+            assertEquals(matrices.size(), table.getRotationCount());
+            for (int i = 0; i < matrices.size(); i++) {
+                assertArrayEquals(matrices.get(i), table.getRotation(i).getCells());
+            }
+        }
+    }
+
+    @Test
+    void testRowMasksAndBoundingBox() {
+        ShapeTable.Rotation t = new TBrick().getShapes().getRotation(0);
+        // {0,0,0,0}, {6,6,6,0}, {0,6,0,0}, {0,0,0,0}
+        assertArrayEquals(new int[]{0b0000, 0b0111, 0b0010, 0b0000}, t.getRowMasks());
+        assertEquals(1, t.getMinRow());
+        assertEquals(2, t.getMaxRow());
+        assertEquals(0, t.getMinCol());
+        assertEquals(2, t.getMaxCol());
+        assertEquals(4, t.getWidth());
+        assertArrayEquals(new int[]{1, 2, 1, -1}, t.getColumnBottoms());
+    }
+
+    @Test
+    void testTableIsIndependentOfSourceMatrices() {
+        int[][] shape = {{1, 1}};
+        ShapeTable table = ShapeTable.of(shape);
+        shape[0][0] = 0;
+        assertEquals(1, table.getRotation(0).getCells()[0][0]);
+    }
+
+    @Test
+    void testEmptyTableIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ShapeTable.of(List.of()));
+    }
+}
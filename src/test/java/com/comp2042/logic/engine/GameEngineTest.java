@@ -0,0 +1,120 @@
+package com.comp2042.logic.engine;
+
+import com.comp2042.logic.board.Board;
+import com.comp2042.logic.board.BoardType;
+import com.comp2042.logic.bricks.BrickType;
+import com.comp2042.logic.movement.ClearRow;
+import com.comp2042.logic.movement.EventType;
+import com.comp2042.logic.scoring.Score;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class GameEngineTest {
+
+    private Board board;
+    private Score score;
+    private GameListener listener;
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        board = mock(Board.class);
+        score = mock(Score.class);
+        listener = mock(GameListener.class);
+        when(board.getScore()).thenReturn(score);
+
+        engine = new GameEngine(board);
+        engine.addListener(listener);
+        clearInvocations(board);
+    }
+
+    @Test
+    void testTickMovesWithoutLocking() {
+        when(board.moveBrickDown()).thenReturn(true);
+
+        assertNull(engine.tick());
+        verify(board, never()).mergeBrickToBackground();
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    void testTickLocksClearsScoresAndSpawns() {
+        ClearRow clearRow = new ClearRow(2, new int[0][0], 200, new int[]{18, 19});
+        when(board.moveBrickDown()).thenReturn(false);
+        when(board.mergeBrickToBackground()).thenReturn(BrickType.T);
+        when(board.clearRows()).thenReturn(clearRow);
+
+        assertSame(clearRow, engine.tick());
+
+        InOrder order = inOrder(board, score, listener);
+        order.verify(board).mergeBrickToBackground();
+        order.verify(listener).onBrickLocked(BrickType.T);
+        order.verify(board).clearRows();
+        order.verify(score).add(200);
+        order.verify(score).addClearedRows(2);
+        order.verify(listener).onLinesCleared(clearRow);
+        order.verify(board).createNewBrick();
+        verify(listener, never()).onGameOver();
+        assertEquals(1, engine.getBricksLocked());
+    }
+
+    @Test
+    void testHardDropLocksImmediately() {
+        when(board.clearRows()).thenReturn(new ClearRow(0, new int[0][0], 0, new int[0]));
+
+        engine.hardDrop();
+
+        verify(board).hardDropBrick();
+        verify(board).mergeBrickToBackground();
+        verify(listener, never()).onLinesCleared(any());
+        verify(score, never()).add(anyInt());
+    }
+
+    @Test
+    void testBlockedSpawnEndsTheGame() {
+        when(board.clearRows()).thenReturn(new ClearRow(0, new int[0][0], 0, new int[0]));
+        when(board.createNewBrick()).thenReturn(true);
+
+        engine.step(EventType.HARD_DROP);
+
+        assertTrue(engine.isGameOver());
+        verify(listener).onGameOver();
+
+        engine.newGame();
+        assertFalse(engine.isGameOver());
+        assertEquals(0, engine.getBricksLocked());
+        verify(board).newGame();
+        verify(listener).onNewGame();
+    }
+
+    @Test
+    void testStepDispatchesPlayerActions() {
+        engine.step(EventType.LEFT);
+        engine.step(EventType.RIGHT);
+        engine.step(EventType.ROTATE);
+        engine.step(EventType.HOLD);
+
+        verify(board).moveBrickLeft();
+        verify(board).moveBrickRight();
+        verify(board).rotateLeftBrick();
+        verify(board).holdCurrentBrick();
+        verify(listener).onRotated();
+    }
+
+    @Test
+    void testPlaysACompleteGameHeadless() {
+        for (BoardType type : BoardType.values()) {
+            GameEngine headless = new GameEngine(type.create());
+            int ticks = 0;
+            while (!headless.isGameOver() && ticks++ < 100_000) {
+                headless.tick();
+            }
+            assertTrue(headless.isGameOver(), type + " game should end by stacking up");
+            assertTrue(headless.getBricksLocked() > 0);
+        }
+    }
+}
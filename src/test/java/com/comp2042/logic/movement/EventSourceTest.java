@@ -10,8 +10,10 @@ class EventSourceTest {
     void testEnumValues() {
         assertNotNull(EventSource.USER);
         assertNotNull(EventSource.THREAD);
+        assertNotNull(EventSource.BOT);
 
         assertEquals("USER", EventSource.USER.name());
         assertEquals("THREAD", EventSource.THREAD.name());
+        assertEquals("BOT", EventSource.BOT.name());
     }
 }
@@ -0,0 +1,166 @@
+package com.comp2042.logic.replay;
+
+import com.comp2042.ai.BeamSearchPlayer;
+import com.comp2042.ai.WeightedHeuristic;
+import com.comp2042.logic.board.BoardType;
+import com.comp2042.logic.engine.GameEngine;
+import com.comp2042.logic.movement.EventSource;
+import com.comp2042.logic.movement.EventType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReplayTest {
+
+    private static final long SEED = 20_250_101L;
+
+    private int recordedEvents;
+    private int recordedTicks;
+
+    private byte[] recordGame(BoardType boardType, boolean finish) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReplayRecorder recorder = new ReplayRecorder(Channels.newChannel(out), boardType, SEED);
+        GameEngine engine = new GameEngine(boardType.create(SEED));
+        Random random = new Random(7);
+        EventType[] types = EventType.values();
+
+        for (int i = 0; i < 5000; i++) {
+            if (engine.isGameOver()) {
+                recorder.recordNewGame();
+                recordedEvents++;
+                engine.newGame();
+                continue;
+            }
+            EventType type = types[random.nextInt(types.length)];
+            EventSource source = random.nextInt(3) == 0 ? EventSource.THREAD : EventSource.USER;
+            recorder.record(type, source);
+            recordedEvents++;
+            if (source == EventSource.THREAD) recordedTicks++;
+            switch (type) {
+                case DOWN -> engine.tick();
+                case HARD_DROP -> engine.hardDrop();
+                default -> engine.step(type);
+            }
+        }
+        if (finish) {
+            recorder.finish(engine);
+        } else {
+            recorder.close();
+        }
+        return out.toByteArray();
+    }
+
+    private static ReplayResult replay(byte[] log) throws IOException {
+        return ReplayPlayer.play(Channels.newChannel(new ByteArrayInputStream(log)));
+    }
+
+    @Test
+    void testReplayReproducesSimpleBoardGame() throws IOException {
+        ReplayResult result = replay(recordGame(BoardType.SIMPLE, true));
+
+        assertTrue(result.isFinished());
+        assertTrue(result.isVerified());
+        assertEquals(result.getExpectedChecksum(), result.getActualChecksum());
+        assertEquals(recordedEvents, result.getEvents());
+        assertEquals(recordedTicks, result.getTicks());
+    }
+
+    @Test
+    void testReplayReproducesBitboardGame() throws IOException {
+        ReplayResult result = replay(recordGame(BoardType.BITBOARD, true));
+
+        assertTrue(result.isVerified());
+        assertEquals(recordedEvents, result.getEvents());
+    }
+
+    @Test
+    void testLogIsCompact() {
+        byte[] log = recordGame(BoardType.SIMPLE, true);
+        // One code byte and a one-byte tick delta per input, plus header and trailer
+        assertTrue(log.length <= 2 * recordedEvents + 32, "log is " + log.length + " bytes");
+    }
+
+    @Test
+    void testLogWithoutTrailerIsNotVerified() throws IOException {
+        ReplayResult result = replay(recordGame(BoardType.SIMPLE, false));
+
+        assertFalse(result.isFinished());
+        assertFalse(result.isVerified());
+        assertEquals(recordedEvents, result.getEvents());
+    }
+
+    @Test
+    void testFlushWritesEntriesAndKeepsTheLogOpen() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReplayRecorder recorder = new ReplayRecorder(Channels.newChannel(out), BoardType.SIMPLE, SEED);
+        GameEngine engine = new GameEngine(BoardType.SIMPLE.create(SEED));
+
+        recorder.record(EventType.LEFT, EventSource.USER);
+        engine.step(EventType.LEFT);
+        recorder.flush();
+        int flushed = out.size();
+        recorder.record(EventType.HARD_DROP, EventSource.USER);
+        engine.hardDrop();
+        recorder.finish(engine);
+
+        assertTrue(flushed > 0, "flush should write the buffered entries");
+        ReplayResult result = replay(out.toByteArray());
+        assertTrue(result.isVerified());
+        assertEquals(2, result.getEvents());
+    }
+
+    @Test
+    void testGameWithDeepPreviewReplaysWithTheDefault() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReplayRecorder recorder = new ReplayRecorder(Channels.newChannel(out), BoardType.BITBOARD, SEED);
+        GameEngine engine = new GameEngine(BoardType.BITBOARD.create(SEED));
+        engine.getBoard().setPreviewCount(7);
+        BeamSearchPlayer bot = new BeamSearchPlayer(WeightedHeuristic.DEFAULT, 4, 1, BeamSearchPlayer.NO_BUDGET, null);
+
+        // The bot clears enough lines to reach the slow brick levels, where the preview depth used to matter
+        for (int piece = 0; piece < 400 && !engine.isGameOver(); piece++) {
+            engine.getBoard().getViewData(); // Draws the deep preview, as the view does
+            for (EventType move : bot.plan(engine.getBoard()).toMoves()) {
+                recorder.record(move, EventSource.BOT);
+                if (move == EventType.HARD_DROP) engine.hardDrop(); else engine.step(move);
+            }
+        }
+        recorder.finish(engine);
+
+        assertTrue(engine.getBoard().getScore().getLevel() >= 3, "the game should reach the slow brick levels");
+        assertTrue(replay(out.toByteArray()).isVerified());
+    }
+
+    @Test
+    void testTamperedLogFailsVerification() throws IOException {
+        byte[] log = recordGame(BoardType.SIMPLE, true);
+        log[log.length - 1] ^= 1;
+
+        ReplayResult result = replay(log);
+
+        assertTrue(result.isFinished());
+        assertFalse(result.isVerified());
+    }
+
+    @Test
+    void testBadMagicIsRejected() {
+        byte[] log = recordGame(BoardType.SIMPLE, true);
+        log[0] = 'X';
+
+        assertThrows(IOException.class, () -> replay(log));
+    }
+
+    @Test
+    void testTruncatedHeaderIsRejected() {
+        byte[] log = Arrays.copyOf(recordGame(BoardType.SIMPLE, true), 6);
+
+        assertThrows(IOException.class, () -> replay(log));
+    }
+}
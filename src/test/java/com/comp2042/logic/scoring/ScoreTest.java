@@ -15,7 +15,7 @@ public class ScoreTest {
 
     @Test
     void testInitialState() {
-        assertEquals(0, scoreManager.scoreProperty().get(), "Initial score should be 0");
+        assertEquals(0, scoreManager.getScore(), "Initial score should be 0");
         assertEquals(1, scoreManager.getLevel(), "Initial level should be 1");
         assertEquals(0, scoreManager.getRowsCleared(), "Initial rows cleared should be 0");
     }
@@ -23,9 +23,9 @@ public class ScoreTest {
     @Test
     void testAddScore() {
         scoreManager.add(100);
-        assertEquals(100, scoreManager.scoreProperty().get(), "Score should increase by 100");
+        assertEquals(100, scoreManager.getScore(), "Score should increase by 100");
         scoreManager.add(50);
-        assertEquals(150, scoreManager.scoreProperty().get(), "Score should increase by 50 more");
+        assertEquals(150, scoreManager.getScore(), "Score should increase by 50 more");
     }
 
     @Test
@@ -57,7 +57,7 @@ public class ScoreTest {
 
         scoreManager.reset();
 
-        assertEquals(0, scoreManager.scoreProperty().get(), "Score should reset to 0");
+        assertEquals(0, scoreManager.getScore(), "Score should reset to 0");
         assertEquals(1, scoreManager.getLevel(), "Level should reset to 1");
         assertEquals(0, scoreManager.getRowsCleared(), "Rows cleared should reset to 0");
     }
@@ -73,4 +73,23 @@ public class ScoreTest {
         scoreManager.addClearedRows(4);
         assertEquals(4, scoreManager.getRowsCleared(), "getRowsCleared() should reflect current rows cleared");
     }
+
+    @Test
+    void testListenersAreNotifiedOfChanges() {
+        int[] calls = new int[1];
+        ScoreListener listener = score -> {
+            assertSame(scoreManager, score);
+            calls[0]++;
+        };
+        scoreManager.addListener(listener);
+
+        scoreManager.add(10);
+        scoreManager.addClearedRows(1);
+        scoreManager.reset();
+        assertEquals(3, calls[0]);
+
+        scoreManager.removeListener(listener);
+        scoreManager.add(10);
+        assertEquals(3, calls[0], "Removed listeners should not be notified");
+    }
 }
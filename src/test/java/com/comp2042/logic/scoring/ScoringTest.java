@@ -16,18 +16,18 @@ public class ScoringTest {
     @Test
     void testInitialScoreIsZero() {
         // Verify the score property starts at 0
-        assertEquals(0, scoring.scoreProperty().get(),
+        assertEquals(0, scoring.getScore(),
                 "Initial score should be 0.");
     }
 
     @Test
     void testAddSingleScoreValue() {
-        final int initialScore = scoring.scoreProperty().get();
+        final int initialScore = scoring.getScore();
         final int points = 500;
 
         scoring.add(points);
 
-        assertEquals(initialScore + points, scoring.scoreProperty().get(),
+        assertEquals(initialScore + points, scoring.getScore(),
                 "Score should increase by the added amount.");
     }
 
@@ -39,18 +39,18 @@ public class ScoringTest {
         scoring.add(points1);
         scoring.add(points2);
 
-        assertEquals(400, scoring.scoreProperty().get(),
+        assertEquals(400, scoring.getScore(),
                 "Score should correctly accumulate multiple additions.");
     }
 
     @Test
     void testAddZeroScoreDoesNotChangeTotal() {
         scoring.add(100);
-        final int scoreBefore = scoring.scoreProperty().get();
+        final int scoreBefore = scoring.getScore();
 
         scoring.add(0);
 
-        assertEquals(scoreBefore, scoring.scoreProperty().get(),
+        assertEquals(scoreBefore, scoring.getScore(),
                 "Adding zero points should not change the score.");
     }
 
@@ -61,7 +61,7 @@ public class ScoringTest {
         // FIX 3: Call the correct reset() method
         scoring.reset();
 
-        assertEquals(0, scoring.scoreProperty().get(),
+        assertEquals(0, scoring.getScore(),
                 "Score should reset to 0 after calling reset().");
     }
 }
\ No newline at end of file
@@ -94,4 +94,31 @@ class ViewDataTest {
     void testGetHeldBrickData() {
         assertArrayEquals(sampleHeldBrickData, viewData.getHeldBrickData());
     }
+
+    @Test
+    void testAccessorsShareArrays() {
+        assertSame(sampleBrickData, viewData.getBrickData());
+        assertSame(sampleNextBricksData, viewData.getNextBricksData());
+        assertSame(sampleNextBricksData[0], viewData.getNextBrickData());
+        assertSame(sampleHeldBrickData, viewData.getHeldBrickData());
+    }
+
+    @Test
+    void testWithStateReusesUnchangedSnapshot() {
+        ViewData same = viewData.withState(sampleBrickData, sampleXPosition, sampleYPosition,
+                sampleNextBricksData.clone(), sampleGhostXPosition, sampleGhostYPosition, sampleHeldBrickData);
+        assertSame(viewData, same);
+
+        ViewData moved = viewData.withState(sampleBrickData, sampleXPosition + 1, sampleYPosition,
+                sampleNextBricksData, sampleGhostXPosition + 1, sampleGhostYPosition, sampleHeldBrickData);
+        assertNotSame(viewData, moved);
+        assertNotEquals(viewData.getVersion(), moved.getVersion());
+        assertNotEquals(ViewData.NO_VERSION, moved.getVersion());
+
+        ViewData unheld = viewData.withState(sampleBrickData, sampleXPosition, sampleYPosition,
+                sampleNextBricksData, sampleGhostXPosition, sampleGhostYPosition, null);
+        assertEquals(0, unheld.getHeldBrickData().length);
+        assertSame(unheld, unheld.withState(sampleBrickData, sampleXPosition, sampleYPosition,
+                sampleNextBricksData, sampleGhostXPosition, sampleGhostYPosition, null));
+    }
 }
@@ -0,0 +1,69 @@
+package com.comp2042.simulation;
+
+import com.comp2042.logic.board.BoardType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchSimulatorTest {
+
+    @Test
+    void testRunsEveryGameToTheEnd() {
+        BatchSimulator simulator = new BatchSimulator(BoardType.BITBOARD, RandomPolicy::new, 500);
+        SimulationReport report = simulator.run(24, 4, 1234L);
+
+        assertEquals(24, report.getResults().size());
+        long pieces = 0;
+        for (GameResult result : report.getResults()) {
+            assertNotNull(result);
+            assertTrue(result.isToppedOut() || result.getPieces() == 500);
+            pieces += result.getPieces();
+        }
+        assertEquals(pieces, report.getTotalPieces());
+        assertTrue(report.getPiecesPerSecond() > 0);
+    }
+
+    @Test
+    void testSameBatchSeedReplaysTheSameGames() {
+        BatchSimulator simulator = new BatchSimulator(BoardType.SIMPLE, RandomPolicy::new, 300);
+        SimulationReport first = simulator.run(10, 3, 99L);
+        SimulationReport second = simulator.run(10, 1, 99L);
+
+        for (int i = 0; i < 10; i++) {
+            GameResult a = first.getResults().get(i);
+            GameResult b = second.getResults().get(i);
+            assertEquals(a.getSeed(), b.getSeed());
+            assertEquals(a.getPieces(), b.getPieces());
+            assertEquals(a.getLines(), b.getLines());
+            assertEquals(a.getScore(), b.getScore());
+        }
+    }
+
+    @Test
+    void testScriptedPolicyRejectsMalformedScripts() {
+        assertThrows(IllegalArgumentException.class, () -> new ScriptedPolicy("1-2"));
+        assertThrows(IllegalArgumentException.class, () -> new ScriptedPolicy("a:b"));
+        assertDoesNotThrow(() -> PolicyType.SCRIPTED.create(ScriptedPolicy.DEFAULT_SCRIPT));
+    }
+
+    @Test
+    void testReportFormatsThroughputAndDistributions() {
+        BatchSimulator simulator = new BatchSimulator(BoardType.BITBOARD,
+                () -> PolicyType.SCRIPTED.create(ScriptedPolicy.DEFAULT_SCRIPT), 200);
+        String text = simulator.run(8, 2, 5L).format();
+
+        assertTrue(text.contains("games/sec"));
+        assertTrue(text.contains("pieces/sec"));
+        assertTrue(text.contains("lines"));
+        assertTrue(text.contains("score"));
+    }
+
+    @Test
+    void testPercentileUsesNearestRank() {
+        long[] sorted = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        assertEquals(5, SimulationReport.percentile(sorted, 50));
+        assertEquals(9, SimulationReport.percentile(sorted, 90));
+        assertEquals(10, SimulationReport.percentile(sorted, 99));
+        assertEquals(1, SimulationReport.percentile(sorted, 0));
+    }
+}
@@ -0,0 +1,122 @@
+package com.comp2042.tuning;
+
+import com.comp2042.logic.board.BoardType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeneticTunerTest {
+
+    @TempDir
+    Path dir;
+
+    private static GeneticTuner tuner(int threads) {
+        return new GeneticTuner(BoardType.BITBOARD, 6, 2, 120, threads, 11L);
+    }
+
+    @Test
+    void testResultDoesNotDependOnThreadCount() throws IOException {
+        GenerationReport one = tuner(1).run(null, 3, 0, null, report -> { });
+        GenerationReport three = tuner(3).run(null, 3, 0, null, report -> { });
+
+        assertEquals(2, one.getGeneration());
+        assertEquals(one.getRanked(), three.getRanked());
+    }
+
+    @Test
+    void testResumedRunMatchesTheUninterruptedOne() throws IOException {
+        List<GenerationReport> reports = new ArrayList<>();
+        GenerationReport uninterrupted = tuner(2).run(null, 4, 0, dir, reports::add);
+        assertEquals(4, reports.size());
+        for (int g = 0; g < 4; g++) {
+            assertTrue(Files.exists(dir.resolve(TunerCheckpoint.fileName(g))));
+        }
+
+        TunerCheckpoint saved = TunerCheckpoint.load(dir.resolve(TunerCheckpoint.fileName(1)));
+        assertEquals(11L, saved.getSeed());
+        assertEquals(1, saved.getGeneration());
+        assertEquals(6, saved.getPopulation());
+        assertEquals(reports.get(1).getRanked(), saved.getRanked());
+        assertEquals(Math.max(reports.get(0).getBest().getFitness(), reports.get(1).getBest().getFitness()),
+                saved.getBestFitness());
+
+        GenerationReport resumed = tuner(2).run(saved, 4, 0, null, report -> { });
+        assertEquals(uninterrupted.getRanked(), resumed.getRanked());
+    }
+
+    @Test
+    void testBredGenerationKeepsTheEliteAndUnitWeights() {
+        GeneticTuner tuner = new GeneticTuner(BoardType.BITBOARD, 20, 1, 10, 1, 5L);
+        List<Candidate> ranked = new ArrayList<>();
+        List<double[]> population = tuner.initialPopulation();
+        for (int i = 0; i < population.size(); i++) {
+            ranked.add(new Candidate(population.get(i), population.size() - i));
+        }
+
+        List<double[]> next = tuner.breed(1, ranked);
+        assertEquals(20, next.size());
+        for (int i = 0; i < tuner.eliteCount(); i++) {
+            assertArrayEquals(ranked.get(i).getWeights(), next.get(i));
+        }
+        for (double[] weights : next) {
+            double length = 0;
+            for (double w : weights) length += w * w;
+            assertEquals(1.0, length, 1e-9);
+        }
+    }
+
+    @Test
+    void testPatienceStopsAStalledRun() throws IOException {
+        List<GenerationReport> reports = new ArrayList<>();
+        // A single-game limit makes every candidate clear nothing, so the best never improves
+        new GeneticTuner(BoardType.BITBOARD, 4, 1, 1, 1, 3L).run(null, 20, 2, null, reports::add);
+        assertEquals(3, reports.size());
+    }
+
+    @Test
+    void testResumedRunStopsWhereTheUninterruptedOneDoes() throws IOException {
+        // As above, nothing is ever cleared: generation 0 sets the best, then two stall and stop the run
+        List<GenerationReport> reports = new ArrayList<>();
+        new GeneticTuner(BoardType.BITBOARD, 4, 1, 1, 1, 3L).run(null, 20, 2, dir, reports::add);
+        assertEquals(3, reports.size());
+
+        TunerCheckpoint first = TunerCheckpoint.load(dir.resolve(TunerCheckpoint.fileName(0)));
+        assertEquals(0, first.getStalled());
+        List<GenerationReport> resumed = new ArrayList<>();
+        new GeneticTuner(BoardType.BITBOARD, 4, 1, 1, 1, 3L).run(first, 20, 2, null, resumed::add);
+        assertEquals(2, resumed.size(), "the resumed run should stop after the same generation");
+        assertEquals(2, resumed.get(1).getGeneration());
+
+        TunerCheckpoint stopped = TunerCheckpoint.load(dir.resolve(TunerCheckpoint.fileName(2)));
+        assertEquals(2, stopped.getStalled());
+        assertNull(new GeneticTuner(BoardType.BITBOARD, 4, 1, 1, 1, 3L).run(stopped, 20, 2, null, report -> fail()));
+    }
+
+    @Test
+    void testResumeWithAnotherPopulationIsRejected() throws IOException {
+        tuner(1).run(null, 1, 0, dir, report -> { });
+        TunerCheckpoint saved = TunerCheckpoint.load(dir.resolve(TunerCheckpoint.fileName(0)));
+
+        GeneticTuner larger = new GeneticTuner(BoardType.BITBOARD, 8, 2, 120, 1, 11L);
+        assertThrows(IllegalArgumentException.class, () -> larger.run(saved, 2, 0, null, report -> { }));
+    }
+
+    @Test
+    void testMalformedCheckpointIsRejected() throws IOException {
+        Path file = dir.resolve("bad.txt");
+        Files.writeString(file, "tetris-tuner 2\nseed 1\ngeneration x\npopulation 1\nbest 0\nstalled 0\n");
+        assertThrows(IOException.class, () -> TunerCheckpoint.load(file));
+        Files.writeString(file, "tetris-tuner 2\nseed 1\ngeneration 0\npopulation 2\nbest 0\nstalled 0\n"
+                + "candidate 0 1 0 0 0\n");
+        assertThrows(IOException.class, () -> TunerCheckpoint.load(file));
+        Files.writeString(file, "something else\n");
+        assertThrows(IOException.class, () -> TunerCheckpoint.load(file));
+    }
+}
@@ -3,6 +3,7 @@ package com.comp2042.ui;
 import com.comp2042.JavaFxTestBase;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
+import javafx.util.Duration;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -58,7 +61,7 @@ public class AudioManagerTest extends JavaFxTestBase {
 
         verify(factory).getResource(eq("/audio/menu_music.mp3"));
         verify(factory, times(5)).createMedia(anyString()); // 4 from init + 1 from playBackgroundMusic
-        verify(factory, times(1)).createMediaPlayer(media); // 1 from playBackgroundMusic
+        verify(factory, times(4 * AudioManager.VOICES_PER_EFFECT + 1)).createMediaPlayer(media); // pools from init + 1 from playBackgroundMusic
         verify(mediaPlayer).setVolume(audioManager.getMusicVolume());
         verify(mediaPlayer).setCycleCount(MediaPlayer.INDEFINITE);
         verify(mediaPlayer).play();
@@ -79,11 +82,69 @@ public class AudioManagerTest extends JavaFxTestBase {
         audioManager.playSoundEffect("drop");
 
         verify(factory).getResource(eq("/audio/drop.wav"));
-        // createMedia is implicitly called 4 times during init, not directly by playSoundEffect
-        verify(factory, times(1)).createMediaPlayer(any(Media.class)); // playSoundEffect creates one new player
+        // Every player is created by the pools during init, none by playSoundEffect
+        verify(factory, times(4 * AudioManager.VOICES_PER_EFFECT)).createMediaPlayer(any(Media.class));
+        verify(mediaPlayer).setVolume(audioManager.getSfxVolume());
+        verify(mediaPlayer).play();
+    }
+
+    @Test
+    void testSoundEffectReusesOldestVoiceWhenPoolIsBusy() {
+        List<MediaPlayer> created = new ArrayList<>();
+        when(factory.createMediaPlayer(any(Media.class))).thenAnswer(invocation -> {
+            MediaPlayer player = mock(MediaPlayer.class);
+            created.add(player);
+            return player;
+        });
+        AudioManager.resetInstance();
+        audioManager = AudioManager.getInstance(factory);
+        int createdAtLoad = created.size();
+
+        for (int i = 0; i <= AudioManager.VOICES_PER_EFFECT; i++) {
+            audioManager.playRotate();
+        }
+
+        assertEquals(4 * AudioManager.VOICES_PER_EFFECT, createdAtLoad);
+        assertEquals(createdAtLoad, created.size(), "Playing must not create players");
+        int played = 0;
+        MediaPlayer stolen = null;
+        for (MediaPlayer player : created) {
+            int plays = mockingDetails(player).getInvocations().stream()
+                    .filter(invocation -> invocation.getMethod().getName().equals("play"))
+                    .mapToInt(invocation -> 1).sum();
+            played += plays;
+            if (plays == 2) {
+                stolen = player;
+            }
+        }
+        assertEquals(AudioManager.VOICES_PER_EFFECT + 1, played);
+        assertNotNull(stolen, "The oldest voice should be restarted once the pool is busy");
+        verify(stolen, times(2)).seek(Duration.ZERO);
+    }
 
-        // To verify play on the new player, we need to capture it.
-        // But since the class is not designed for this, we trust the factory is called.
+    @Test
+    void testStopAllSoundEffectsKeepsVoicesLoaded() {
+        when(mediaPlayer.getStatus()).thenReturn(MediaPlayer.Status.PLAYING);
+        audioManager.playDrop();
+
+        audioManager.stopAllSoundEffects();
+        audioManager.playDrop();
+
+        verify(mediaPlayer, atLeastOnce()).stop();
+        verify(mediaPlayer, never()).dispose();
+        verify(mediaPlayer, times(2)).play();
+    }
+
+    @Test
+    void testGetInstanceReturnsInjectedInstance() {
+        AudioManager injected = mock(AudioManager.class);
+        AudioManager.setInstanceForTest(injected);
+        try {
+            assertSame(injected, AudioManager.getInstance());
+            assertSame(injected, AudioManager.getInstance(factory));
+        } finally {
+            AudioManager.setInstanceForTest(audioManager);
+        }
     }
 
     @Test
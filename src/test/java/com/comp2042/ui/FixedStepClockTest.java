@@ -0,0 +1,95 @@
+package com.comp2042.ui;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedStepClockTest {
+
+    private static final long MS = 1_000_000L;
+
+    private static int steps(FixedStepClock clock, long now) {
+        clock.advance(now);
+        int steps = 0;
+        while (clock.takeStep()) {
+            steps++;
+        }
+        return steps;
+    }
+
+    @Test
+    void testFirstFrameOnlySetsStart() {
+        FixedStepClock clock = new FixedStepClock(100 * MS);
+        assertEquals(0, steps(clock, 5_000 * MS));
+        assertEquals(0.0, clock.getAlpha());
+    }
+
+    @Test
+    void testStepsStayOnCadenceWithUnevenFrames() {
+        FixedStepClock clock = new FixedStepClock(50 * MS);
+        long now = 0;
+        steps(clock, now);
+        int total = 0;
+        long[] frames = {16 * MS, 17 * MS, 7 * MS, 33 * MS, 16_666_667L};
+        for (int i = 0; i < 600; i++) {
+            now += frames[i % frames.length];
+            total += steps(clock, now);
+        }
+        // Exactly one step per 50 ms elapsed, with the remainder still pending
+        assertEquals(now / (50 * MS), total);
+        assertEquals((double) (now % (50 * MS)) / (50 * MS), clock.getAlpha(), 1e-9);
+    }
+
+    @Test
+    void testSpeedChangeKeepsGatheredTime() {
+        FixedStepClock clock = new FixedStepClock(400 * MS);
+        steps(clock, 0);
+        assertEquals(0, steps(clock, 300 * MS));
+        assertEquals(0.75, clock.getAlpha(), 1e-9);
+
+        clock.setStepNanos(200 * MS);
+        assertEquals(1, steps(clock, 300 * MS));
+        assertEquals(0.5, clock.getAlpha(), 1e-9);
+        assertEquals(1, steps(clock, 400 * MS));
+    }
+
+    @Test
+    void testSpeedChangeAppliesWithinFrame() {
+        FixedStepClock clock = new FixedStepClock(100 * MS);
+        steps(clock, 0);
+        clock.advance(300 * MS);
+        assertTrue(clock.takeStep());
+        clock.setStepNanos(50 * MS);
+        int more = 0;
+        while (clock.takeStep()) {
+            more++;
+        }
+        assertEquals(FixedStepClock.MAX_STEPS_PER_FRAME - 1, more);
+    }
+
+    @Test
+    void testLongStallIsCappedAndKeepsPhase() {
+        FixedStepClock clock = new FixedStepClock(100 * MS);
+        steps(clock, 0);
+        assertEquals(FixedStepClock.MAX_STEPS_PER_FRAME, steps(clock, 2_030 * MS));
+        assertEquals(0.3, clock.getAlpha(), 1e-9);
+        assertEquals(0, steps(clock, 2_090 * MS));
+        assertEquals(1, steps(clock, 2_100 * MS));
+    }
+
+    @Test
+    void testPauseSkipsPausedTimeAndResetForgetsProgress() {
+        FixedStepClock clock = new FixedStepClock(100 * MS);
+        steps(clock, 0);
+        steps(clock, 60 * MS);
+        clock.pause();
+        assertEquals(0, steps(clock, 10_000 * MS));
+        assertEquals(0.6, clock.getAlpha(), 1e-9);
+        assertEquals(1, steps(clock, 10_040 * MS));
+
+        clock.reset();
+        assertEquals(0, steps(clock, 20_000 * MS));
+        assertEquals(0.0, clock.getAlpha());
+        assertThrows(IllegalArgumentException.class, () -> clock.setStepNanos(0));
+    }
+}
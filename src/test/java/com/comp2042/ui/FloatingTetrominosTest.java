@@ -0,0 +1,74 @@
+package com.comp2042.ui;
+
+import javafx.scene.Group;
+import javafx.scene.layout.Pane;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FloatingTetrominosTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void testNodesAreBuiltOnceAndCached() {
+        Pane container = new Pane();
+        container.resize(600, 400);
+        FloatingTetrominos tetrominos = new FloatingTetrominos(container, new Random(1));
+
+        List<Group> nodes = tetrominos.getTetrominoNodes();
+        assertEquals(FloatingTetrominos.TETROMINO_COUNT, nodes.size());
+        assertEquals(nodes, container.getChildren());
+        for (Group node : nodes) {
+            assertTrue(node.isCache());
+            assertFalse(node.isManaged());
+            assertEquals(FloatingTetrominos.BASE_OPACITY, node.getOpacity(), 1e-9);
+        }
+
+        tetrominos.onFrame(0);
+        tetrominos.onFrame(16 * MS);
+        tetrominos.onFrame(2_000 * MS); // A stall advances the animation by at most one capped step
+        assertEquals(nodes, container.getChildren());
+        assertTrue(nodes.get(0).getOpacity() < FloatingTetrominos.BASE_OPACITY);
+    }
+
+    @Test
+    void testResizeIsAppliedOnceTheSizeSettles() {
+        Pane container = new Pane();
+        container.resize(600, 400);
+        FloatingTetrominos tetrominos = new FloatingTetrominos(container, new Random(2));
+        Group node = tetrominos.getTetrominoNodes().get(0);
+        tetrominos.onFrame(0);
+        double x = node.getTranslateX();
+
+        container.resize(1200, 400);
+        tetrominos.onFrame(0);
+        assertEquals(x, node.getTranslateX(), 1e-9);
+
+        container.resize(1200, 800);
+        tetrominos.onFrame(100 * MS); // Still changing, so the wait starts again
+        assertEquals(x, node.getTranslateX(), 0.1);
+
+        tetrominos.onFrame(100 * MS + FloatingTetrominos.RESIZE_DEBOUNCE_NANOS);
+        assertEquals(2 * x, node.getTranslateX(), 1);
+        assertSame(node, tetrominos.getTetrominoNodes().get(0));
+    }
+
+    @Test
+    void testDisposeRemovesNodesAndListeners() {
+        Pane container = new Pane();
+        container.resize(600, 400);
+        FloatingTetrominos tetrominos = new FloatingTetrominos(container, new Random(3));
+
+        tetrominos.dispose();
+        assertTrue(container.getChildren().isEmpty());
+        assertTrue(tetrominos.getTetrominoNodes().isEmpty());
+
+        container.resize(800, 600);
+        tetrominos.onFrame(0);
+        tetrominos.onFrame(FloatingTetrominos.RESIZE_DEBOUNCE_NANOS);
+    }
+}
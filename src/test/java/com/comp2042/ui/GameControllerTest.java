@@ -1,12 +1,17 @@
 package com.comp2042.ui;
 
 import com.comp2042.JavaFxTestBase;
+import com.comp2042.logic.Constants;
 import com.comp2042.logic.board.Board;
+import com.comp2042.logic.board.BoardType;
 import com.comp2042.logic.movement.ClearRow;
 import com.comp2042.logic.movement.MoveEvent;
 import com.comp2042.logic.scoring.Score;
 import com.comp2042.logic.movement.EventSource;
 import com.comp2042.logic.movement.EventType;
+import com.comp2042.logic.replay.ReplayPlayer;
+import com.comp2042.logic.replay.ReplayRecorder;
+import com.comp2042.logic.replay.ReplayResult;
 import com.comp2042.model.ViewData;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +20,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -72,7 +84,7 @@ public class GameControllerTest extends JavaFxTestBase {
         verify(board).mergeBrickToBackground();
         verify(score, never()).add(anyInt());
         verify(board).createNewBrick();
-        verify(guiController).refreshGameBackground(any());
+        verify(guiController).refreshGameBackground(any(), any());
     }
 
     @Test
@@ -88,20 +100,21 @@ public class GameControllerTest extends JavaFxTestBase {
         verify(score).addClearedRows(1);
         verify(guiController).updateGameSpeed(anyInt());
         verify(board).createNewBrick();
-        verify(guiController).refreshGameBackground(any());
+        verify(guiController).refreshGameBackground(any(), any());
     }
 
     @Test
     public void onHardDropEvent() {
-        when(board.moveBrickDown()).thenReturn(true, true, false); // Moves down twice, then stops
+        when(board.hardDropBrick()).thenReturn(2);
         when(board.clearRows()).thenReturn(new ClearRow(0, new int[0][0], 0, new int[0]));
 
         gameController.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
 
-        verify(board, times(3)).moveBrickDown();
+        verify(board).hardDropBrick();
+        verify(board, never()).moveBrickDown();
         verify(board).mergeBrickToBackground();
         verify(board).createNewBrick();
-        verify(guiController).refreshGameBackground(any());
+        verify(guiController).refreshGameBackground(any(), any());
     }
 
     @Test
@@ -116,6 +129,16 @@ public class GameControllerTest extends JavaFxTestBase {
         verify(board).moveBrickRight();
     }
 
+    @Test
+    public void onShiftEvent_stopsAtWall() {
+        when(board.moveBrickLeft()).thenReturn(true, true, false);
+
+        gameController.onShiftEvent(new MoveEvent(EventType.LEFT, EventSource.USER), KeyRepeat.UNLIMITED);
+
+        verify(board, times(3)).moveBrickLeft();
+        verify(board, never()).moveBrickRight();
+    }
+
     @Test
     public void onRotateEvent() {
         gameController.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
@@ -133,7 +156,64 @@ public class GameControllerTest extends JavaFxTestBase {
     public void createNewGame() {
         gameController.createNewGame();
         verify(board).newGame();
-        verify(guiController).refreshGameBackground(any());
+        verify(guiController).refreshGameBackground(any(), any());
         verify(guiController).updateGameSpeed(1);
     }
+
+    @Test
+    public void recordingContinuesAfterGameOverAndIsFinishedOnDispose() throws IOException {
+        long seed = 42L;
+        when(guiController.getPreviewCount()).thenReturn(Constants.PREVIEW_COUNT);
+        GameController controller = new GameController(guiController, BoardType.SIMPLE.create(seed));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        controller.setRecorder(new ReplayRecorder(Channels.newChannel(out), BoardType.SIMPLE, seed));
+
+        AtomicBoolean over = new AtomicBoolean();
+        doAnswer(invocation -> {
+            over.set(true);
+            return null;
+        }).when(guiController).gameOver();
+
+        int events = 0;
+        while (!over.get() && events < 1000) {
+            controller.hardDrop();
+            events++;
+        }
+        assertTrue(over.get(), "hard dropping in place should top out");
+        int flushedAtGameOver = out.size();
+        controller.createNewGame();
+        controller.moveLeft();
+        controller.hardDrop();
+        events += 3;
+        controller.dispose();
+        controller.dispose(); // Disposing twice is harmless
+
+        assertTrue(flushedAtGameOver > 0, "the recording should be flushed at game over");
+        ReplayResult result = ReplayPlayer.play(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+        assertTrue(result.isVerified());
+        assertEquals(events, result.getEvents());
+    }
+
+    @Test
+    public void shiftHeldAgainstTheWallIsNotRecordedAgain() throws IOException {
+        long seed = 7L;
+        when(guiController.getPreviewCount()).thenReturn(Constants.PREVIEW_COUNT);
+        Board realBoard = BoardType.SIMPLE.create(seed);
+        GameController controller = new GameController(guiController, realBoard);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        controller.setRecorder(new ReplayRecorder(Channels.newChannel(out), BoardType.SIMPLE, seed));
+        int startX = realBoard.getViewData().getxPosition();
+
+        MoveEvent held = new MoveEvent(EventType.LEFT, EventSource.USER);
+        for (int frame = 0; frame < 60; frame++) {
+            controller.onShiftEvent(held, KeyRepeat.UNLIMITED); // ARR 0: shift as far as possible every frame
+        }
+        int moved = startX - realBoard.getViewData().getxPosition();
+        controller.dispose();
+
+        assertTrue(moved > 0);
+        ReplayResult result = ReplayPlayer.play(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+        assertTrue(result.isVerified());
+        assertEquals(moved, result.getEvents(), "only the shifts that moved the brick should be recorded");
+    }
 }
@@ -10,7 +10,6 @@ import com.comp2042.model.ViewData;
 import javafx.animation.*;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.collections.ObservableList;
@@ -80,8 +79,6 @@ class GuiControllerTest extends JavaFxTestBase {
     @Mock private BrickViewManager mockBrickViewManager;
     @Mock private PreviewPanelManager mockPreviewPanelManager;
     @Mock private Score mockScore;
-    @Mock private ReadOnlyIntegerProperty mockScoreProperty;
-    @Mock private ReadOnlyIntegerProperty mockLevelProperty;
     @Mock private KeyEvent mockKeyEvent;
     @Mock private ViewData mockViewData;
 
@@ -120,10 +117,10 @@ class GuiControllerTest extends JavaFxTestBase {
         injectMocksIntoGuiController(guiController); // Helper to set @FXML fields
 
         // General mock setup for things called in initialize
-        when(mockScore.scoreProperty()).thenReturn(mockScoreProperty);
-        when(mockScore.levelProperty()).thenReturn(mockLevelProperty);
         // Mock getParent for brickPanel
         when(mockBrickPanel.getParent()).thenReturn(mock(Pane.class));
+        // The score popups are added to the notification group when the view is initialized
+        when(mockGroupNotification.getChildren()).thenReturn(javafx.collections.FXCollections.observableArrayList());
     }
 
     // Helper method to inject @Mock fields into the GuiController, simulating FXML loader behavior
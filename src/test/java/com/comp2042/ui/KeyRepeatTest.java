@@ -0,0 +1,67 @@
+package com.comp2042.ui;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyRepeatTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void testPressMovesOnceThenWaitsForDas() {
+        KeyRepeat key = new KeyRepeat(150 * MS, 50 * MS);
+        assertTrue(key.press());
+        assertEquals(1, key.poll(0));
+        assertEquals(0, key.poll(16 * MS));
+        assertEquals(0, key.poll(149 * MS));
+        assertEquals(1, key.poll(150 * MS));
+        assertEquals(0, key.poll(166 * MS));
+        assertEquals(1, key.poll(200 * MS));
+    }
+
+    @Test
+    void testRepeatsOwedOverLongFrameAreMergedIntoOnePoll() {
+        KeyRepeat key = new KeyRepeat(100 * MS, 10 * MS);
+        key.press();
+        key.poll(0);
+        // Repeats at 100, 110, ..., 150 ms are owed in one late frame
+        assertEquals(6, key.poll(155 * MS));
+        assertEquals(1, key.poll(160 * MS));
+    }
+
+    @Test
+    void testOsRepeatPressesAreIgnored() {
+        KeyRepeat key = new KeyRepeat(150 * MS, 50 * MS);
+        assertTrue(key.press());
+        assertEquals(1, key.poll(0));
+        for (int i = 0; i < 10; i++) {
+            assertFalse(key.press());
+        }
+        assertEquals(0, key.poll(33 * MS));
+    }
+
+    @Test
+    void testTapReleasedBeforeFrameStillMoves() {
+        KeyRepeat key = new KeyRepeat(150 * MS, 50 * MS);
+        key.press();
+        key.release();
+        assertFalse(key.isHeld());
+        assertEquals(1, key.poll(0));
+        assertEquals(0, key.poll(500 * MS));
+
+        key.press();
+        key.clear();
+        assertEquals(0, key.poll(600 * MS));
+    }
+
+    @Test
+    void testZeroArrSlidesWithoutLimit() {
+        KeyRepeat key = new KeyRepeat(100 * MS, 0);
+        key.press();
+        assertEquals(1, key.poll(0));
+        assertEquals(0, key.poll(50 * MS));
+        assertEquals(KeyRepeat.UNLIMITED, key.poll(100 * MS));
+        assertThrows(IllegalArgumentException.class, () -> key.setTiming(-1, 0));
+    }
+}
@@ -0,0 +1,85 @@
+package com.comp2042.ui;
+
+import com.comp2042.logic.Constants;
+import javafx.scene.Node;
+import javafx.scene.layout.GridPane;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LineClearOverlayTest {
+
+    private static final long MS = 1_000_000L;
+
+    private static LineClearOverlay overlay() {
+        return new LineClearOverlay() {
+            @Override
+            void startTimer() {
+                // Frames are driven by the test
+            }
+        };
+    }
+
+    private static long visibleBars(LineClearOverlay overlay) {
+        return overlay.getLayer().getChildren().stream().filter(Node::isVisible).count();
+    }
+
+    @Test
+    void testFlashFadesOutAndHides() {
+        LineClearOverlay overlay = overlay();
+        int bottom = Constants.BOARD_HEIGHT - 1;
+        overlay.flash(new int[]{bottom - 1, bottom});
+        assertEquals(2, overlay.getActiveCount());
+        assertEquals(2, visibleBars(overlay));
+
+        overlay.onFrame(0);
+        overlay.onFrame(LineClearOverlay.FLASH_NANOS / 2);
+        Rectangle bar = (Rectangle) overlay.getLayer().getChildren().get(0);
+        assertEquals(0.5, bar.getOpacity(), 1e-9);
+
+        overlay.onFrame(LineClearOverlay.FLASH_NANOS);
+        assertEquals(0, overlay.getActiveCount());
+        assertEquals(0, visibleBars(overlay));
+    }
+
+    @Test
+    void testBarsAreReusedAcrossClears() {
+        LineClearOverlay overlay = overlay();
+        for (int clear = 0; clear < 5; clear++) {
+            overlay.flash(new int[]{20, 21, 22, 23});
+            overlay.onFrame(clear * 200 * MS);
+            overlay.onFrame(clear * 200 * MS + LineClearOverlay.FLASH_NANOS);
+        }
+        assertEquals(4, overlay.getPoolSize());
+        assertEquals(4, overlay.getLayer().getChildren().size());
+    }
+
+    @Test
+    void testOverlappingFlashesFadeIndependently() {
+        LineClearOverlay overlay = overlay();
+        overlay.flash(new int[]{24});
+        overlay.onFrame(0);
+        overlay.flash(new int[]{23});
+        overlay.onFrame(60 * MS);
+        assertEquals(2, overlay.getActiveCount());
+
+        overlay.onFrame(LineClearOverlay.FLASH_NANOS);
+        assertEquals(1, overlay.getActiveCount());
+        overlay.clear();
+        assertEquals(0, visibleBars(overlay));
+    }
+
+    @Test
+    void testAttachPlacesLayerAboveGridContents() {
+        GridPane grid = new GridPane();
+        grid.add(new Rectangle(10, 10), 0, 0);
+        LineClearOverlay overlay = overlay();
+        overlay.attach(grid);
+        overlay.attach(grid);
+
+        assertEquals(2, grid.getChildren().size());
+        assertSame(overlay.getLayer(), grid.getChildren().get(1));
+        assertFalse(overlay.getLayer().isManaged());
+    }
+}
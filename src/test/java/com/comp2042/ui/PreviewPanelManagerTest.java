@@ -7,8 +7,8 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.shape.Rectangle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -132,8 +132,8 @@ public class PreviewPanelManagerTest extends JavaFxTestBase {
         PreviewPanelManager spyPreviewPanelManager = spy(previewPanelManager);
         spyPreviewPanelManager.renderHoldPreview(mockViewData);
 
-        verify(mockHoldPanelChildren, times(2)).clear(); // Corrected verification
         verify(spyPreviewPanelManager).renderPreview(eq(mockHoldPanel), eq(mockHeldBrickData));
+        verify(mockHoldPanelChildren, never()).clear();
     }
 
     @Test
@@ -143,38 +143,57 @@ public class PreviewPanelManagerTest extends JavaFxTestBase {
         PreviewPanelManager spyPreviewPanelManager = spy(previewPanelManager);
         spyPreviewPanelManager.renderHoldPreview(mockViewData);
 
-        verify(mockHoldPanelChildren).clear(); // Corrected verification
-        verify(spyPreviewPanelManager, never()).renderPreview(any(GridPane.class), any());
+        verify(spyPreviewPanelManager).renderPreview(eq(mockHoldPanel), eq(null));
+        verifyNoInteractions(mockHoldPanel);
     }
 
     @Test
-    void renderPreviewClearsPanelAndAddsRectanglesForShape() {
+    void renderPreviewAddsPooledTilesOnceAndShowsOnlyFilledCells() {
         int[][] testShape = {{1, 2}, {0, 3}}; // Sample 2x2 shape
-        try (MockedConstruction<Rectangle> mockedConstructionRectangle = mockConstruction(Rectangle.class);
-             MockedStatic<TileStyleUtility> mockedStaticTileStyleUtility = mockStatic(TileStyleUtility.class)) {
+        ArgumentCaptor<Rectangle> tiles = ArgumentCaptor.forClass(Rectangle.class);
 
-            previewPanelManager.renderPreview(mockNextPanel1, testShape);
+        assertTrue(previewPanelManager.renderPreview(mockNextPanel1, testShape));
+        assertTrue(previewPanelManager.renderPreview(mockNextPanel1, new int[][]{{0, 4}, {4, 4}, {0, 4}}));
+
+        int pooled = PreviewPanelManager.POOL_SIDE * PreviewPanelManager.POOL_SIDE;
+        verify(mockNextPanel1, times(pooled)).add(tiles.capture(), anyInt(), anyInt());
+        verify(mockNextPanel1Children, never()).clear();
+        assertEquals(4, tiles.getAllValues().stream().filter(Node::isVisible).count());
+        assertEquals(4, tiles.getAllValues().stream().filter(Node::isManaged).count());
+    }
+
+    @Test
+    void renderPreviewSkipsUnchangedShape() {
+        try (MockedStatic<TileStyleUtility> mockedStaticTileStyleUtility = mockStatic(TileStyleUtility.class)) {
+            assertTrue(previewPanelManager.renderPreview(mockNextPanel1, new int[][]{{1, 2}, {0, 3}}));
+            assertFalse(previewPanelManager.renderPreview(mockNextPanel1, new int[][]{{1, 2}, {0, 3}}));
 
-            verify(mockNextPanel1, times(1)).getChildren(); // Verify getChildren is called on the panel
-            verify(mockNextPanel1Children).clear(); // Corrected verification
-            // Verify Rectangle construction and TileStyleUtility calls
-            assertEquals(3, mockedConstructionRectangle.constructed().size()); // 3 non-zero tiles in testShape
             mockedStaticTileStyleUtility.verify(() -> TileStyleUtility.applyTileStyle(any(Rectangle.class), eq(1)), times(1));
             mockedStaticTileStyleUtility.verify(() -> TileStyleUtility.applyTileStyle(any(Rectangle.class), eq(2)), times(1));
             mockedStaticTileStyleUtility.verify(() -> TileStyleUtility.applyTileStyle(any(Rectangle.class), eq(3)), times(1));
-
-            // Verify add is called for each non-zero tile
-            verify(mockNextPanel1, times(1)).add(any(Rectangle.class), eq(0), eq(0)); // Tile 1
-            verify(mockNextPanel1, times(1)).add(any(Rectangle.class), eq(1), eq(0)); // Tile 2
-            verify(mockNextPanel1, times(1)).add(any(Rectangle.class), eq(1), eq(1)); // Tile 3
         }
     }
 
     @Test
     void renderPreviewHandlesNullShape() {
-        previewPanelManager.renderPreview(mockNextPanel1, null);
-        verify(mockNextPanel1, times(1)).getChildren(); // Explicitly verify getChildren() call
-        verify(mockNextPanel1Children, times(1)).clear(); // Explicitly verify clear() call
-        verifyNoMoreInteractions(mockNextPanel1, mockNextPanel1Children); // No other interactions with panel/children mock
+        assertFalse(previewPanelManager.renderPreview(mockNextPanel1, null));
+        verifyNoInteractions(mockNextPanel1, mockNextPanel1Children);
+    }
+
+    @Test
+    void setPreviewCountHidesExtraPanelsAndRejectsBadCounts() {
+        when(mockViewData.getNextBricksData()).thenReturn(new int[][][]{{{1}}, {{2}}, {{3}}});
+        previewPanelManager.setPreviewCount(1);
+        assertEquals(1, previewPanelManager.getPreviewCount());
+        verify(mockNextPanel2).setVisible(false);
+        verify(mockNextPanel3).setManaged(false);
+
+        PreviewPanelManager spyPreviewPanelManager = spy(previewPanelManager);
+        spyPreviewPanelManager.renderNextPreviews(mockViewData);
+        verify(spyPreviewPanelManager, times(1)).renderPreview(any(GridPane.class), any());
+
+        assertThrows(IllegalArgumentException.class, () -> previewPanelManager.setPreviewCount(-1));
+        // The mocked panels are not laid out in preview boxes, so no panel can be added after them
+        assertThrows(IllegalStateException.class, () -> previewPanelManager.setPreviewCount(4));
     }
 }
@@ -0,0 +1,67 @@
+package com.comp2042.ui;
+
+import com.comp2042.JavaFxTestBase;
+import com.comp2042.logic.movement.NotificationPanel;
+import javafx.scene.Group;
+import javafx.scene.control.Label;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScorePopupOverlayTest extends JavaFxTestBase {
+
+    private static ScorePopupOverlay overlay(Group group) {
+        return new ScorePopupOverlay(group) {
+            @Override
+            void startTimer() {
+                // Frames are driven by the test
+            }
+        };
+    }
+
+    @Test
+    void testPopupsAreBuiltOnceAndHidden() {
+        Group group = new Group();
+        ScorePopupOverlay overlay = overlay(group);
+        assertEquals(ScorePopupOverlay.POOL_SIZE, group.getChildren().size());
+        assertTrue(group.getChildren().stream().noneMatch(javafx.scene.Node::isVisible));
+
+        for (int i = 0; i < 20; i++) {
+            overlay.show("+" + i);
+            overlay.onFrame(i * 10_000_000L);
+        }
+        assertEquals(ScorePopupOverlay.POOL_SIZE, group.getChildren().size());
+        assertEquals(ScorePopupOverlay.POOL_SIZE, overlay.getActiveCount());
+    }
+
+    @Test
+    void testPopupRisesFadesAndHides() {
+        ScorePopupOverlay overlay = overlay(new Group());
+        overlay.show("+400");
+        NotificationPanel popup = overlay.getPopup(0);
+        assertEquals("+400", ((Label) popup.getCenter()).getText());
+
+        overlay.onFrame(0);
+        overlay.onFrame(ScorePopupOverlay.FADE_NANOS / 2);
+        assertEquals(0.5, popup.getOpacity(), 1e-9);
+        assertTrue(popup.getTranslateY() < 0);
+
+        overlay.onFrame(ScorePopupOverlay.FADE_NANOS);
+        assertFalse(popup.isVisible());
+        assertEquals(0, overlay.getActiveCount());
+    }
+
+    @Test
+    void testOldestPopupIsReusedWhenAllAreShowing() {
+        ScorePopupOverlay overlay = overlay(new Group());
+        for (int i = 0; i < ScorePopupOverlay.POOL_SIZE; i++) {
+            overlay.show("+" + i);
+        }
+        overlay.show("+new");
+        assertEquals("+new", ((Label) overlay.getPopup(0).getCenter()).getText());
+        assertEquals(ScorePopupOverlay.POOL_SIZE, overlay.getActiveCount());
+
+        overlay.clear();
+        assertEquals(0, overlay.getActiveCount());
+    }
+}
@@ -1,6 +1,7 @@
 package com.comp2042.ui;
 
 import com.comp2042.JavaFxTestBase;
+import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,39 +20,45 @@ public class TileStyleUtilityTest extends JavaFxTestBase {
     @Test
     public void testApplyTileStyle_WithValue3() {
         TileStyleUtility.applyTileStyle(rect, 3);
-        assertTrue(rect.getStyleClass().contains("tile"));
-        assertTrue(rect.getStyleClass().contains("tile-3"));
+        assertSame(TileStyleUtility.getFill(3), rect.getFill());
+        assertTrue(rect.getStyleClass().isEmpty());
     }
 
     @Test
     public void testApplyTileStyle_WithValue0() {
+        rect.setOpacity(0.3);
         TileStyleUtility.applyTileStyle(rect, 0);
-        assertTrue(rect.getStyleClass().contains("tile"));
-        assertTrue(rect.getStyleClass().contains("tile-0"));
+        assertEquals(Color.TRANSPARENT, rect.getFill());
         assertEquals(1.0, rect.getOpacity());
     }
 
     @Test
-    public void testApplyTileStyle_WithInvalidHighValue() {
-        TileStyleUtility.applyTileStyle(rect, 10);
-        assertTrue(rect.getStyleClass().contains("tile"));
-        assertTrue(rect.getStyleClass().contains("tile-7"));
+    public void testApplyTileStyle_SlowBrickValueIsNotClamped() {
+        TileStyleUtility.applyTileStyle(rect, 8);
+        assertSame(TileStyleUtility.getFill(8), rect.getFill());
+        assertNotEquals(TileStyleUtility.getFill(7), rect.getFill());
+    }
+
+    @Test
+    public void testApplyTileStyle_WithHighValueGetsItsOwnCachedFill() {
+        TileStyleUtility.applyTileStyle(rect, 40);
+        assertSame(TileStyleUtility.getFill(40), rect.getFill());
+        assertNotEquals(TileStyleUtility.getFill(8), rect.getFill());
+        assertSame(TileStyleUtility.getFill(3), TileStyleUtility.getFill(3));
     }
 
     @Test
     public void testApplyTileStyle_WithInvalidLowValue() {
         TileStyleUtility.applyTileStyle(rect, -5);
-        assertTrue(rect.getStyleClass().contains("tile"));
-        assertTrue(rect.getStyleClass().contains("tile-0"));
+        assertEquals(Color.TRANSPARENT, rect.getFill());
     }
 
     @Test
     public void testApplyTileStyle_StyleRemainsAfterUpdate() {
         TileStyleUtility.applyTileStyle(rect, 4);
-        assertTrue(rect.getStyleClass().contains("tile-4"));
+        assertSame(TileStyleUtility.getFill(4), rect.getFill());
 
         TileStyleUtility.applyTileStyle(rect, 2);
-        assertFalse(rect.getStyleClass().contains("tile-4"));
-        assertTrue(rect.getStyleClass().contains("tile-2"));
+        assertSame(TileStyleUtility.getFill(2), rect.getFill());
     }
 }